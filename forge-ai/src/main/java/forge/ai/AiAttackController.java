@@ -49,10 +49,7 @@ import org.apache.commons.lang3.tuple.Pair;
 
 import java.util.*;
 import java.util.function.Predicate;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicInteger;
 
 
 /**
@@ -79,7 +76,6 @@ public class AiAttackController {
     private final boolean nextTurn; // include creature that can only attack/block next turn
     private final int timeOut;
     private final boolean canUseTimeout;
-    private List<CompletableFuture<Integer>> futures = new ArrayList<>();
 
     /**
      * <p>
@@ -802,6 +798,9 @@ public class AiAttackController {
      * @return a {@link forge.game.combat.Combat} object.
      */
     public final int declareAttackers(final Combat combat) {
+        // declaring attackers runs on the game thread, so it gets its own budget unless it is part of a bigger decision
+        final AiTimeBudget budget = canUseTimeout && AiTimeBudget.current() == AiTimeBudget.UNLIMITED
+                ? AiTimeBudget.of(timeOut, TimeUnit.SECONDS) : AiTimeBudget.current();
         // something prevents attacking, try another
         if (this.attackers.isEmpty() && ai.getOpponents().size() > 1) {
             final PlayerCollection opps = ai.getOpponents();
@@ -872,79 +871,24 @@ public class AiAttackController {
         // TODO: detect Season of the Witch by presence of a card with a specific trigger
         final boolean seasonOfTheWitch = ai.getGame().isCardInPlay("Season of the Witch");
 
-        final Queue<Card> attackersLeft = new ConcurrentLinkedQueue<>(this.attackers);
+        final Queue<Card> attackersLeft = new ArrayDeque<>(this.attackers);
 
         // Attackers that don't really have a choice
-        final AtomicInteger numForcedAttackers = new AtomicInteger(0);
+        int numForcedAttackers = 0;
         // nextTurn is now only used by effect from Oracle en-Vec, which can skip check must attack,
         // because creatures not chosen can't attack.
         if (!nextTurn) {
             for (final Card attacker : this.attackers) {
-                final GameEntity finalDefender = defender;
-                futures.add(CompletableFuture.supplyAsync(()-> {
-                    GameEntity mustAttackDef = null;
-                    if (attacker.getSVar("MustAttack").equals("True")) {
-                        mustAttackDef = finalDefender;
-                    } else if (attacker.hasSVar("EndOfTurnLeavePlay")
-                            && isEffectiveAttacker(ai, attacker, combat, finalDefender)) {
-                        mustAttackDef = finalDefender;
-                    } else if (seasonOfTheWitch) {
-                        //TODO: if there are other ways to tap this creature (like mana creature), then don't need to attack
-                        mustAttackDef = finalDefender;
-                    } else {
-                        if (combat.getAttackConstraints().getRequirements().get(attacker) == null) return 0;
-                        // check defenders in order of maximum requirements
-                        List<Pair<GameEntity, Integer>> reqs = combat.getAttackConstraints().getRequirements().get(attacker).getSortedRequirements();
-                        final GameEntity def = finalDefender;
-                        reqs.sort((r1, r2) -> {
-                            if (r1.getValue() == r2.getValue()) {
-                                // try to attack the designated defender
-                                if (r1.getKey().equals(def) && !r2.getKey().equals(def)) {
-                                    return -1;
-                                }
-                                if (r2.getKey().equals(def) && !r1.getKey().equals(def)) {
-                                    return 1;
-                                }
-                                // otherwise PW
-                                if (r1.getKey() instanceof Card && r2.getKey() instanceof Player) {
-                                    return -1;
-                                }
-                                if (r2.getKey() instanceof Card && r1.getKey() instanceof Player) {
-                                    return 1;
-                                }
-                                // or weakest player
-                                if (r1.getKey() instanceof Player p1 && r2.getKey() instanceof Player p2) {
-                                    return p1.getLife() - p2.getLife();
-                                }
-                            }
-                            return r2.getValue() - r1.getValue();
-                        });
-                        for (Pair<GameEntity, Integer> e : reqs) {
-                            if (e.getRight() == 0) continue;
-                            GameEntity mustAttackDefMaybe = e.getLeft();
-                            if (canAttackWrapper(attacker, mustAttackDefMaybe) && CombatUtil.getAttackCost(ai.getGame(), attacker, mustAttackDefMaybe) == null) {
-                                mustAttackDef = mustAttackDefMaybe;
-                                break;
-                            }
-                        }
-                    }
-                    if (mustAttackDef != null) {
-                        combat.addAttacker(attacker, mustAttackDef);
-                        attackersLeft.remove(attacker);
-                        numForcedAttackers.incrementAndGet();
-                    }
-                    return 0;
-                }).exceptionally(ex -> {
-                    ex.printStackTrace();
-                    return 0;
-                }));
-            }
-            CompletableFuture<?>[] futuresArray = futures.toArray(new CompletableFuture<?>[0]);
-            if (canUseTimeout)
-                CompletableFuture.allOf(futuresArray).completeOnTimeout(null, timeOut, TimeUnit.SECONDS).join();
-            else
-                CompletableFuture.allOf(futuresArray).join();
-            futures.clear();
+                if (budget.isExpired()) {
+                    break;
+                }
+                GameEntity mustAttackDef = getForcedDefender(combat, attacker, defender, seasonOfTheWitch);
+                if (mustAttackDef != null) {
+                    combat.addAttacker(attacker, mustAttackDef);
+                    attackersLeft.remove(attacker);
+                    numForcedAttackers++;
+                }
+            }
             if (attackersLeft.isEmpty()) {
                 return aiAggression;
             }
@@ -952,10 +896,10 @@ public class AiAttackController {
 
         // Lightmine Field: make sure the AI doesn't wipe out its own creatures
         if (lightmineField) {
-            doLightmineFieldAttackLogic(attackersLeft, numForcedAttackers.get(), playAggro);
+            doLightmineFieldAttackLogic(attackersLeft, numForcedAttackers, playAggro);
         }
         // Revenge of Ravens: make sure the AI doesn't kill itself and doesn't damage itself unnecessarily
-        if (!doRevengeOfRavensAttackLogic(defender, attackersLeft, numForcedAttackers.get(), attackMax)) {
+        if (!doRevengeOfRavensAttackLogic(defender, attackersLeft, numForcedAttackers, attackMax)) {
             return aiAggression;
         }
 
@@ -1275,6 +1219,10 @@ public class AiAttackController {
         while (!left.isEmpty()) {
             CardCollection attackersAssigned = new CardCollection();
             for (int i = 0; i < left.size(); i++) {
+                // out of time: keep the attackers declared so far
+                if (budget.isExpired()) {
+                    return aiAggression;
+                }
                 final Card attacker = left.get(i);
                 if (aiAggression < 5 && !attacker.hasFirstStrike() && !attacker.hasDoubleStrike()
                         && ComputerUtilCombat.getTotalFirstStrikeBlockPower(attacker, defendingOpponent)
@@ -1696,6 +1644,58 @@ public class AiAttackController {
         return null; //should never get here
     }
 
+    /**
+     * @return the defender the attacker has to attack, null if it may choose
+     */
+    private GameEntity getForcedDefender(final Combat combat, final Card attacker, final GameEntity defender, final boolean seasonOfTheWitch) {
+        GameEntity mustAttackDef = null;
+        if (attacker.getSVar("MustAttack").equals("True")) {
+            mustAttackDef = defender;
+        } else if (attacker.hasSVar("EndOfTurnLeavePlay")
+                && isEffectiveAttacker(ai, attacker, combat, defender)) {
+            mustAttackDef = defender;
+        } else if (seasonOfTheWitch) {
+            //TODO: if there are other ways to tap this creature (like mana creature), then don't need to attack
+            mustAttackDef = defender;
+        } else {
+            if (combat.getAttackConstraints().getRequirements().get(attacker) == null) return null;
+            // check defenders in order of maximum requirements
+            List<Pair<GameEntity, Integer>> reqs = combat.getAttackConstraints().getRequirements().get(attacker).getSortedRequirements();
+            reqs.sort((r1, r2) -> {
+                if (r1.getValue() == r2.getValue()) {
+                    // try to attack the designated defender
+                    if (r1.getKey().equals(defender) && !r2.getKey().equals(defender)) {
+                        return -1;
+                    }
+                    if (r2.getKey().equals(defender) && !r1.getKey().equals(defender)) {
+                        return 1;
+                    }
+                    // otherwise PW
+                    if (r1.getKey() instanceof Card && r2.getKey() instanceof Player) {
+                        return -1;
+                    }
+                    if (r2.getKey() instanceof Card && r1.getKey() instanceof Player) {
+                        return 1;
+                    }
+                    // or weakest player
+                    if (r1.getKey() instanceof Player p1 && r2.getKey() instanceof Player p2) {
+                        return p1.getLife() - p2.getLife();
+                    }
+                }
+                return r2.getValue() - r1.getValue();
+            });
+            for (Pair<GameEntity, Integer> e : reqs) {
+                if (e.getRight() == 0) continue;
+                GameEntity mustAttackDefMaybe = e.getLeft();
+                if (canAttackWrapper(attacker, mustAttackDefMaybe) && CombatUtil.getAttackCost(ai.getGame(), attacker, mustAttackDefMaybe) == null) {
+                    mustAttackDef = mustAttackDefMaybe;
+                    break;
+                }
+            }
+        }
+        return mustAttackDef;
+    }
+
     private void doLightmineFieldAttackLogic(final Queue<Card> attackersLeft, int numForcedAttackers, boolean playAggro) {
         CardCollection attSorted = new CardCollection(attackersLeft);
         CardCollection attUnsafe = new CardCollection();
@@ -70,6 +70,9 @@ public class AiBlockController {
 
     private boolean lifeInDanger = false;
 
+    // thinking time for the blocks being assigned, checked before the optional improvements
+    private AiTimeBudget budget = AiTimeBudget.UNLIMITED;
+
     // set to true when AI is predicting a blocking for another player so it doesn't use hidden information
     private boolean checkingOther = false;
 
@@ -550,6 +553,10 @@ public class AiBlockController {
     }
 
     private void makeGangNonLethalBlocks(final Combat combat) {
+        // nice to have blocks only
+        if (budget.isExpired()) {
+            return;
+        }
         List<Card> currentAttackers = new ArrayList<>(attackersLeft);
         List<Card> blockers;
 
@@ -791,6 +798,10 @@ public class AiBlockController {
 
     /** Support blockers not destroying the attacker with more blockers to try to kill the attacker */
     private void reinforceBlockersToKill(final Combat combat) {
+        // only an improvement over the blocks already made, so skip it once the AI ran out of time
+        if (budget.isExpired()) {
+            return;
+        }
         List<Card> safeBlockers;
         List<Card> blockers;
         List<Card> targetAttackers = CardLists.filter(blockedButUnkilled, rampagesOrNeedsManyToBlock(combat).negate());
@@ -1042,6 +1053,7 @@ public class AiBlockController {
         if (attackers.isEmpty()) {
             return;
         }
+        budget = AiTimeBudget.forDecision(ai.getGame());
 
         clearBlockers(combat, possibleBlockers);
 
@@ -19,7 +19,9 @@ package forge.ai;
 
 import com.esotericsoftware.minlog.Log;
 import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.Uninterruptibles;
 
+import forge.LobbyPlayer;
 import forge.ai.AiCardMemory.MemorySet;
 import forge.ai.ability.ChangeZoneAi;
 import forge.ai.ability.LearnAi;
@@ -62,11 +64,10 @@ import forge.game.trigger.WrappedAbility;
 import forge.game.zone.ZoneType;
 import forge.item.PaperCard;
 import forge.util.*;
-import io.sentry.Breadcrumb;
 import io.sentry.Sentry;
 
 import java.util.*;
-import java.util.concurrent.FutureTask;
+import java.util.concurrent.Future;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -86,9 +87,13 @@ import static java.lang.Math.max;
  * @version $Id$
  */
 public class AiController {
+    // how long a timed out decision may take to reach its next budget check before the game goes on without it
+    private static final long TIMEOUT_GRACE_MILLIS = 2000;
+
     private final Player player;
     private final Game game;
     private final AiCardMemory memory;
+    private final AiPlayabilityCache playabilityCache;
     private Combat predictedCombat;
     private Combat predictedCombatNextTurn;
     private boolean cheatShuffle;
@@ -97,12 +102,15 @@ public class AiController {
     private int lastAttackAggression;
     private boolean useLivingEnd;
     private List<SpellAbility> skipped;
-    private boolean timeoutReached;
+    private AiProfile profile;
+    private String profileName;
+    private int profileGeneration;
 
     public AiController(final Player computerPlayer, final Game game0) {
         player = computerPlayer;
         game = game0;
         memory = new AiCardMemory();
+        playabilityCache = new AiPlayabilityCache(computerPlayer, memory);
         simPicker = new SpellAbilityPicker(game, player);
     }
 
@@ -834,16 +842,23 @@ public class AiController {
     }
 
     private AiPlayDecision canPlayAndPayFor(final SpellAbility sa) {
+        AiPlayDecision known = playabilityCache.getKnownDecision(sa);
+        if (known != null) {
+            return known;
+        }
+
         final Card host = sa.getHostCard();
         Card altHost = host;
 
         if (sa instanceof Spell sp) {
             altHost = sp.canPlayFromHost();
             if (altHost == null) {
+                playabilityCache.markUnplayable(sa, AiPlayDecision.CantPlaySa);
                 return AiPlayDecision.CantPlaySa;
             }
             altHost.setCastSA(sa);
         } else if (!sa.canPlay()) {
+            playabilityCache.markUnplayable(sa, AiPlayDecision.CantPlaySa);
             return AiPlayDecision.CantPlaySa;
         }
 
@@ -883,6 +898,10 @@ public class AiController {
         if (!ComputerUtilCost.canPayCost(sa, player, sa.isTrigger())) {
             // for dependent costs with X, e.g. Repeal, which require a valid target to be specified before a decision can be made
             // on whether the cost can be paid, this can only be checked late after canPlaySa has been run (or the AI will misplay)
+            if (sa.getPayCosts() != null && sa.getPayCosts().isOnlyManaCost() && !sa.costHasManaX() && !sa.usesTargeting()) {
+                // doesn't depend on the choices made by the AI logic, so it won't change until the game state does
+                playabilityCache.markUnaffordable(sa);
+            }
             return AiPlayDecision.CantAfford;
         }
 
@@ -897,6 +916,9 @@ public class AiController {
     }
 
     public AiPlayDecision canPlaySa(SpellAbility sa) {
+        if (AiTimeBudget.current().isExpired()) {
+            return AiPlayDecision.AnotherTime;
+        }
         if (!checkAiSpecificRestrictions(sa)) {
             return AiPlayDecision.CantPlayAi;
         }
@@ -905,6 +927,7 @@ public class AiController {
         }
 
         if (!sa.canCastTiming(player)) {
+            playabilityCache.markUnplayable(sa, AiPlayDecision.AnotherTime);
             return AiPlayDecision.AnotherTime;
         }
 
@@ -919,23 +942,10 @@ public class AiController {
         // TODO before suspending some spells try to predict if relevant targets can be expected
         if (sa.getApi() != null) {
 
-            String msg = "AiController:canPlaySa: AI checks for if can PlaySa";
-            Breadcrumb bread = new Breadcrumb(msg);
-            bread.setData("Api", sa.getApi().toString());
-            bread.setData("Card", card.getName());
-            bread.setData("SA", sa.toString());
-            Sentry.addBreadcrumb(bread);
-
-            // add Extra for debugging
-            Sentry.setExtra("Card", card.getName());
-            Sentry.setExtra("SA", sa.toString());
+            Diagnostics.record("AiController:canPlaySa: AI checks for if can PlaySa", "Api", sa.getApi(), "Card", card.getName(), "SA", sa.getDescription());
 
             boolean canPlay = SpellApiToAi.Converter.get(sa).canPlayWithSubs(player, sa).willingToPlay();
 
-            // remove added extra
-            Sentry.removeExtra("Card");
-            Sentry.removeExtra("SA");
-
             if (!canPlay) {
                 return AiPlayDecision.CantPlayAi;
             }
@@ -1285,14 +1295,29 @@ public class AiController {
         return true;
     }
 
+    /**
+     * @return the profile of the player, only looked up again after profiles were reloaded or the player got another one
+     */
+    public AiProfile getProfile() {
+        final LobbyPlayer lobbyPlayer = player.getLobbyPlayer();
+        final String name = lobbyPlayer instanceof LobbyPlayerAi ai ? ai.getAiProfile() : null;
+        final int generation = AiProfileUtil.getGeneration();
+        if (profile == null || profileGeneration != generation || !Objects.equals(profileName, name)) {
+            profile = AiProfileUtil.getProfile(lobbyPlayer);
+            profileName = name;
+            profileGeneration = generation;
+        }
+        return profile;
+    }
+
     public String getProperty(AiProps propName) {
-        return AiProfileUtil.getProperty(getPlayer(), propName);
+        return getProfile().getProperty(propName);
     }
     public int getIntProperty(AiProps propName) {
-        return AiProfileUtil.getIntProperty(getPlayer(), propName);
+        return getProfile().getIntProperty(propName);
     }
     public boolean getBoolProperty(AiProps propName) {
-        return AiProfileUtil.getBoolProperty(getPlayer(), propName);
+        return getProfile().getBoolProperty(propName);
     }
 
     public AiPlayDecision canPlayFromEffectAI(Spell spell, boolean mandatory, boolean withoutPayingManaCost) {
@@ -1370,6 +1395,15 @@ public class AiController {
             return singleSpellAbilityList(simPicker.chooseSpellAbilityToPlay(null));
         }
 
+        playabilityCache.begin();
+        try {
+            return chooseSpellAbilityOrLandToPlay();
+        } finally {
+            playabilityCache.end();
+        }
+    }
+
+    private List<SpellAbility> chooseSpellAbilityOrLandToPlay() {
         CardCollection playBeforeLand = CardLists.filter(
                 player.getCardsIn(ZoneType.Hand), CardPredicates.hasSVar("PlayBeforeLandDrop")
         );
@@ -1604,110 +1638,144 @@ public class AiController {
             Sentry.captureMessage(ex.getMessage() + "\nAssertionError [verifyTransitivity]: " + assertex);
         }
 
-        // in case of infinite loop reset below would not be reached
-        timeoutReached = false;
+        if (!game.canUseTimeout()) {
+            // without a time limit the choice must not depend on how fast the machine is
+            return chooseFirstPlayable(all, skipCounter, AiTimeBudget.UNLIMITED);
+        }
 
-        FutureTask<SpellAbility> future = new FutureTask<>(() -> {
-            //avoid ComputerUtil.aiLifeInDanger in loops as it slows down a lot.. call this outside loops will generally be fast...
-            boolean isLifeInDanger = useLivingEnd && ComputerUtil.aiLifeInDanger(player, true, 0);
-            for (final SpellAbility sa : ComputerUtilAbility.getOriginalAndAltCostAbilities(all, player)) {
-                // Don't add Counterspells to the "normal" playcard lookups
-                if (skipCounter && sa.getApi() == ApiType.Counter) {
-                    continue;
-                }
+        final AiTimeBudget budget = AiTimeBudget.of(game.getAITimeout(), TimeUnit.SECONDS);
+        Future<SpellAbility> future = ThreadUtil.getAiThreadPool().submit(() -> {
+            // the game thread waits for the result, until then the game belongs to this worker
+            final Thread previous = game.claimThread();
+            final AiTimeBudget previousBudget = budget.bind();
+            try {
+                return chooseFirstPlayable(all, skipCounter, budget);
+            } finally {
+                AiTimeBudget.release(previousBudget);
+                game.releaseThread(previous);
+            }
+        });
+        // the worker gives the game back in its finally block, which runs before its future completes,
+        // or the game is taken back from a worker that doesn't stop
+        final SpellAbility chosen = awaitWorker(future, budget);
+        game.checkThread();
+        return chosen;
+    }
 
-                if (timeoutReached) {
-                    timeoutReached = false;
-                    break;
-                }
+    private SpellAbility awaitWorker(final Future<SpellAbility> future, final AiTimeBudget budget) {
+        try {
+            // instead of computing all available concurrently just add a simple timeout depending on the user prefs
+            return future.get(game.getAITimeout(), TimeUnit.SECONDS);
+        } catch (TimeoutException e) {
+            // ask the worker to stop at its next check, the game can't go on while it still uses the game state
+            budget.cancel();
+            return awaitStoppedWorker(future);
+        } catch (InterruptedException e) {
+            budget.cancel();
+            final SpellAbility sa = awaitStoppedWorker(future);
+            Thread.currentThread().interrupt();
+            return sa;
+        } catch (ExecutionException e) {
+            e.printStackTrace();
+            return null;
+        }
+    }
 
-                if (sa.getHostCard().hasKeyword(Keyword.STORM)
-                        && sa.getApi() != ApiType.Counter // AI would suck at trying to deliberately proc a Storm counterspell
-                        && player.getZone(ZoneType.Hand).contains(
-                                Predicate.not(CardPredicates.LANDS.or(CardPredicates.hasKeyword("Storm")))
-                    )) {
-                    if (game.getView().getStormCount() < this.getIntProperty(AiProps.MIN_COUNT_FOR_STORM_SPELLS)) {
-                        // skip evaluating Storm unless we reached the minimum Storm count
-                        continue;
-                    }
+    private SpellAbility awaitStoppedWorker(final Future<SpellAbility> future) {
+        try {
+            return Uninterruptibles.getUninterruptibly(future, TIMEOUT_GRACE_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // the game must not hang on an AI that ignores its budget, pass instead
+            System.err.println("AI is still thinking after its time ran out, going on without it");
+            future.cancel(true);
+            game.claimThread();
+            return null;
+        } catch (ExecutionException e) {
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    private SpellAbility chooseFirstPlayable(final List<SpellAbility> all, boolean skipCounter, final AiTimeBudget budget) {
+        //avoid ComputerUtil.aiLifeInDanger in loops as it slows down a lot.. call this outside loops will generally be fast...
+        boolean isLifeInDanger = useLivingEnd && ComputerUtil.aiLifeInDanger(player, true, 0);
+        for (final SpellAbility sa : ComputerUtilAbility.getOriginalAndAltCostAbilities(all, player)) {
+            // Don't add Counterspells to the "normal" playcard lookups
+            if (skipCounter && sa.getApi() == ApiType.Counter) {
+                continue;
+            }
+
+            if (budget.isExpired()) {
+                break;
+            }
+
+            if (sa.getHostCard().hasKeyword(Keyword.STORM)
+                    && sa.getApi() != ApiType.Counter // AI would suck at trying to deliberately proc a Storm counterspell
+                    && player.getZone(ZoneType.Hand).contains(
+                            Predicate.not(CardPredicates.LANDS.or(CardPredicates.hasKeyword("Storm")))
+                )) {
+                if (game.getView().getStormCount() < this.getIntProperty(AiProps.MIN_COUNT_FOR_STORM_SPELLS)) {
+                    // skip evaluating Storm unless we reached the minimum Storm count
+                    continue;
                 }
+            }
 
-                // living end AI decks
-                // TODO: generalize the implementation so that superfluous logic-specific checks for life, library size, etc. aren't needed
-                AiPlayDecision aiPlayDecision = AiPlayDecision.CantPlaySa;
-                if (useLivingEnd) {
-                    if (sa.isCycling() && sa.canCastTiming(player)
-                            && player.getCardsIn(ZoneType.Library).size() >= 10) {
-                        if (ComputerUtilCost.canPayCost(sa, player, sa.isTrigger())) {
-                            if (sa.getPayCosts() != null && sa.getPayCosts().hasSpecificCostType(CostPayLife.class)
-                                    && !player.cantLoseForZeroOrLessLife() && player.getLife() <= sa.getPayCosts()
-                                            .getCostPartByType(CostPayLife.class).getAbilityAmount(sa) * 2) {
-                                aiPlayDecision = AiPlayDecision.CantAfford;
-                            } else {
-                                aiPlayDecision = AiPlayDecision.WillPlay;
-                            }
-                        }
-                    } else if (sa.getHostCard().hasKeyword(Keyword.CASCADE)) {
-                        if (isLifeInDanger) { // needs more tune up for certain conditions
-                            aiPlayDecision = player.getCreaturesInPlay().size() >= 4 ? AiPlayDecision.CantPlaySa
-                                    : AiPlayDecision.WillPlay;
-                        } else if (CardLists
-                                .filter(player.getZone(ZoneType.Graveyard).getCards(), CardPredicates.CREATURES)
-                                .size() > 4) {
-                            if (player.getCreaturesInPlay().size() >= 4) // it's good minimum
-                                continue;
-                            else if (!sa.getHostCard().isPermanent() && sa.canCastTiming(player)
-                                    && ComputerUtilCost.canPayCost(sa, player, sa.isTrigger()))
-                                aiPlayDecision = AiPlayDecision.WillPlay;
-                            // needs tuneup for bad matchups like reanimator and other things to check on opponent graveyard
+            // living end AI decks
+            // TODO: generalize the implementation so that superfluous logic-specific checks for life, library size, etc. aren't needed
+            AiPlayDecision aiPlayDecision = AiPlayDecision.CantPlaySa;
+            if (useLivingEnd) {
+                if (sa.isCycling() && sa.canCastTiming(player)
+                        && player.getCardsIn(ZoneType.Library).size() >= 10) {
+                    if (ComputerUtilCost.canPayCost(sa, player, sa.isTrigger())) {
+                        if (sa.getPayCosts() != null && sa.getPayCosts().hasSpecificCostType(CostPayLife.class)
+                                && !player.cantLoseForZeroOrLessLife() && player.getLife() <= sa.getPayCosts()
+                                        .getCostPartByType(CostPayLife.class).getAbilityAmount(sa) * 2) {
+                            aiPlayDecision = AiPlayDecision.CantAfford;
                         } else {
-                            continue;
+                            aiPlayDecision = AiPlayDecision.WillPlay;
                         }
                     }
+                } else if (sa.getHostCard().hasKeyword(Keyword.CASCADE)) {
+                    if (isLifeInDanger) { // needs more tune up for certain conditions
+                        aiPlayDecision = player.getCreaturesInPlay().size() >= 4 ? AiPlayDecision.CantPlaySa
+                                : AiPlayDecision.WillPlay;
+                    } else if (CardLists
+                            .filter(player.getZone(ZoneType.Graveyard).getCards(), CardPredicates.CREATURES)
+                            .size() > 4) {
+                        if (player.getCreaturesInPlay().size() >= 4) // it's good minimum
+                            continue;
+                        else if (!sa.getHostCard().isPermanent() && sa.canCastTiming(player)
+                                && ComputerUtilCost.canPayCost(sa, player, sa.isTrigger()))
+                            aiPlayDecision = AiPlayDecision.WillPlay;
+                        // needs tuneup for bad matchups like reanimator and other things to check on opponent graveyard
+                    } else {
+                        continue;
+                    }
                 }
+            }
 
-                sa.setActivatingPlayer(player);
-                SpellAbility root = sa.getRootAbility();
-
-                if (root.isSpell() || root.isTrigger() || root.isReplacementAbility()) {
-                    sa.setLastStateBattlefield(game.getLastStateBattlefield());
-                    sa.setLastStateGraveyard(game.getLastStateGraveyard());
-                }
-                //override decision for living end player
-                AiPlayDecision opinion = useLivingEnd && AiPlayDecision.WillPlay.equals(aiPlayDecision) ? aiPlayDecision : canPlayAndPayFor(sa);
-
-                // reset LastStateBattlefield
-                sa.clearLastState();
-                // PhaseHandler ph = game.getPhaseHandler();
-                // System.out.printf("Ai thinks '%s' of %s -> %s @ %s %s >>> \n", opinion, sa.getHostCard(), sa, Lang.getInstance().getPossesive(ph.getPlayerTurn().getName()), ph.getPhase());
-
-                if (opinion != AiPlayDecision.WillPlay)
-                    continue;
+            sa.setActivatingPlayer(player);
+            SpellAbility root = sa.getRootAbility();
 
-                return sa;
+            if (root.isSpell() || root.isTrigger() || root.isReplacementAbility()) {
+                sa.setLastStateBattlefield(game.getLastStateBattlefield());
+                sa.setLastStateGraveyard(game.getLastStateGraveyard());
             }
+            //override decision for living end player
+            AiPlayDecision opinion = useLivingEnd && AiPlayDecision.WillPlay.equals(aiPlayDecision) ? aiPlayDecision : canPlayAndPayFor(sa);
 
-            return null;
-        });
+            // reset LastStateBattlefield
+            sa.clearLastState();
+            // PhaseHandler ph = game.getPhaseHandler();
+            // System.out.printf("Ai thinks '%s' of %s -> %s @ %s %s >>> \n", opinion, sa.getHostCard(), sa, Lang.getInstance().getPossesive(ph.getPlayerTurn().getName()), ph.getPhase());
 
-        Thread t = new Thread(future);
-        t.start();
-        try {
-            // instead of computing all available concurrently just add a simple timeout depending on the user prefs
-            return future.get(game.getAITimeout(), TimeUnit.SECONDS);
-        } catch (InterruptedException | ExecutionException | TimeoutException e) {
-            try {
-                e.printStackTrace();
-                t.stop();
-            } catch (UnsupportedOperationException ex) {
-                // Android and Java 20 dropped support to stop so sadly thread will keep running
-                timeoutReached = true;
-                future.cancel(true);
-                // TODO wait a few more seconds to try and exit at a safe point before letting the engine continue
-                // TODO mark some as skipped to increase chance to find something playable next priority
-            }
-            return null;
+            if (opinion != AiPlayDecision.WillPlay)
+                continue;
+
+            return sa;
         }
+
+        return null;
     }
 
     public CardCollection chooseCardsToDelve(int genericCost, CardCollection grave) {
@@ -0,0 +1,111 @@
+package forge.ai;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import forge.game.Game;
+import forge.game.card.Card;
+import forge.game.player.Player;
+import forge.game.spellability.SpellAbility;
+import forge.game.zone.ZoneType;
+
+/**
+ * Remembers spell abilities that failed one of the cheap, state dependent checks
+ * (zone and activation restrictions, timing, plain mana payment) while the AI looked for something to play.
+ * <p>
+ * The verdicts are only valid for one game state: the cache is keyed by turn, phase, stack, the game timestamp,
+ * the available mana and, for every player, life, counters, the number of cards in each zone and the state
+ * of their permanents (tapped, damage, counters). It is dropped as soon as any of them changes.
+ * As long as the state is the same, such abilities are rejected again without running the AI logic.
+ * <p>
+ * The cache is used by whichever thread owns the game, including the worker choosing a spell with a time limit.
+ * Once that worker's time is up nothing is recorded any more, as its checks may have been cut short.
+ */
+public class AiPlayabilityCache {
+    private static final ZoneType[] COUNTED_ZONES = { ZoneType.Hand, ZoneType.Graveyard, ZoneType.Library, ZoneType.Exile, ZoneType.Command };
+
+    private final Player player;
+    private final AiCardMemory memory;
+    private final Map<SpellAbility, AiPlayDecision> unplayable = new IdentityHashMap<>();
+    private long[] stateKey = new long[0];
+    private boolean recording;
+
+    public AiPlayabilityCache(final Player player, final AiCardMemory memory) {
+        this.player = player;
+        this.memory = memory;
+    }
+
+    /**
+     * Validates the cache against the current game state and starts recording verdicts.
+     */
+    public synchronized void begin() {
+        long[] key = computeStateKey();
+        if (!Arrays.equals(key, stateKey)) {
+            unplayable.clear();
+            stateKey = key;
+        }
+        recording = true;
+    }
+
+    public synchronized void end() {
+        recording = false;
+    }
+
+    /**
+     * @return the decision recorded for this ability in the current state, or null if it still needs to be evaluated
+     */
+    public synchronized AiPlayDecision getKnownDecision(final SpellAbility sa) {
+        return recording ? unplayable.get(sa) : null;
+    }
+
+    public synchronized void markUnplayable(final SpellAbility sa, final AiPlayDecision decision) {
+        if (recording && !AiTimeBudget.current().isExpired()) {
+            unplayable.put(sa, decision);
+        }
+    }
+
+    /**
+     * Mana sources held back by the AI only make spells harder to pay for, so a spell that could not be paid
+     * without any reservation stays unaffordable until the game state changes.
+     */
+    public void markUnaffordable(final SpellAbility sa) {
+        if (memory.isMemorySetEmpty(AiCardMemory.MemorySet.HELD_MANA_SOURCES_FOR_MAIN2)
+                && memory.isMemorySetEmpty(AiCardMemory.MemorySet.HELD_MANA_SOURCES_FOR_DECLBLK)
+                && memory.isMemorySetEmpty(AiCardMemory.MemorySet.HELD_MANA_SOURCES_FOR_ENEMY_DECLBLK)
+                && memory.isMemorySetEmpty(AiCardMemory.MemorySet.HELD_MANA_SOURCES_FOR_NEXT_SPELL)) {
+            markUnplayable(sa, AiPlayDecision.CantAfford);
+        }
+    }
+
+    private long[] computeStateKey() {
+        final Game game = player.getGame();
+        // activation restrictions can look at any player, e.g. threshold, delirium or cards in an opponent's graveyard
+        long playersHash = 1;
+        for (Player p : game.getPlayers()) {
+            playersHash = 31 * playersHash + p.getId();
+            playersHash = 31 * playersHash + p.getLife();
+            playersHash = 31 * playersHash + p.getCounters().hashCode();
+            for (ZoneType zone : COUNTED_ZONES) {
+                playersHash = 31 * playersHash + p.getZone(zone).size();
+            }
+            for (Card c : p.getCardsIn(ZoneType.Battlefield)) {
+                playersHash = 31 * playersHash + c.getId();
+                playersHash = 31 * playersHash + (c.isTapped() ? 1 : 0);
+                playersHash = 31 * playersHash + c.getDamage();
+                playersHash = 31 * playersHash + c.getCounters().hashCode();
+            }
+        }
+        return new long[] {
+                game.getPhaseHandler().getTurn(),
+                game.getPhaseHandler().getPhase() == null ? -1 : game.getPhaseHandler().getPhase().ordinal(),
+                game.getPhaseHandler().getPlayerTurn() == null ? -1 : game.getPhaseHandler().getPlayerTurn().getId(),
+                game.getStack().size(),
+                game.getStack().isEmpty() ? -1 : game.getStack().peekAbility().getId(),
+                game.getTimestamp(),
+                player.getManaPool().totalMana(),
+                ComputerUtilMana.getAvailableManaEstimate(player, true),
+                playersHash
+        };
+    }
+}
@@ -0,0 +1,89 @@
+package forge.ai;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * The values of one AI personality profile, parsed once when the profile is loaded.
+ * <p>
+ * Values are stored by {@link AiProps} ordinal, properties missing from the profile file
+ * or left empty there have their default value. Instances never change,
+ * reloading a profile file creates a new one.
+ */
+public final class AiProfile {
+    private static final AiProps[] PROPS = AiProps.values();
+
+    /** Used for players without a (known) profile. */
+    public static final AiProfile DEFAULT = new AiProfile("", Map.of(), 0);
+
+    private final String name;
+    private final long lastModified;
+    private final String[] values = new String[PROPS.length];
+    private final int[] intValues = new int[PROPS.length];
+    private final boolean[] isInt = new boolean[PROPS.length];
+    private final boolean[] boolValues = new boolean[PROPS.length];
+
+    public AiProfile(final String name, final Map<AiProps, String> properties, final long lastModified) {
+        this.name = name;
+        this.lastModified = lastModified;
+        for (AiProps prop : PROPS) {
+            final int i = prop.ordinal();
+            String value = properties.get(prop);
+            if (value == null || value.isEmpty()) {
+                value = prop.getDefault();
+            }
+            values[i] = value;
+            boolValues[i] = Boolean.parseBoolean(value);
+            try {
+                intValues[i] = Integer.parseInt(value);
+                isInt[i] = true;
+            } catch (NumberFormatException e) {
+                // only a problem if somebody asks for it as a number
+            }
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getLastModified() {
+        return lastModified;
+    }
+
+    public String getProperty(final AiProps prop) {
+        return values[prop.ordinal()];
+    }
+
+    /**
+     * @throws NumberFormatException if the value is not a number, same as parsing it would
+     */
+    public int getIntProperty(final AiProps prop) {
+        final int i = prop.ordinal();
+        if (!isInt[i]) {
+            throw new NumberFormatException("AI profile " + name + ": " + prop + " is not a number: " + values[i]);
+        }
+        return intValues[i];
+    }
+
+    public boolean getBoolProperty(final AiProps prop) {
+        return boolValues[prop.ordinal()];
+    }
+
+    /**
+     * @return a profile with the values of this one, except for the given ones
+     */
+    public AiProfile derive(final String newName, final Map<AiProps, String> overrides) {
+        Map<AiProps, String> properties = new EnumMap<>(AiProps.class);
+        for (AiProps prop : PROPS) {
+            properties.put(prop, values[prop.ordinal()]);
+        }
+        properties.putAll(overrides);
+        return new AiProfile(newName, properties, 0);
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -26,9 +26,10 @@ import org.apache.commons.lang3.ArrayUtils;
 
 import java.io.File;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Holds default AI personality profile values in an enum.
@@ -39,7 +40,9 @@ import java.util.Map;
  * @version $Id: AIProfile.java 20169 2013-03-08 08:24:17Z Agetian $
  */
 public class AiProfileUtil {
-    private static Map<String, Map<AiProps, String>> loadedProfiles = new HashMap<>();
+    // replaced while games run when a profile file changes
+    private static final Map<String, AiProfile> loadedProfiles = new ConcurrentHashMap<>();
+    private static volatile int generation = 0;
 
     private static String AI_PROFILE_DIR;
     private static final String AI_PROFILE_EXT = ".ai";
@@ -87,16 +90,74 @@ public class AiProfileUtil {
         for (String profile : availableProfiles) {
             loadedProfiles.put(profile, loadProfile(profile));
         }
+        generation++;
     }
-    
+
+    /**
+     * Loads the profiles whose files were added or changed since they were loaded,
+     * games that are running use the new values from their next decision on.
+     * @return the names of the reloaded profiles
+     */
+    public static List<String> reloadChangedProfiles() {
+        List<String> reloaded = new ArrayList<>();
+        if (AI_PROFILE_DIR == null) {
+            return reloaded;
+        }
+        for (String profile : getAvailableProfiles()) {
+            AiProfile loaded = loadedProfiles.get(profile);
+            if (loaded == null || loaded.getLastModified() != new File(buildFileName(profile)).lastModified()) {
+                loadedProfiles.put(profile, loadProfile(profile));
+                reloaded.add(profile);
+            }
+        }
+        if (!reloaded.isEmpty()) {
+            generation++;
+        }
+        return reloaded;
+    }
+
+    /**
+     * Makes a profile that has no file available to AI players, e.g. a candidate while tuning profiles.
+     */
+    public static void registerProfile(final AiProfile profile) {
+        loadedProfiles.put(profile.getName(), profile);
+        generation++;
+    }
+
+    public static void unregisterProfile(final String profileName) {
+        if (loadedProfiles.remove(profileName) != null) {
+            generation++;
+        }
+    }
+
+    /**
+     * @return the loaded profile with that name, or null
+     */
+    public static AiProfile getProfile(final String profileName) {
+        return loadedProfiles.get(profileName);
+    }
+
+    public static File getProfileFile(final String profileName) {
+        return new File(buildFileName(profileName));
+    }
+
+    /**
+     * Changes whenever profiles are (re)loaded, so a cached {@link AiProfile} can be checked cheaply.
+     */
+    public static int getGeneration() {
+        return generation;
+    }
+
     /**
      * Load a single profile.
      * @param profileName a profile to load.
      */
-    private static Map<AiProps, String> loadProfile(final String profileName) {
-        Map<AiProps, String> profileMap = new HashMap<>();
+    private static AiProfile loadProfile(final String profileName) {
+        Map<AiProps, String> profileMap = new EnumMap<>(AiProps.class);
 
-        List<String> lines = FileUtil.readFile(buildFileName(profileName));
+        File file = new File(buildFileName(profileName));
+        long lastModified = file.lastModified();
+        List<String> lines = FileUtil.readFile(file);
         for (String line : lines) {
             if (line.startsWith("#") || (line.length() == 0)) {
                 continue;
@@ -111,24 +172,30 @@ public class AiProfileUtil {
             }
         }
 
-        return profileMap;
+        return new AiProfile(profileName, profileMap, lastModified);
     }
 
-    public static String getProperty(final Player p, final AiProps propName) {
-        String prop = AiProfileUtil.getAIProp(p.getLobbyPlayer(), propName);
-
-        if (prop == null || prop.isEmpty()) {
-            // TODO if p is human try to predict some values from previous plays or something
-            return propName.getDefault();
+    /**
+     * @return the profile of an AI player, the defaults for other players or unknown profiles
+     */
+    public static AiProfile getProfile(final LobbyPlayer p) {
+        // TODO if p is human try to predict some values from previous plays or something
+        if (!(p instanceof LobbyPlayerAi)) {
+            return AiProfile.DEFAULT;
         }
+        String profile = ((LobbyPlayerAi) p).getAiProfile();
+        AiProfile result = profile == null ? null : loadedProfiles.get(profile);
+        return result == null ? AiProfile.DEFAULT : result;
+    }
 
-        return prop;
+    public static String getProperty(final Player p, final AiProps propName) {
+        return getProfile(p.getLobbyPlayer()).getProperty(propName);
     }
     public static int getIntProperty(final Player p, final AiProps propName) {
-        return Integer.parseInt(getProperty(p, propName));
+        return getProfile(p.getLobbyPlayer()).getIntProperty(propName);
     }
     public static boolean getBoolProperty(final Player p, final AiProps propName) {
-        return Boolean.parseBoolean(getProperty(p, propName));
+        return getProfile(p.getLobbyPlayer()).getBoolProperty(propName);
     }
 
     /**
@@ -138,17 +205,9 @@ public class AiProfileUtil {
      * @return String
      */
     public static String getAIProp(final LobbyPlayer p, final AiProps fp0) {
-        String val = null;
         if (!(p instanceof LobbyPlayerAi))
             return "";
-        String profile = ((LobbyPlayerAi) p).getAiProfile();
-       
-        if (loadedProfiles.get(profile) != null) {
-            val = loadedProfiles.get(profile).get(fp0);
-        }
-        if (val == null) { val = fp0.getDefault(); }
-
-        return val;
+        return getProfile(p).getProperty(fp0);
     }
 
     /**
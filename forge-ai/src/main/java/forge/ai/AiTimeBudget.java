@@ -0,0 +1,76 @@
+package forge.ai;
+
+import java.util.concurrent.TimeUnit;
+
+import forge.game.Game;
+
+/**
+ * Thinking time the AI may spend on a single decision.
+ * <p>
+ * Long running AI loops check {@link #isExpired()} between candidates and keep the best result found so far
+ * instead of being stopped from the outside. The budget of the running decision is bound to the thread making it,
+ * so deeply nested logic can look it up with {@link #current()}.
+ */
+public final class AiTimeBudget {
+    public static final AiTimeBudget UNLIMITED = new AiTimeBudget(Long.MAX_VALUE);
+
+    private static final ThreadLocal<AiTimeBudget> CURRENT = ThreadLocal.withInitial(() -> UNLIMITED);
+
+    private final long deadline;
+    private volatile boolean cancelled;
+
+    private AiTimeBudget(final long deadline) {
+        this.deadline = deadline;
+    }
+
+    public static AiTimeBudget of(final long amount, final TimeUnit unit) {
+        return new AiTimeBudget(System.nanoTime() + unit.toNanos(amount));
+    }
+
+    /**
+     * The budget for a decision of an AI player in the game: the one of the decision it is part of,
+     * otherwise a new one if the game limits the AI's thinking time.
+     */
+    public static AiTimeBudget forDecision(final Game game) {
+        final AiTimeBudget current = current();
+        if (current != UNLIMITED || !game.canUseTimeout()) {
+            return current;
+        }
+        return of(game.getAITimeout(), TimeUnit.SECONDS);
+    }
+
+    public static AiTimeBudget current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Binds the budget to the calling thread until {@link #release(AiTimeBudget)} is called.
+     * @return the budget bound before, to restore when releasing
+     */
+    public AiTimeBudget bind() {
+        final AiTimeBudget previous = CURRENT.get();
+        CURRENT.set(this);
+        return previous;
+    }
+
+    public static void release(final AiTimeBudget previous) {
+        if (previous == UNLIMITED) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+
+    public void cancel() {
+        if (this != UNLIMITED) {
+            cancelled = true;
+        }
+    }
+
+    public boolean isExpired() {
+        if (this == UNLIMITED) {
+            return false;
+        }
+        return cancelled || System.nanoTime() - deadline >= 0;
+    }
+}
@@ -713,6 +713,18 @@ public class ComputerUtilMana {
         boolean hasConverge = sa.getHostCard().hasConverge();
         ListMultimap<ManaCostShard, SpellAbility> sourcesForShards = getSourcesForShards(cost, sa, ai, test, checkPlayable, hasConverge);
 
+        // assign sources to all shards together, so a source isn't spent on a shard that others could pay
+        ManaPaymentSolver plan = null;
+        if (sourcesForShards != null) {
+            plan = ManaPaymentSolver.solve(cost, sourcesForShards, ai.hasKeyword("PayLifeInsteadOf:B"));
+            // the test payment below uses each source once as well, so it can't do better
+            if (test && manapool.isEmpty() && !plan.canPayRequiredShards() && !mayProduceExtraMana(ai.getGame())) {
+                CostPayment.handleOfferings(sa, true, false);
+                manapool.refundMana(manaSpentToPay);
+                return false;
+            }
+        }
+
         int testEnergyPool = ai.getCounters(CounterEnumType.ENERGY);
         ManaCostShard toPay = null;
         List<SpellAbility> saExcludeList = new ArrayList<>();
@@ -769,7 +781,16 @@ public class ComputerUtilMana {
 
             saList.removeAll(saExcludeList);
 
-            SpellAbility saPayment = saList.isEmpty() ? null : chooseManaAbility(cost, sa, ai, toPay, saList, checkPlayable || !test);
+            SpellAbility saPayment = null;
+            if (plan != null) {
+                List<SpellAbility> planned = plan.getPlannedSources(toPay, saList);
+                if (!planned.isEmpty()) {
+                    saPayment = chooseManaAbility(cost, sa, ai, toPay, planned, checkPlayable || !test);
+                }
+            }
+            if (saPayment == null && !saList.isEmpty()) {
+                saPayment = chooseManaAbility(cost, sa, ai, toPay, saList, checkPlayable || !test);
+            }
 
             if (saPayment != null && ComputerUtilCost.isSacrificeSelfCost(saPayment.getPayCosts()) && sa.isTargeting(saPayment.getHostCard())) {
                 // not a good idea to sac a card that you're targeting with the SA you're paying for
@@ -820,6 +841,9 @@ public class ComputerUtilMana {
                 continue;
             }
             paymentList.add(saPayment);
+            if (plan != null) {
+                plan.sourceUsed(saPayment.getHostCard());
+            }
 
             setExpressColorChoice(sa, ai, cost, toPay, saPayment);
 
@@ -894,6 +918,26 @@ public class ComputerUtilMana {
         return true;
     }
 
+    /**
+     * Mana triggers (like Nissa's) and replacements (like Mana Reflection's) can make a source
+     * produce more mana than its abilities say.
+     */
+    private static boolean mayProduceExtraMana(final Game game) {
+        for (Card c : game.getCardsIn(Arrays.asList(ZoneType.Battlefield, ZoneType.Command))) {
+            for (Trigger tr : c.getTriggers()) {
+                if (tr.getMode() == TriggerType.TapsForMana) {
+                    return true;
+                }
+            }
+            for (ReplacementEffect re : c.getReplacementEffects()) {
+                if (re.getMode() == ReplacementType.ProduceMana) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
     private static void resetPayment(List<SpellAbility> payments) {
         for (SpellAbility sa : payments) {
             sa.getManaPart().clearExpressChoice();
@@ -0,0 +1,164 @@
+package forge.ai;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.google.common.collect.ListMultimap;
+
+import forge.card.mana.ManaCostShard;
+import forge.game.card.Card;
+import forge.game.mana.ManaCostBeingPaid;
+import forge.game.spellability.SpellAbility;
+
+/**
+ * Assigns the mana sources available to the AI to the unpaid shards of a cost, looking at
+ * all shards at once instead of one after the other.
+ * <p>
+ * Shards and source cards are the two sides of a bipartite graph: every unpaid shard is one node
+ * for each mana it needs, every card with a mana ability that may pay the shard (as found by
+ * {@link ComputerUtilMana}, so restrictions are already applied) is connected to it, and a card
+ * takes at most as many shards as its mana abilities produce in one activation. The assignment is
+ * grown one shard at a time along augmenting paths, so a source is only taken from a shard if
+ * another source can pay that shard instead. Sources are tried in the order of the lists, which
+ * are sorted cheapest first, and shards with fewer sources are assigned first.
+ * <p>
+ * Nothing in the game is changed. Phyrexian shards, and black ones for a player who may pay life
+ * instead, are optional: they are assigned last and left to life payment if nothing is left for them.
+ */
+final class ManaPaymentSolver {
+    private final List<ManaCostShard> units = new ArrayList<>();
+    private final List<List<Card>> edges = new ArrayList<>();
+    private final Map<Card, Integer> capacity = new LinkedHashMap<>();
+    private final Map<Card, List<Integer>> assigned = new LinkedHashMap<>();
+    private final Card[] unitSource;
+    private int requiredUnits = 0;
+    private int requiredPaid = 0;
+
+    private ManaPaymentSolver(final ManaCostBeingPaid cost, final ListMultimap<ManaCostShard, SpellAbility> sourcesForShards,
+            final boolean lifeInsteadOfBlack) {
+        final List<ManaCostShard> shards = new ArrayList<>();
+        for (final ManaCostShard shard : cost.getDistinctShards()) {
+            shards.add(shard);
+        }
+        shards.sort(Comparator.comparing((ManaCostShard shard) -> isOptional(shard, lifeInsteadOfBlack))
+                .thenComparingInt(shard -> sourcesForShards.get(shard).size()));
+
+        for (final ManaCostShard shard : shards) {
+            final List<Card> hosts = new ArrayList<>();
+            for (final SpellAbility ma : sourcesForShards.get(shard)) {
+                final Card host = ma.getHostCard();
+                capacity.merge(host, getManaAmount(ma), Math::max);
+                if (!hosts.contains(host)) {
+                    hosts.add(host);
+                }
+            }
+            final boolean optional = isOptional(shard, lifeInsteadOfBlack);
+            for (int i = cost.getUnpaidShards(shard); i > 0; i--) {
+                units.add(shard);
+                edges.add(hosts);
+                if (!optional) {
+                    requiredUnits++;
+                }
+            }
+        }
+        unitSource = new Card[units.size()];
+    }
+
+    /**
+     * @return the assignment for the unpaid part of the cost, which may leave shards without a source
+     */
+    static ManaPaymentSolver solve(final ManaCostBeingPaid cost, final ListMultimap<ManaCostShard, SpellAbility> sourcesForShards,
+            final boolean lifeInsteadOfBlack) {
+        final ManaPaymentSolver solver = new ManaPaymentSolver(cost, sourcesForShards, lifeInsteadOfBlack);
+        for (int unit = 0; unit < solver.units.size(); unit++) {
+            if (solver.augment(unit, new HashSet<>()) && unit < solver.requiredUnits) {
+                solver.requiredPaid++;
+            }
+        }
+        return solver;
+    }
+
+    /**
+     * @return false if the sources can't pay all shards that can't be paid with life,
+     * however the mana abilities are used
+     */
+    boolean canPayRequiredShards() {
+        return requiredPaid == requiredUnits;
+    }
+
+    /**
+     * @return the abilities from the list whose card was assigned to a shard of this kind,
+     * empty if there is none left
+     */
+    List<SpellAbility> getPlannedSources(final ManaCostShard shard, final Collection<SpellAbility> saList) {
+        final List<SpellAbility> result = new ArrayList<>();
+        for (int unit = 0; unit < units.size(); unit++) {
+            if (units.get(unit) != shard || unitSource[unit] == null) {
+                continue;
+            }
+            for (final SpellAbility ma : saList) {
+                if (ma.getHostCard() == unitSource[unit]) {
+                    result.add(ma);
+                }
+            }
+            if (!result.isEmpty()) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Forgets the card was planned for a shard once it has been used, one activation may pay
+     * other shards than the ones it was assigned to.
+     */
+    void sourceUsed(final Card host) {
+        for (int unit = 0; unit < units.size(); unit++) {
+            if (unitSource[unit] == host) {
+                unitSource[unit] = null;
+            }
+        }
+        assigned.remove(host);
+    }
+
+    private boolean augment(final int unit, final Set<Card> visited) {
+        for (final Card host : edges.get(unit)) {
+            if (!visited.add(host)) {
+                continue;
+            }
+            final List<Integer> taken = assigned.computeIfAbsent(host, h -> new ArrayList<>());
+            if (taken.size() < capacity.get(host)) {
+                taken.add(unit);
+                unitSource[unit] = host;
+                return true;
+            }
+            for (int i = 0; i < taken.size(); i++) {
+                // optional shards come last, so they never take the source of a required one
+                if (augment(taken.get(i), visited)) {
+                    taken.set(i, unit);
+                    unitSource[unit] = host;
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean isOptional(final ManaCostShard shard, final boolean lifeInsteadOfBlack) {
+        return shard.isPhyrexian() || (lifeInsteadOfBlack && shard.isBlack());
+    }
+
+    private static int getManaAmount(final SpellAbility ma) {
+        int amount = 0;
+        for (SpellAbility tail = ma; tail != null; tail = tail.getSubAbility()) {
+            amount += tail.amountOfManaGenerated(true);
+        }
+        return Math.max(amount, 1);
+    }
+}
@@ -12,6 +12,7 @@ import forge.game.phase.PhaseType;
 import forge.game.player.Player;
 import forge.game.spellability.SpellAbility;
 import forge.game.spellability.TargetChoices;
+import forge.util.Diagnostics;
 import forge.util.collect.FCollectionView;
 
 import java.util.*;
@@ -30,7 +31,13 @@ public class GameSimulator {
     public GameSimulator(SimulationController controller, Game origGame, Player origAiPlayer, PhaseType advanceToPhase) {
         this.controller = controller;
         copier = new GameCopier(origGame);
-        simGame = copier.makeCopy(advanceToPhase, origAiPlayer);
+        // simulated games would only push the real game out of the diagnostics
+        Diagnostics.suspend();
+        try {
+            simGame = copier.makeCopy(advanceToPhase, origAiPlayer);
+        } finally {
+            Diagnostics.resume();
+        }
 
         aiPlayer = (Player) copier.find(origAiPlayer);
         eval = new GameStateEvaluator();
@@ -167,6 +174,15 @@ public class GameSimulator {
         return simulateSpellAbility(origSa, this.eval, resolve);
     }
     public Score simulateSpellAbility(SpellAbility origSa, GameStateEvaluator eval, boolean resolve) {
+        Diagnostics.suspend();
+        try {
+            return simulateSpellAbilityImpl(origSa, eval, resolve);
+        } finally {
+            Diagnostics.resume();
+        }
+    }
+
+    private Score simulateSpellAbilityImpl(SpellAbility origSa, GameStateEvaluator eval, boolean resolve) {
         SpellAbility sa;
         if (origSa.isLandAbility()) {
             Card hostCard = (Card) copier.find(origSa.getHostCard());
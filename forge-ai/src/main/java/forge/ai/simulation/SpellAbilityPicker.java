@@ -96,13 +96,19 @@ public class SpellAbilityPicker {
             return chooseSpellAbilityToPlayImpl(controller, candidateSAs, origGameScore, null);
         }
 
-        printPhaseInfo();
-        SpellAbility sa = getPlannedSpellAbility(origGameScore, candidateSAs);
-        if (sa != null) {
-            return sa;
+        // the simulation runs on the game thread, bind the budget the candidate loops check
+        final AiTimeBudget previousBudget = AiTimeBudget.forDecision(game).bind();
+        try {
+            printPhaseInfo();
+            SpellAbility sa = getPlannedSpellAbility(origGameScore, candidateSAs);
+            if (sa != null) {
+                return sa;
+            }
+            createNewPlan(origGameScore, candidateSAs);
+            return getPlannedSpellAbility(origGameScore, candidateSAs);
+        } finally {
+            AiTimeBudget.release(previousBudget);
         }
-        createNewPlan(origGameScore, candidateSAs);
-        return getPlannedSpellAbility(origGameScore, candidateSAs);
     }
 
     private Plan formulatePlanWithPhase(Score origGameScore, List<SpellAbility> candidateSAs, PhaseType phase) {
@@ -168,7 +174,12 @@ public class SpellAbilityPicker {
         SpellAbility bestSa = null;
         Score bestSaValue = origGameScore;
         print("Evaluating... (orig score = " + origGameScore +  ")");
+        final AiTimeBudget budget = AiTimeBudget.current();
         for (int i = 0; i < candidateSAs.size(); i++) {
+            if (budget.isExpired()) {
+                print("Out of time, keeping the best ability found so far.");
+                break;
+            }
             Score value = evaluateSa(controller, phase, candidateSAs, i);
             if (value.value > bestSaValue.value) {
                 bestSaValue = value;
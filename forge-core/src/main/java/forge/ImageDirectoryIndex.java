@@ -0,0 +1,206 @@
+package forge;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory listing of a picture directory and its set folders, so the many file name variants
+ * tried for an image key are looked up without asking the file system for each of them.
+ * <p>
+ * A folder is listed the first time a name in it is looked up. Listed folders are watched for
+ * files being added and removed, a folder whose watch overflows or goes away is listed again on
+ * the next lookup. Folders that don't exist aren't kept, they are usually created by downloads.
+ * A folder that can't be watched isn't listed, its files are looked up one by one instead.
+ * If the file system can't be watched the index isn't used at all, see {@link #isAvailable()}.
+ */
+final class ImageDirectoryIndex {
+    private static WatchService watcher;
+    private static boolean watcherStarted = false;
+    private static final Map<WatchKey, Folder> watchedFolders = new ConcurrentHashMap<>();
+
+    private final File root;
+    private final boolean caseInsensitive;
+    private final Map<String, Folder> folders = new ConcurrentHashMap<>();
+
+    /** The files of one folder, by name (lower case on file systems that ignore case). */
+    private final class Folder {
+        private final String path;
+        /** Whether the folder is listed in {@link #names}, otherwise it can't be watched and each file is checked. */
+        private final boolean listed;
+        private final Map<String, String> names = new ConcurrentHashMap<>();
+
+        private Folder(final String path, final boolean listed) {
+            this.path = path;
+            this.listed = listed;
+        }
+
+        private void added(final String name) {
+            names.put(toKey(name), name);
+        }
+
+        private void removed(final String name) {
+            names.remove(toKey(name));
+        }
+
+        private ImageDirectoryIndex getIndex() {
+            return ImageDirectoryIndex.this;
+        }
+    }
+
+    ImageDirectoryIndex(final String dir) {
+        root = new File(dir);
+        final String path = root.getAbsolutePath();
+        caseInsensitive = !path.equals(path.toUpperCase(Locale.ROOT))
+                && new File(path.toUpperCase(Locale.ROOT)).exists() && new File(path.toLowerCase(Locale.ROOT)).exists();
+    }
+
+    /**
+     * @return whether changes to the picture directories can be followed, otherwise the index may miss new files
+     */
+    static synchronized boolean isAvailable() {
+        if (!watcherStarted) {
+            watcherStarted = true;
+            try {
+                watcher = FileSystems.getDefault().newWatchService();
+                final Thread thread = new Thread(ImageDirectoryIndex::watch, "ImageDirectoryWatcher");
+                thread.setDaemon(true);
+                thread.start();
+            } catch (IOException | RuntimeException | LinkageError e) {
+                System.err.println("Picture directories can't be watched, looking up images without index: " + e);
+                watcher = null;
+            }
+        }
+        return watcher != null;
+    }
+
+    /**
+     * @param filename path relative to the directory, without extension
+     * @param extensions the extensions to try, in order
+     * @return the first existing file, or null if there is none
+     */
+    File find(final String filename, final String[] extensions) {
+        final int slash = filename.lastIndexOf('/');
+        final String folderPath = slash < 0 ? "" : filename.substring(0, slash);
+        final Folder folder = getFolder(folderPath);
+        if (folder == null) {
+            return null;
+        }
+        final String name = filename.substring(slash + 1);
+        if (!folder.listed) {
+            for (final String ext : extensions) {
+                final File file = new File(root, filename + ext);
+                if (file.exists()) {
+                    return file;
+                }
+            }
+            return null;
+        }
+        for (final String ext : extensions) {
+            final String found = folder.names.get(toKey(name + ext));
+            if (found != null) {
+                return new File(root, folderPath.isEmpty() ? found : folderPath + "/" + found);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Drops the listing of a folder, it is listed again on the next lookup.
+     */
+    void refresh(final File dir) {
+        final String rootPath = root.getAbsolutePath();
+        final String path = dir.getAbsolutePath();
+        if (path.equals(rootPath)) {
+            folders.remove("");
+        } else if (path.startsWith(rootPath + File.separator)) {
+            folders.remove(path.substring(rootPath.length() + 1).replace(File.separatorChar, '/'));
+        }
+    }
+
+    void clear() {
+        folders.clear();
+    }
+
+    private Folder getFolder(final String path) {
+        final Folder folder = folders.get(path);
+        if (folder != null) {
+            return folder;
+        }
+        // one thread lists and registers a folder, so the watched and the cached listing are the same
+        synchronized (folders) {
+            final Folder listed = folders.get(path);
+            return listed != null ? listed : listFolder(path);
+        }
+    }
+
+    private Folder listFolder(final String path) {
+        final File dir = path.isEmpty() ? root : new File(root, path);
+        // watch before listing, so nothing added in between is missed
+        final Folder folder = new Folder(path, true);
+        try {
+            final WatchKey key = dir.toPath().register(watcher, StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_DELETE);
+            watchedFolders.put(key, folder);
+        } catch (IOException | RuntimeException e) {
+            if (!dir.isDirectory()) {
+                return null;
+            }
+            // can't follow it, so remember to check its files one by one instead of listing it on every lookup
+            final Folder unwatched = new Folder(path, false);
+            folders.put(path, unwatched);
+            return unwatched;
+        }
+        final String[] fileNames = dir.list();
+        if (fileNames == null) {
+            return null;
+        }
+        for (final String name : fileNames) {
+            folder.added(name);
+        }
+        folders.put(path, folder);
+        return folder;
+    }
+
+    private String toKey(final String name) {
+        return caseInsensitive ? name.toLowerCase(Locale.ROOT) : name;
+    }
+
+    private static void watch() {
+        try {
+            while (true) {
+                final WatchKey key = watcher.take();
+                final Folder folder = watchedFolders.get(key);
+                for (final WatchEvent<?> event : key.pollEvents()) {
+                    if (folder == null) {
+                        continue;
+                    }
+                    if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                        folder.getIndex().folders.remove(folder.path, folder);
+                    } else if (event.kind() == StandardWatchEventKinds.ENTRY_CREATE) {
+                        folder.added(((Path) event.context()).toString());
+                    } else if (event.kind() == StandardWatchEventKinds.ENTRY_DELETE) {
+                        folder.removed(((Path) event.context()).toString());
+                    }
+                }
+                if (!key.reset()) {
+                    watchedFolders.remove(key);
+                    if (folder != null) {
+                        folder.getIndex().folders.remove(folder.path, folder);
+                    }
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // stop watching, the game is closing
+        }
+    }
+}
@@ -9,6 +9,7 @@ import org.apache.commons.lang3.StringUtils;
 
 import java.io.File;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 public final class ImageKeys {
     public static final String CARD_PREFIX           = "c:";
@@ -94,6 +95,18 @@ public final class ImageKeys {
     public static HashSet<String> missingCards = new HashSet<>();
     public static void clearMissingCards() {
         missingCards.clear();
+        for (ImageDirectoryIndex index : directoryIndexes.values()) {
+            index.clear();
+        }
+    }
+    private static final Map<String, ImageDirectoryIndex> directoryIndexes = new ConcurrentHashMap<>();
+    /**
+     * Makes the next lookups in the directory see what was written there, without waiting for the file system to tell.
+     */
+    public static void refreshImageDirectory(File dir) {
+        for (ImageDirectoryIndex index : directoryIndexes.values()) {
+            index.refresh(dir);
+        }
     }
     public static File getCachedCardsFile(String key) {
         return cachedCards.get(key);
@@ -378,7 +391,19 @@ public final class ImageKeys {
         }
         return null;
     }
+    // card pictures never come with an extension in the key
+    private static final String[] CARD_FILE_EXTENSIONS = { ".jpg", ".png" };
+
     private static File findFile(String dir, String filename) {
+        if (dir != null && ImageDirectoryIndex.isAvailable()) {
+            boolean isCardDir = dir.equals(CACHE_CARD_PICS_DIR);
+            File file = directoryIndexes.computeIfAbsent(dir, ImageDirectoryIndex::new)
+                    .find(filename, isCardDir ? CARD_FILE_EXTENSIONS : FILE_EXTENSIONS);
+            // a directory where a token picture should be is cleaned up below
+            if (file == null || isCardDir || !file.isDirectory()) {
+                return file;
+            }
+        }
         if (dir.equals(CACHE_CARD_PICS_DIR)) {
             for (String ext : FILE_EXTENSIONS) {
                 if (ext.isEmpty())
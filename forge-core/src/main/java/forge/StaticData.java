@@ -157,6 +157,8 @@ public class StaticData {
         } else {
             allTokens = null;
         }
+        // the cards loaded lazily later on are few, they don't need to share types with these
+        CardRules.Reader.clearParsedTypes();
 
         //initialize setLookup
         if (FileUtil.isDirectoryWithFiles(setLookupFolder)){
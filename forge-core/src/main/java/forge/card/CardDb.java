@@ -42,12 +42,17 @@ public final class CardDb implements ICardDatabase, IDeckGenPool {
     public final static String FlagPrefix = "#";
     public static final String FlagSeparator = "\t";
 
-    // need this to obtain cardReference by name+set+artindex
-    private final ListMultimap<String, PaperCard> allCardsByName = Multimaps.newListMultimap(new TreeMap<>(String.CASE_INSENSITIVE_ORDER), Lists::newArrayList);
-    private final Map<String, PaperCard> uniqueCardsByName = Maps.newTreeMap(String.CASE_INSENSITIVE_ORDER);
+    // need this to obtain cardReference by name+set+artindex, hashed on lower case names
+    private final Map<String, NamedCards> cardsByKey = Maps.newHashMap();
     private final Map<String, CardRules> rulesByName;
-    private final Map<String, ICardFace> facesByName = Maps.newTreeMap(String.CASE_INSENSITIVE_ORDER);
-    private final Map<String, String> normalizedNames = Maps.newTreeMap(String.CASE_INSENSITIVE_ORDER);
+    private final Map<String, CardRules> rulesByKey = Maps.newHashMap();
+    private final Map<String, ICardFace> facesByKey = Maps.newHashMap();
+    private final Map<String, String> normalizedNames = Maps.newHashMap();
+    // the above in name order, built when first asked for after a change
+    private volatile List<NamedCards> cardsInNameOrder;
+    private volatile List<PaperCard> allCardsInNameOrder;
+    private volatile List<PaperCard> uniqueCardsInNameOrder;
+    private volatile List<ICardFace> facesInNameOrder;
     private static Map<String, String> artPrefs = Maps.newHashMap();
     /**
      * Map of flavor names to the identifier of the functional variant on which they appear in their respective card rules.
@@ -61,6 +66,42 @@ public final class CardDb implements ICardDatabase, IDeckGenPool {
 
     private Map<String, Boolean> nonLegendaryCreatureNames = Maps.newHashMap();
 
+    /**
+     * All printings of the cards known by one name, as that name was first added.
+     */
+    private static final class NamedCards {
+        private final String name;
+        private final List<PaperCard> cards = new ArrayList<>();
+        private final Map<String, List<PaperCard>> cardsBySet = new HashMap<>(4);
+        // the printing shown for the name, set by reIndex and the preferred art
+        private PaperCard unique;
+
+        private NamedCards(String name) {
+            this.name = name;
+        }
+
+        private void add(PaperCard paperCard) {
+            cards.add(paperCard);
+            cardsBySet.computeIfAbsent(paperCard.getEdition(), k -> new ArrayList<>()).add(paperCard);
+        }
+
+        private List<PaperCard> getCardsInSet(String setCode) {
+            List<PaperCard> inSet = cardsBySet.get(setCode);
+            if (inSet != null)
+                return inSet;
+            // set codes may be asked for in another case
+            for (Entry<String, List<PaperCard>> e : cardsBySet.entrySet()) {
+                if (e.getKey().equalsIgnoreCase(setCode))
+                    return e.getValue();
+            }
+            return Collections.emptyList();
+        }
+
+        private boolean isMainName(PaperCard paperCard) {
+            return name.equals(paperCard.getName());
+        }
+    }
+
     public enum CardArtPreference {
         LATEST_ART_ALL_EDITIONS(false, true),
         LATEST_ART_CORE_EXPANSIONS_REPRINT_ONLY(true, true),
@@ -297,6 +338,9 @@ public final class CardDb implements ICardDatabase, IDeckGenPool {
         this.filtered = filteredCards;
         this.rulesByName = rules;
         this.editions = editions0;
+        for (Entry<String, CardRules> e : rules.entrySet()) {
+            rulesByKey.put(toKey(e.getKey()), e.getValue());
+        }
 
         //Collects additional mappings used for flavor names
         //Need an extra map for these to avoid ConcurrentModificationException
@@ -314,7 +358,7 @@ public final class CardDb implements ICardDatabase, IDeckGenPool {
             }
         }
 
-        rulesByName.putAll(extraRuleMappings);
+        extraRuleMappings.forEach(this::putRules);
     }
 
     private void addFaceToDbNames(ICardFace face) {
@@ -322,10 +366,11 @@ public final class CardDb implements ICardDatabase, IDeckGenPool {
             return;
         }
         final String name = face.getName();
-        facesByName.put(name, face);
+        facesByKey.put(toKey(name), face);
+        facesInNameOrder = null;
         final String normalName = StringUtils.stripAccents(name);
         if (!normalName.equals(name)) {
-            normalizedNames.put(normalName, name);
+            normalizedNames.put(toKey(normalName), name);
         }
 
         if(face.hasFunctionalVariants()) {
@@ -340,10 +385,11 @@ public final class CardDb implements ICardDatabase, IDeckGenPool {
         String altName = face.getFlavorName();
         if(altName == null)
             return;
-        facesByName.putIfAbsent(altName, face);
+        facesByKey.putIfAbsent(toKey(altName), face);
+        facesInNameOrder = null;
         final String normalAltName = StringUtils.stripAccents(altName);
         if (!normalAltName.equals(altName)) {
-            normalizedNames.put(normalAltName, altName);
+            normalizedNames.put(toKey(normalAltName), altName);
         }
     }
 
@@ -390,7 +436,7 @@ public final class CardDb implements ICardDatabase, IDeckGenPool {
             if(!flavorNameMappings.containsKey(normalizedFlavorName)) {
                 flavorNameMappings.put(normalizedFlavorName, variantName);
                 flavorNameMappings.put(cr.getName(), IPaperCard.NO_FUNCTIONAL_VARIANT);
-                rulesByName.put(normalizedFlavorName, cr);
+                putRules(normalizedFlavorName, cr);
                 cacheFlavorName(cr.getMainPart().getFunctionalVariant(variantName));
                 if(cr.getOtherPart() != null)
                     cacheFlavorName(cr.getOtherPart().getFunctionalVariant(variantName));
@@ -419,7 +465,7 @@ public final class CardDb implements ICardDatabase, IDeckGenPool {
         // @leriomaggio: This method is called when lazy-loading is set
         // OR if a card is trying to load from an edition its not from
         //System.out.println("[LOG]: (Lazy) Loading Card: " + cardName);
-        rulesByName.put(cardName, cr);
+        putRules(cardName, cr);
         boolean reIndexNecessary = false;
         CardEdition ed = editions.get(setCode);
         if (ed == null || ed.equals(CardEdition.UNKNOWN)) {
@@ -516,7 +562,7 @@ public final class CardDb implements ICardDatabase, IDeckGenPool {
         }
 
         String mainName = paperCard.getName();
-        allCardsByName.put(mainName, paperCard);
+        indexCard(mainName, paperCard);
 
         CardRules rules = paperCard.getRules();
         if (rules.getSplitType() == CardSplitType.None && !rules.hasFunctionalVariants()) {
@@ -530,16 +576,80 @@ public final class CardDb implements ICardDatabase, IDeckGenPool {
         allFaces.stream().map(ICardCharacteristics::getName).forEach(namesToAdd::add);
         allFaces.stream().map(ICardFace::getFlavorName).filter(Objects::nonNull).forEach(namesToAdd::add);
         namesToAdd.remove(mainName);
-        for(String name : namesToAdd)
-            allCardsByName.put(name, paperCard);
+        for(String name : namesToAdd) {
+            indexCard(name, paperCard);
+        }
+    }
+
+    private void indexCard(String name, PaperCard paperCard) {
+        cardsByKey.computeIfAbsent(toKey(name), k -> new NamedCards(name)).add(paperCard);
+        cardsInNameOrder = null;
+        allCardsInNameOrder = null;
+        uniqueCardsInNameOrder = null;
+    }
+
+    private void putRules(String name, CardRules rules) {
+        rulesByName.put(name, rules);
+        rulesByKey.put(toKey(name), rules);
+    }
+
+    private static String toKey(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * @return the lookup key of the card name, after mapping names without accents to the actual name
+     */
+    private String getLookupKey(String cardName) {
+        String key = toKey(cardName);
+        String normalized = normalizedNames.get(key);
+        return normalized == null ? key : toKey(normalized);
     }
 
     private void reIndex() {
-        uniqueCardsByName.clear();
-        for (Entry<String, Collection<PaperCard>> kv : allCardsByName.asMap().entrySet()) {
-            PaperCard pc = getFirstNonSpeicalWithImage(kv.getValue());
-            uniqueCardsByName.put(kv.getKey(), pc);
+        for (NamedCards named : cardsByKey.values()) {
+            named.unique = getFirstNonSpeicalWithImage(named.cards);
+        }
+        uniqueCardsInNameOrder = null;
+    }
+
+    private List<NamedCards> getCardsInNameOrder() {
+        List<NamedCards> sorted = cardsInNameOrder;
+        if (sorted == null) {
+            sorted = new ArrayList<>(cardsByKey.values());
+            sorted.sort((a, b) -> String.CASE_INSENSITIVE_ORDER.compare(a.name, b.name));
+            cardsInNameOrder = sorted = Collections.unmodifiableList(sorted);
+        }
+        return sorted;
+    }
+
+    private List<PaperCard> getAllCardsInNameOrder() {
+        List<PaperCard> sorted = allCardsInNameOrder;
+        if (sorted == null) {
+            sorted = getCardsInNameOrder().stream().flatMap(named -> named.cards.stream()).collect(Collectors.toUnmodifiableList());
+            allCardsInNameOrder = sorted;
         }
+        return sorted;
+    }
+
+    private List<PaperCard> getUniqueCardsInNameOrder() {
+        List<PaperCard> sorted = uniqueCardsInNameOrder;
+        if (sorted == null) {
+            sorted = getCardsInNameOrder().stream().map(named -> named.unique).filter(Objects::nonNull).collect(Collectors.toUnmodifiableList());
+            uniqueCardsInNameOrder = sorted;
+        }
+        return sorted;
+    }
+
+    private List<ICardFace> getFacesInNameOrder() {
+        List<ICardFace> sorted = facesInNameOrder;
+        if (sorted == null) {
+            // the keys are the lower case names, so they sort the same way as the names
+            sorted = facesByKey.entrySet().stream().sorted(Entry.comparingByKey(String.CASE_INSENSITIVE_ORDER))
+                    .map(Entry::getValue).collect(Collectors.toUnmodifiableList());
+            facesInNameOrder = sorted;
+        }
+        return sorted;
     }
 
     private static PaperCard getFirstNonSpeicalWithImage(final Collection<PaperCard> cards) {
@@ -560,7 +670,11 @@ public final class CardDb implements ICardDatabase, IDeckGenPool {
         PaperCard pc = this.getCard(cardRequestForPreferredArt);
         if (pc != null) {
             artPrefs.put(cardName, cardRequestForPreferredArt);
-            uniqueCardsByName.put(cardName, pc);
+            NamedCards named = cardsByKey.get(getLookupKey(cardName));
+            if (named != null) {
+                named.unique = pc;
+                uniqueCardsInNameOrder = null;
+            }
             return true;
         }
         return false;
@@ -571,7 +685,7 @@ public final class CardDb implements ICardDatabase, IDeckGenPool {
     }
 
     public CardRules getRules(String cardName) {
-        CardRules result = rulesByName.get(cardName);
+        CardRules result = rulesByKey.get(toKey(cardName));
         return Objects.requireNonNullElseGet(result, () -> CardRules.getUnsupportedCardNamed(cardName));
     }
 
@@ -708,18 +822,17 @@ public final class CardDb implements ICardDatabase, IDeckGenPool {
         cardName = cardNameRequest.cardName;
         isFoil = isFoil || cardNameRequest.isFoil;
 
-        String code1 = edition.getCode(), code2 = edition.getCode2();
-
-        Predicate<PaperCard> filter = (c) -> {
-            String ed = c.getEdition();
-            return ed.equalsIgnoreCase(code1) || ed.equalsIgnoreCase(code2);
-        };
+        NamedCards named = cardsByKey.get(getLookupKey(cardName));
+        if (named == null)
+            return null;
+        List<PaperCard> candidates = new ArrayList<>(named.getCardsInSet(edition.getCode()));
+        if (edition.getCode2() != null && !edition.getCode2().equalsIgnoreCase(edition.getCode()))
+            candidates.addAll(named.getCardsInSet(edition.getCode2()));
         if (artIndex > 0)
-            filter = filter.and((c) -> artIndex == c.getArtIndex());
+            candidates.removeIf((c) -> artIndex != c.getArtIndex());
         if (collectorNumber != null && !collectorNumber.isEmpty() && !collectorNumber.equals(IPaperCard.NO_COLLECTOR_NUMBER))
-            filter = filter.and((c) -> collectorNumber.equals(c.getCollectorNumber()));
+            candidates.removeIf((c) -> !collectorNumber.equals(c.getCollectorNumber()));
 
-        List<PaperCard> candidates = getAllCards(cardName, filter);
         if (candidates.isEmpty())
             return null;
 
@@ -970,31 +1083,32 @@ public final class CardDb implements ICardDatabase, IDeckGenPool {
     // returns a list of all cards from their respective latest (or preferred) editions
     @Override
     public Collection<PaperCard> getUniqueCards() {
-        return uniqueCardsByName.values();
+        return getUniqueCardsInNameOrder();
     }
 
     public Collection<PaperCard> getUniqueCardsNoAlt() {
-        return Maps.filterEntries(this.uniqueCardsByName, e -> {
-            if (e == null)
-                return false;
-            return e.getKey().equals(e.getValue().getName());
-        }).values();
+        return streamUniqueCardsNoAlt().collect(Collectors.toList());
     }
 
     public List<PaperCard> getUniqueCardsNoAlt(String cardName) {
-        return Lists.newArrayList(Maps.filterEntries(uniqueCardsByName, entry -> entry.getKey().equals(entry.getValue().getName())).get(getNormalizedName(cardName)));
+        List<PaperCard> result = new ArrayList<>();
+        NamedCards named = cardsByKey.get(getLookupKey(cardName));
+        if (named != null && named.unique != null && named.isMainName(named.unique))
+            result.add(named.unique);
+        return result;
     }
 
     public PaperCard getUniqueByName(final String name) {
-        return uniqueCardsByName.get(getNormalizedName(name));
+        NamedCards named = cardsByKey.get(getLookupKey(name));
+        return named == null ? null : named.unique;
     }
 
     public Collection<ICardFace> getAllFaces() {
-        return facesByName.values();
+        return getFacesInNameOrder();
     }
 
     public ICardFace getFaceByName(final String name) {
-        return facesByName.get(getNormalizedName(name));
+        return facesByKey.get(getLookupKey(name));
     }
 
     public boolean isNonLegendaryCreatureName(final String name) {
@@ -1019,30 +1133,30 @@ public final class CardDb implements ICardDatabase, IDeckGenPool {
 
     @Override
     public Collection<PaperCard> getAllCards() {
-        return Collections.unmodifiableCollection(allCardsByName.values());
+        return getAllCardsInNameOrder();
     }
 
     public Collection<PaperCard> getAllCardsNoAlt() {
-        return Multimaps.filterEntries(allCardsByName, entry -> entry.getKey().equals(entry.getValue().getName())).values();
+        return streamAllCardsNoAlt().collect(Collectors.toList());
     }
 
     @Override
     public Stream<PaperCard> streamAllCards() {
-        return allCardsByName.values().stream();
+        return getAllCardsInNameOrder().stream();
     }
     @Override
     public Stream<PaperCard> streamUniqueCards() {
-        return uniqueCardsByName.values().stream();
+        return getUniqueCardsInNameOrder().stream();
     }
     public Stream<PaperCard> streamAllCardsNoAlt() {
-        return allCardsByName.entries().stream().filter(e -> e.getKey().equals(e.getValue().getName())).map(Entry::getValue);
+        return getCardsInNameOrder().stream().flatMap(named -> named.cards.stream().filter(named::isMainName));
     }
     public Stream<PaperCard> streamUniqueCardsNoAlt() {
-        return uniqueCardsByName.entrySet().stream().filter(e -> e.getKey().equals(e.getValue().getName())).map(Entry::getValue);
+        return getCardsInNameOrder().stream().filter(named -> named.unique != null && named.isMainName(named.unique)).map(named -> named.unique);
     }
 
     public Stream<ICardFace> streamAllFaces() {
-        return facesByName.values().stream();
+        return getFacesInNameOrder().stream();
     }
 
     public static final Predicate<PaperCard> EDITION_NON_PROMO = paperCard -> {
@@ -1067,16 +1181,18 @@ public final class CardDb implements ICardDatabase, IDeckGenPool {
 
     public String getNormalizedName(final String cardName) {
         // normalize Names first
-        return normalizedNames.getOrDefault(cardName, cardName);
+        return normalizedNames.getOrDefault(toKey(cardName), cardName);
     }
 
     @Override
     public List<PaperCard> getAllCards(String cardName) {
-        return allCardsByName.get(getNormalizedName(cardName));
+        NamedCards named = cardsByKey.get(getLookupKey(cardName));
+        return named == null ? Collections.emptyList() : Collections.unmodifiableList(named.cards);
     }
 
     public List<PaperCard> getAllCardsNoAlt(String cardName) {
-        return Lists.newArrayList(Multimaps.filterEntries(allCardsByName, entry -> entry.getKey().equals(entry.getValue().getName())).get(getNormalizedName(cardName)));
+        NamedCards named = cardsByKey.get(getLookupKey(cardName));
+        return named == null ? new ArrayList<>() : named.cards.stream().filter(named::isMainName).collect(Collectors.toList());
     }
 
     /**
@@ -1118,7 +1234,7 @@ public final class CardDb implements ICardDatabase, IDeckGenPool {
 
     @Override
     public boolean contains(String name) {
-        return allCardsByName.containsKey(getNormalizedName(name));
+        return cardsByKey.containsKey(getLookupKey(name));
     }
 
     @Override
@@ -1218,6 +1334,7 @@ public final class CardDb implements ICardDatabase, IDeckGenPool {
             }
 
             result = rulesByName.put(cardName, rules);
+            rulesByKey.put(toKey(cardName), rules);
 
             // 1. generate all paper cards from edition data we have (either explicit, or found in res/editions, or add to unknown edition)
             List<PaperCard> paperCards = new ArrayList<>();
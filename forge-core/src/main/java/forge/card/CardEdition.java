@@ -210,6 +210,13 @@ public final class CardEdition implements Comparable<CardEdition> {
 
     public record EditionEntry(String name, String collectorNumber, CardRarity rarity, String artistName, Map<String, String> extraParams) implements Comparable<EditionEntry> {
 
+        public EditionEntry {
+            // reprints share their name, artist and collector number with the other printings
+            name = TextUtil.intern(name);
+            collectorNumber = TextUtil.intern(collectorNumber);
+            artistName = TextUtil.intern(artistName);
+        }
+
         public String toString() {
             StringBuilder sb = new StringBuilder();
             if (collectorNumber != null) {
@@ -696,7 +703,7 @@ public final class CardEdition implements Comparable<CardEdition> {
                                         String v = paramMatcher.group(2).trim();
                                         if(k.isEmpty() || v.isEmpty())
                                             continue;
-                                        extraParams.put(k, v);
+                                        extraParams.put(TextUtil.intern(k), TextUtil.intern(v));
                                     } while(paramMatcher.find());
                                 }
                             }
@@ -2,10 +2,12 @@ package forge.card;
 
 import forge.card.mana.ManaCost;
 import forge.util.Lang;
+import forge.util.TextUtil;
 import org.apache.commons.lang3.StringUtils;
 
 import java.util.*;
 import java.util.Map.Entry;
+import java.util.function.Predicate;
 import java.util.regex.PatternSyntaxException;
 import java.util.stream.Collectors;
 
@@ -47,6 +49,12 @@ final class CardFace implements ICardFace, Cloneable {
     private List<String> replacements = null;
     private Map<String, String> variables = null;
 
+    // The script body (abilities, triggers, statics, replacements, draft actions and SVars) is kept as read from the file
+    // until something asks for it. Most of the card pool never gets into a game, so most of them are never split up.
+    private StringBuilder scriptBuilder = null;
+    private volatile String script = null;
+    private boolean hasScriptedAbilities = false;
+
     private Map<String, CardFace> functionalVariants = null;
 
 
@@ -67,34 +75,65 @@ final class CardFace implements ICardFace, Cloneable {
         
     // these are raw and unparsed used for Card creation
     @Override public Iterable<String> getKeywords()   { return keywords; }
-    @Override public Iterable<String> getAbilities()  { return abilities; }
-    @Override public Iterable<String> getStaticAbilities() { return staticAbilities; }
-    @Override public Iterable<String> getTriggers()   { return triggers; }
-    @Override public Iterable<String> getDraftActions()   { return draftActions; }
-    @Override public Iterable<String> getReplacements() { return replacements; }
+    @Override public Iterable<String> getAbilities()  { compileScript(); return abilities; }
+    @Override public Iterable<String> getStaticAbilities() { compileScript(); return staticAbilities; }
+    @Override public Iterable<String> getTriggers()   { compileScript(); return triggers; }
+    @Override public Iterable<String> getDraftActions()   { compileScript(); return draftActions; }
+    @Override public Iterable<String> getReplacements() { compileScript(); return replacements; }
     @Override public String getNonAbilityText()       { return nonAbilityText; }
     @Override public Iterable<Entry<String, String>> getVariables() {
+        compileScript();
         if (variables == null)
             return null;
         return variables.entrySet();
     }
 
+    @Override public boolean hasScriptedAbilities() {
+        if (script != null) {
+            return hasScriptedAbilities || !keywords.isEmpty();
+        }
+        return !keywords.isEmpty() || !abilities.isEmpty() || !staticAbilities.isEmpty() || !triggers.isEmpty()
+                || (draftActions != null && !draftActions.isEmpty()) || !replacements.isEmpty();
+    }
+
+    @Override public boolean hasStaticAbility(Predicate<String> condition) {
+        final String raw = script;
+        if (raw == null) {
+            for (String st : staticAbilities) {
+                if (condition.test(st)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        // look through the raw lines, no need to split up the whole script for the checks done while loading
+        int start = 0;
+        while (start < raw.length()) {
+            int end = raw.indexOf('\n', start);
+            if (raw.startsWith("S:", start) && condition.test(raw.substring(start + 2, end))) {
+                return true;
+            }
+            start = end + 1;
+        }
+        return false;
+    }
+
     @Override public String getFlavorName()              { return this.flavorName; }
 
     public CardFace(String name0) {
-        this.name = name0; 
+        this.name = TextUtil.intern(name0);
         if ( StringUtils.isBlank(name0) )
             throw new RuntimeException("Card name is empty");
     }
     // Here come setters to allow parser supply values
-    void setName(String name)                { this.name = name; }
+    void setName(String name)                { this.name = TextUtil.intern(name); }
     void setFlavorName(String name)          { this.flavorName = name; }
     void setType(CardType type0)             { this.type = type0; }
     void setManaCost(ManaCost manaCost0)     { this.manaCost = manaCost0; }
     void setColor(ColorSet color0)           { this.color = color0; }
     void setOracleText(String text)          { this.oracleText = text; }
-    void setInitialLoyalty(String value)     { this.initialLoyalty = value; }
-    void setDefense(String value)            { this.defense = value; }
+    void setInitialLoyalty(String value)     { this.initialLoyalty = TextUtil.intern(value); }
+    void setDefense(String value)            { this.defense = TextUtil.intern(value); }
     void setAttractionLights(String value) {
         if (value == null) {
             this.attractionLights = null;
@@ -110,8 +149,8 @@ final class CardFace implements ICardFace, Cloneable {
             throw new RuntimeException("Creature '" + this.getName() + "' has bad p/t stats");
         }
 
-        this.power = k[0];
-        this.toughness = k[1];
+        this.power = TextUtil.intern(k[0]);
+        this.toughness = TextUtil.intern(k[1]);
 
         this.iPower = parsePT(k[0]);
         this.iToughness = parsePT(k[1]);
@@ -130,13 +169,71 @@ final class CardFace implements ICardFace, Cloneable {
 
     // Raw fields used for Card creation
     void setNonAbilityText(String value)     { this.nonAbilityText = value; }
-    void addKeyword(String value)            { if (null == this.keywords) { this.keywords = new ArrayList<>(); } this.keywords.add(value); }
+    void addKeyword(String value)            { if (null == this.keywords) { this.keywords = new ArrayList<>(); } this.keywords.add(TextUtil.intern(value)); }
     void addAbility(String value)            { if (null == this.abilities) { this.abilities = new ArrayList<>(); } this.abilities.add(value);}
     void addTrigger(String value)            { if (null == this.triggers) { this.triggers = new ArrayList<>(); } this.triggers.add(value);}
     void addDraftAction(String value)        { if (null == this.draftActions) { this.draftActions = new ArrayList<>(); } this.draftActions.add(value);}
     void addStaticAbility(String value)      { if (null == this.staticAbilities) { this.staticAbilities = new ArrayList<>(); } this.staticAbilities.add(value);}
     void addReplacementEffect(String value)  { if (null == this.replacements) { this.replacements = new ArrayList<>(); } this.replacements.add(value);}
-    void addSVar(String key, String value)   { if (null == this.variables) { this.variables = new TreeMap<>(String.CASE_INSENSITIVE_ORDER); } this.variables.put(key, value); }
+    void addSVar(String key, String value)   { if (null == this.variables) { this.variables = new TreeMap<>(String.CASE_INSENSITIVE_ORDER); } this.variables.put(TextUtil.intern(key), value); }
+
+    /**
+     * Remembers a line of the script body to be parsed by {@link #compileScript()} once a game needs it.
+     */
+    void addScriptLine(String key, String value) {
+        if (null == this.scriptBuilder) { this.scriptBuilder = new StringBuilder(); }
+        this.scriptBuilder.append(key).append(':').append(value).append('\n');
+        if (!"SVar".equals(key)) { this.hasScriptedAbilities = true; }
+    }
+
+    private void compileScript() {
+        // every getter calls this, only take the lock while the script still needs to be split up
+        if (script != null) {
+            compileScriptLocked();
+        }
+    }
+
+    private synchronized void compileScriptLocked() {
+        if (script == null) {
+            return;
+        }
+        // lines without a value were added right away
+        if ( abilities == emptyList ) abilities = null;
+        if ( staticAbilities == emptyList ) staticAbilities = null;
+        if ( triggers == emptyList ) triggers = null;
+        if ( replacements == emptyList ) replacements = null;
+        if ( variables == emptyMap ) variables = null;
+        parseScript(script);
+        if ( abilities == null ) abilities = emptyList;
+        if ( staticAbilities == null ) staticAbilities = emptyList;
+        if ( triggers == null ) triggers = emptyList;
+        if ( replacements == null ) replacements = emptyList;
+        if ( variables == null ) variables = emptyMap;
+        // the lists are complete before other threads can see the script is gone
+        script = null;
+    }
+
+    private void parseScript(String raw) {
+        int start = 0;
+        while (start < raw.length()) {
+            int end = raw.indexOf('\n', start);
+            int colonPos = raw.indexOf(':', start);
+            String key = raw.substring(start, colonPos);
+            String value = raw.substring(colonPos + 1, end);
+            switch (key) {
+                case "A": addAbility(value); break;
+                case "S": addStaticAbility(value); break;
+                case "T": addTrigger(value); break;
+                case "R": addReplacementEffect(value); break;
+                case "Draft": addDraftAction(value); break;
+                case "SVar":
+                    colonPos = value.indexOf(':');
+                    addSVar(colonPos > 0 ? value.substring(0, colonPos) : value, colonPos > 0 ? value.substring(1 + colonPos) : null);
+                    break;
+            }
+            start = end + 1;
+        }
+    }
 
 
     //Functional variant methods. Used for Attractions and some Un-cards,
@@ -164,6 +261,7 @@ final class CardFace implements ICardFace, Cloneable {
 
     
     void assignMissingFields() { // Most scripts do not specify color explicitly
+        if ( scriptBuilder != null ) { script = scriptBuilder.toString(); scriptBuilder = null; }
         if ( null == oracleText ) { System.err.println(name + " has no Oracle text."); oracleText = ""; }
         if ( manaCost == null && color == null ) System.err.println(name + " has neither ManaCost nor Color");
         if ( manaCost == null ) manaCost = ManaCost.NO_COST;
@@ -179,14 +277,22 @@ final class CardFace implements ICardFace, Cloneable {
         if ( attractionLights == null) attractionLights = emptySet;
 
         if(this.functionalVariants != null) {
+            // variants are merged with the base face, so both need their script parsed right away
+            compileScript();
             //Copy fields to undefined ones in functional variants
             for (CardFace variant : this.functionalVariants.values()) {
+                if ( variant.scriptBuilder != null ) {
+                    variant.parseScript(variant.scriptBuilder.toString());
+                    variant.scriptBuilder = null;
+                }
                 assignMissingFieldsToVariant(variant);
             }
         }
     }
 
     void assignMissingFieldsToVariant(CardFace variant) {
+        // flavor name variants are added after loading, their lists are taken from this face
+        compileScript();
         if(variant.oracleText == null) {
             if(variant.flavorName != null && this.oracleText != null) {
                 try {
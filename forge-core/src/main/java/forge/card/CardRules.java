@@ -27,6 +27,7 @@ import forge.util.TextUtil;
 import org.apache.commons.lang3.StringUtils;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import static forge.card.MagicColor.Constant.BASIC_LANDS;
@@ -116,10 +117,8 @@ public final class CardRules implements ICardCharacteristics {
         boolean isSymbol = false;
         String oracleText = face.getOracleText();
         // CR 903.4 colors defined by its characteristic-defining abilities
-        for (String staticAbility : face.getStaticAbilities()) {
-            if (staticAbility.contains("CharacteristicDefining$ True") && staticAbility.contains("SetColor$ All")) {
-                return MagicColor.ALL_COLORS;
-            }
+        if (face.hasStaticAbility(st -> st.contains("CharacteristicDefining$ True") && st.contains("SetColor$ All"))) {
+            return MagicColor.ALL_COLORS;
         }
         // no need to check oracle if it is already all colors
         if (res == MagicColor.ALL_COLORS) {
@@ -411,12 +410,8 @@ public final class CardRules implements ICardCharacteristics {
         if (type.isCreature()) {
             return true;
         }
-        for (String staticAbility : mainPart.getStaticAbilities()) { // Check for Grist
-            if (staticAbility.contains("CharacteristicDefining$ True") && staticAbility.contains("AddType$ Creature")) {
-                return true;
-            }
-        }
-        return false;
+        // Check for Grist
+        return mainPart.hasStaticAbility(st -> st.contains("CharacteristicDefining$ True") && st.contains("AddType$ Creature"));
     }
 
     public String getMeldWith() {
@@ -527,6 +522,17 @@ public final class CardRules implements ICardCharacteristics {
 
     // Reads cardname.txt
     public static class Reader {
+        // most type lines are printed on many cards, the parsed types aren't changed after loading so they are shared
+        private static final Map<String, CardType> parsedTypes = new ConcurrentHashMap<>();
+
+        /**
+         * Forgets the type lines seen so far, once all cards are loaded. The cards keep sharing their types,
+         * only the lookup is dropped. Cards loaded later parse their types again.
+         */
+        public static void clearParsedTypes() {
+            parsedTypes.clear();
+        }
+
         // fields to build
         private CardFace[] faces = new CardFace[] { null, null, null, null, null, null, null };
         private int curFace = 0;
@@ -658,7 +664,7 @@ public final class CardRules implements ICardCharacteristics {
             switch (key.charAt(0)) {
                 case 'A':
                     if ("A".equals(key)) {
-                        face.addAbility(value);
+                        if (value != null) face.addScriptLine(key, value); else face.addAbility(value);
                     } else if ("AI".equals(key)) {
                         colonPos = value.indexOf(':');
                         String variable = colonPos > 0 ? value.substring(0, colonPos) : value;
@@ -693,7 +699,7 @@ public final class CardRules implements ICardCharacteristics {
                     } else if ("Defense".equals(key)) {
                         face.setDefense(value);
                     } else if ("Draft".equals(key)) {
-                        face.addDraftAction(value);
+                        if (value != null) face.addScriptLine(key, value); else face.addDraftAction(value);
                     }
                     break;
 
@@ -758,13 +764,13 @@ public final class CardRules implements ICardCharacteristics {
 
                 case 'R':
                     if ("R".equals(key)) {
-                        face.addReplacementEffect(value);
+                        if (value != null) face.addScriptLine(key, value); else face.addReplacementEffect(value);
                     }
                     break;
 
                 case 'S':
                     if ("S".equals(key)) {
-                        face.addStaticAbility(value);
+                        if (value != null) face.addScriptLine(key, value); else face.addStaticAbility(value);
                     } else if (key.startsWith("SPECIALIZE")) {
                         if (value.equals("WHITE")) {
                             this.curFace = 2;
@@ -780,11 +786,8 @@ public final class CardRules implements ICardCharacteristics {
                     } else if ("SVar".equals(key)) {
                         if (null == value) throw new IllegalArgumentException("SVar has no variable name");
 
-                        colonPos = value.indexOf(':');
-                        String variable = colonPos > 0 ? value.substring(0, colonPos) : value;
-                        value = colonPos > 0 ? value.substring(1+colonPos) : null;
-
-                        face.addSVar(variable, value);
+                        // split up with the rest of the script once a game needs it
+                        face.addScriptLine(key, value);
                     } else if (key.startsWith("SETCOLORID")) {
                         this.setColorID = Integer.parseInt(value);
                     }
@@ -792,9 +795,9 @@ public final class CardRules implements ICardCharacteristics {
 
                 case 'T':
                     if ("T".equals(key)) {
-                        face.addTrigger(value);
+                        if (value != null) face.addScriptLine(key, value); else face.addTrigger(value);
                     } else if ("Types".equals(key)) {
-                        face.setType(CardType.parse(value, false));
+                        face.setType(parsedTypes.computeIfAbsent(value, v -> CardType.parse(v, false)));
                     } else if ("Text".equals(key) && StringUtils.isNotBlank(value)) {
                         face.setNonAbilityText(value);
                     }
@@ -207,17 +207,7 @@ public final class CardRulesPredicates {
                 return false;
             }
 
-            ICardFace mainPart = card.getMainPart();
-
-            boolean hasAny =
-                mainPart.getKeywords().iterator().hasNext() ||
-                mainPart.getAbilities().iterator().hasNext() ||
-                mainPart.getStaticAbilities().iterator().hasNext() ||
-                mainPart.getTriggers().iterator().hasNext() ||
-                (mainPart.getDraftActions() != null && mainPart.getDraftActions().iterator().hasNext()) ||
-                mainPart.getReplacements().iterator().hasNext();
-
-            return !hasAny;
+            return !card.getMainPart().hasScriptedAbilities();
         };
     }
 
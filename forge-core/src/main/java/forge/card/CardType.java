@@ -22,6 +22,7 @@ import com.google.common.collect.*;
 import forge.util.ITranslatable;
 import forge.util.Localizer;
 import forge.util.Settable;
+import forge.util.TextUtil;
 import org.apache.commons.lang3.EnumUtils;
 import org.apache.commons.lang3.NotImplementedException;
 import org.apache.commons.lang3.StringUtils;
@@ -840,7 +841,7 @@ public final class CardType implements Comparable<CardType>, CardTypeView {
             String type = getMultiwordType(rest);
             if (type == null) {
                 int iSpace = typeText.indexOf(space, iTypeStart);
-                type = typeText.substring(iTypeStart, iSpace == -1 ? max : iSpace);
+                type = TextUtil.intern(typeText.substring(iTypeStart, iSpace == -1 ? max : iSpace));
             }
             result.add(type);
             iTypeStart += type.length() + 1;
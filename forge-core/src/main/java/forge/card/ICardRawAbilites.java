@@ -1,6 +1,7 @@
 package forge.card;
 
 import java.util.Map.Entry;
+import java.util.function.Predicate;
 
 public interface ICardRawAbilites
 {
@@ -14,4 +15,11 @@ public interface ICardRawAbilites
     String getNonAbilityText();
     
     Iterable<Entry<String, String>> getVariables();
+
+    /**
+     * @return true if there are any keywords, abilities, triggers, statics, replacements or draft actions
+     */
+    boolean hasScriptedAbilities();
+
+    boolean hasStaticAbility(Predicate<String> condition);
 }
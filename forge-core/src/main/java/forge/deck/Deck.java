@@ -25,9 +25,12 @@ import forge.card.CardRules;
 import forge.card.CardType;
 import forge.item.IPaperCard;
 import forge.item.PaperCard;
+import forge.util.FileSection;
+import forge.util.FileUtil;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
 
+import java.io.File;
 import java.io.ObjectStreamException;
 import java.io.Serial;
 import java.util.*;
@@ -51,6 +54,8 @@ public class Deck extends DeckBase implements Iterable<Entry<DeckSection, CardPo
     private final Set<String> aiHints = new TreeSet<>();
     private final Map<String, String> draftNotes = new HashMap<>();
     private Map<String, List<String>> deferredSections = null;
+    // only the metadata was read while loading, the sections are read from this file when first needed
+    private File deferredFile = null;
     private Map<String, List<String>> loadedSections = null;
     private String lastCardArtPreferenceUsed = "";
     private Boolean lastCardArtOptimisationOptionUsed = null;
@@ -216,6 +221,10 @@ public class Deck extends DeckBase implements Iterable<Entry<DeckSection, CardPo
         this.deferredSections = deferredSections;
     }
 
+    public void setDeferredFile(File deferredFile) {
+        this.deferredFile = deferredFile;
+    }
+
     /* (non-Javadoc)
      * @see forge.deck.DeckBase#cloneFieldsTo(forge.deck.DeckBase)
      */
@@ -250,6 +259,10 @@ public class Deck extends DeckBase implements Iterable<Entry<DeckSection, CardPo
     }
 
     private void loadDeferredSections() {
+        if (deferredFile != null) {
+            deferredSections = FileSection.parseSections(FileUtil.readFile(deferredFile));
+            deferredFile = null;
+        }
         if (deferredSections == null && loadedSections == null)
             return;
 
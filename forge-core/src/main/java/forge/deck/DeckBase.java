@@ -19,6 +19,7 @@ package forge.deck;
 
 import forge.item.InventoryItem;
 
+import java.io.File;
 import java.io.Serializable;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
@@ -29,6 +30,8 @@ public abstract class DeckBase implements Serializable, Comparable<DeckBase>, In
 
     private String name;
     private transient String directory;
+    // the file the deck was read from or saved to, copies don't have one
+    private transient File sourceFile;
     private String comment = null;
 
     /**
@@ -86,6 +89,14 @@ public abstract class DeckBase implements Serializable, Comparable<DeckBase>, In
         directory = directory0;
     }
 
+    public File getSourceFile() {
+        return sourceFile;
+    }
+
+    public void setSourceFile(File file) {
+        sourceFile = file;
+    }
+
     public String getUniqueKey() {
         if (directory == null) { return name; }
         return directory + "/" + name;
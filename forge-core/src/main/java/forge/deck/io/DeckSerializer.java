@@ -43,7 +43,22 @@ public class DeckSerializer {
     private static List<String> serializeDeck(Deck d) {
         final List<String> out = new ArrayList<>();
         out.add(TextUtil.enclosedBracket("metadata"));
-    
+        out.addAll(serializeMetadata(d));
+
+        for(Entry<DeckSection, CardPool> s : d) {
+            if(s.getValue().isEmpty())
+                continue;
+            out.add(TextUtil.enclosedBracket(s.getKey().toString()));
+            out.add(s.getValue().toCardList(System.lineSeparator()));
+        }
+        return out;
+    }
+
+    /**
+     * @return the lines of the metadata section of the deck file, without its header
+     */
+    public static List<String> serializeMetadata(Deck d) {
+        final List<String> out = new ArrayList<>();
         out.add(TextUtil.concatNoSpace(DeckFileHeader.NAME,"=", d.getName().replaceAll("\n", "")));
         // these are optional
         if (d.getComment() != null) {
@@ -59,13 +74,6 @@ public class DeckSerializer {
             String sb = serializeDraftNotes(d.getDraftNotes());
             out.add(TextUtil.concatNoSpace(DeckFileHeader.DRAFT_NOTES, "=", sb));
         }
-    
-        for(Entry<DeckSection, CardPool> s : d) {
-            if(s.getValue().isEmpty())
-                continue;
-            out.add(TextUtil.enclosedBracket(s.getKey().toString()));
-            out.add(s.getValue().toCardList(System.lineSeparator()));
-        }
         return out;
     }
 
@@ -95,12 +103,26 @@ public class DeckSerializer {
             return null;
         }
 
+        Deck d = fromHeader(dh);
+        d.setDeferredSections(sections);
+        return d;
+    }
+
+    /**
+     * Creates a deck from the lines of its metadata section, its cards are read from the file once they are needed.
+     */
+    public static Deck fromMetadata(final List<String> metadata, final File deckFile) {
+        Deck d = fromHeader(new DeckFileHeader(FileSection.parse(metadata, FileSection.EQUALS_KV_SEPARATOR)));
+        d.setDeferredFile(deckFile);
+        return d;
+    }
+
+    private static Deck fromHeader(final DeckFileHeader dh) {
         Deck d = new Deck(dh.getName());
         d.setComment(dh.getComment());
         d.setAiHints(dh.getAiHints());
         d.getTags().addAll(dh.getTags());
         d.setDraftNotes(dh.getDraftNotes());
-        d.setDeferredSections(sections);
         return d;
     }
 }
\ No newline at end of file
@@ -28,7 +28,6 @@ import forge.util.storage.StorageReaderFolder;
 import java.io.File;
 import java.io.FilenameFilter;
 import java.util.List;
-import java.util.Map;
 
 /**
  * This class knows how to make a file out of a deck object and vice versa.
@@ -36,6 +35,21 @@ import java.util.Map;
 public class DeckStorage extends StorageReaderFolder<Deck> implements IItemSerializer<Deck> {
     public static final String FILE_EXTENSION = ".dck";
 
+    /**
+     * Knows the metadata section of deck files that didn't change since they were last read.
+     */
+    public interface MetadataCache {
+        /**
+         * @return the lines of the metadata section, or null if the file has to be read
+         */
+        List<String> getMetadata(File deckFile);
+    }
+    private static MetadataCache metadataCache = null;
+
+    public static void setMetadataCache(final MetadataCache cache) {
+        metadataCache = cache;
+    }
+
     private final String rootDir;
     private final boolean moveWronglyNamedDecks;
 
@@ -64,7 +78,9 @@ public class DeckStorage extends StorageReaderFolder<Deck> implements IItemSeria
 
     @Override
     public void save(final Deck unit) {
-        DeckSerializer.writeDeck(unit, this.makeFileFor(unit));
+        final File file = this.makeFileFor(unit);
+        DeckSerializer.writeDeck(unit, file);
+        unit.setSourceFile(file);
     }
 
     @Override
@@ -78,8 +94,14 @@ public class DeckStorage extends StorageReaderFolder<Deck> implements IItemSeria
 
     @Override
     protected Deck read(final File file) {
-        final Map<String, List<String>> sections = FileSection.parseSections(FileUtil.readFile(file));
-        Deck result = DeckSerializer.fromSections(sections);
+        final List<String> metadata = metadataCache == null ? null : metadataCache.getMetadata(file);
+        final Deck result;
+        if (metadata != null) {
+            // the cards are only read once the deck is used
+            result = DeckSerializer.fromMetadata(metadata, file);
+        } else {
+            result = DeckSerializer.fromSections(FileSection.parseSections(FileUtil.readFile(file)));
+        }
 
         if (moveWronglyNamedDecks) {
             adjustFileLocation(file, result);
@@ -87,6 +109,7 @@ public class DeckStorage extends StorageReaderFolder<Deck> implements IItemSeria
 
         if (result != null) {
             result.setDirectory(file.getParent().substring(rootDir.length()));
+            result.setSourceFile(file);
         }
         return result;
     }
@@ -257,7 +257,7 @@ public class PaperCard implements Comparable<IPaperCard>, InventoryItemFromSet,
         this.hasFlavorName = !name.equals(displayName);
         // If the user changes the language this will make cards sort by the old language until they restart the game.
         // This is a good tradeoff
-        this.sortableName = TextUtil.toSortableName(CardTranslation.getTranslatedName(displayName));
+        this.sortableName = TextUtil.intern(TextUtil.toSortableName(CardTranslation.getTranslatedName(displayName)));
 
         if(flags == null || flags.equals(PaperCardFlags.IDENTITY_FLAGS))
             this.flags = PaperCardFlags.IDENTITY_FLAGS;
@@ -332,7 +332,7 @@ public class PaperCard implements Comparable<IPaperCard>, InventoryItemFromSet,
         if(this.searchableNames != null && CardTranslation.getLanguageSelected().equals(searchableNameLang))
             return searchableNames;
         if(searchableNameLang != null) //Changed the language. May as well update this.
-            sortableName = TextUtil.toSortableName(CardTranslation.getTranslatedName(displayName));
+            sortableName = TextUtil.intern(TextUtil.toSortableName(CardTranslation.getTranslatedName(displayName)));
         searchableNameLang = CardTranslation.getLanguageSelected();
         searchableNames = computeSearchableNames(searchableNameLang);
         return searchableNames;
@@ -450,7 +450,7 @@ public class PaperCard implements Comparable<IPaperCard>, InventoryItemFromSet,
         rarity = pc.getRarity();
         displayName = pc.getDisplayName();
         hasFlavorName = pc.hasFlavorName();
-        sortableName = TextUtil.toSortableName(CardTranslation.getTranslatedName(displayName));
+        sortableName = TextUtil.intern(TextUtil.toSortableName(CardTranslation.getTranslatedName(displayName)));
     }
 
     private IPaperCard readObjectAlternate(String name, String edition) throws ClassNotFoundException, IOException {
@@ -0,0 +1,142 @@
+package forge.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cheap breadcrumbs for code that runs thousands of times per game.
+ * <p>
+ * Recording stores the values in a fixed ring buffer, every n-th call when sampling is enabled.
+ * Values should be cheap immutable snapshots like names, ids or enum constants; anything else is turned into
+ * a string when it is recorded, so the buffer never holds on to game objects or shows their later state.
+ * {@link #flush()} hands the recent entries to the installed {@link Sink},
+ * which should happen right before an error is reported.
+ * Without a sink (headless and simulation runs) recording returns immediately.
+ */
+public final class Diagnostics {
+    public interface Sink {
+        void breadcrumb(String message, Map<String, String> data);
+    }
+
+    private static final int CAPACITY = 64; // power of two
+    private static final String[] messages = new String[CAPACITY];
+    private static final Object[][] data = new Object[CAPACITY][6];
+
+    private static final AtomicLong calls = new AtomicLong();
+    private static final AtomicLong recorded = new AtomicLong();
+    private static final ThreadLocal<int[]> suspended = ThreadLocal.withInitial(() -> new int[1]);
+
+    private static volatile Sink sink;
+    private static volatile int sampleInterval = 1;
+
+    private Diagnostics() {
+    }
+
+    public static void install(final Sink sink0) {
+        sink = sink0;
+    }
+
+    public static boolean isEnabled() {
+        return sink != null;
+    }
+
+    /**
+     * Only record one out of every <code>interval</code> calls.
+     */
+    public static void setSampleInterval(final int interval) {
+        sampleInterval = Math.max(1, interval);
+    }
+
+    /**
+     * Stops recording on the current thread until the matching {@link #resume()}, e.g. while the AI simulates a game.
+     */
+    public static void suspend() {
+        suspended.get()[0]++;
+    }
+
+    public static void resume() {
+        suspended.get()[0]--;
+    }
+
+    public static void record(final String message, final String key1, final Object value1) {
+        record(message, key1, value1, null, null, null, null);
+    }
+
+    public static void record(final String message, final String key1, final Object value1, final String key2, final Object value2) {
+        record(message, key1, value1, key2, value2, null, null);
+    }
+
+    public static void record(final String message, final String key1, final Object value1, final String key2, final Object value2,
+            final String key3, final Object value3) {
+        if (sink == null) {
+            return;
+        }
+        final int interval = sampleInterval;
+        if (interval > 1 && calls.getAndIncrement() % interval != 0) {
+            return;
+        }
+        if (suspended.get()[0] > 0) {
+            return;
+        }
+        final int slot = (int) (recorded.getAndIncrement() & (CAPACITY - 1));
+        synchronized (data[slot]) {
+            final Object[] entry = data[slot];
+            entry[0] = key1;
+            entry[1] = snapshot(value1);
+            entry[2] = key2;
+            entry[3] = snapshot(value2);
+            entry[4] = key3;
+            entry[5] = snapshot(value3);
+            messages[slot] = message;
+        }
+    }
+
+    /**
+     * Formats the recorded entries oldest first into the installed sink and clears the buffer.
+     */
+    public static void flush() {
+        final Sink target = sink;
+        if (target != null) {
+            flush(target);
+        }
+    }
+
+    public static void flush(final Sink target) {
+        final long end = recorded.get();
+        final long start = Math.max(0, end - CAPACITY);
+        for (long i = start; i < end; i++) {
+            final int slot = (int) (i & (CAPACITY - 1));
+            final String message;
+            final Map<String, String> entryData = new LinkedHashMap<>();
+            synchronized (data[slot]) {
+                message = messages[slot];
+                if (message == null) {
+                    continue;
+                }
+                final Object[] entry = data[slot];
+                for (int k = 0; k < entry.length; k += 2) {
+                    if (entry[k] != null) {
+                        entryData.put((String) entry[k], String.valueOf(entry[k + 1]));
+                    }
+                    entry[k] = null;
+                    entry[k + 1] = null;
+                }
+                messages[slot] = null;
+            }
+            target.breadcrumb(message, entryData);
+        }
+    }
+
+    private static Object snapshot(final Object value) {
+        if (value == null || value instanceof String || value instanceof Enum || value instanceof Number || value instanceof Boolean) {
+            return value;
+        }
+        try {
+            return String.valueOf(value);
+        } catch (RuntimeException e) {
+            // the object might be in a broken state
+            return value.getClass().getSimpleName() + " (" + e + ")";
+        }
+    }
+}
@@ -17,13 +17,13 @@
  */
 package forge.util;
 
-import com.google.common.collect.HashBasedTable;
-import com.google.common.collect.Table;
+import com.google.common.collect.ImmutableSortedMap;
 import org.apache.commons.lang3.StringUtils;
 
 import java.text.NumberFormat;
 import java.text.ParseException;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 
 /**
@@ -48,7 +48,8 @@ public class FileSection {
     public static final Pattern COLON_KV_SEPARATOR = Pattern.compile(Pattern.quote(":"));
     private static final String BAR_PAIR_SPLITTER = Pattern.quote("|");
 
-    private static final Table<String, Pattern, Map<String, String>> parseToMapCache = HashBasedTable.create();
+    // parsed lines are shared by every game, including the ones running in parallel for the AI
+    private static final Map<Pattern, Map<String, Map<String, String>>> parseToMapCache = new ConcurrentHashMap<>();
 
     /**
      * Parses the key=value text line and return a HashMap
@@ -58,21 +59,23 @@ public class FileSection {
      * @return a HashMap
      */
     public static Map<String, String> parseToMap(final String line, final Pattern kvSeparator) {
-        Map<String, String> cached = parseToMapCache.get(line, kvSeparator);
+        final Map<String, Map<String, String>> cache = parseToMapCache.computeIfAbsent(kvSeparator, k -> new ConcurrentHashMap<>());
+        Map<String, String> cached = cache.get(line);
         if (cached != null) {
             return cached;
         }
 
-        Map<String, String> result = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        TreeMap<String, String> result = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
         if (!StringUtils.isEmpty(line)) {
             for (final String dd : line.split(BAR_PAIR_SPLITTER)) {
                 final String[] v = kvSeparator.split(dd, 2);
                 result.put(v[0].trim(), v.length > 1 ? v[1].trim() : "");
             }
         }
-        cached = Collections.unmodifiableMap(result);
-        parseToMapCache.put(line, kvSeparator, cached);
-        return cached;
+        // immutable, so the result can be shared as template by everything created from this line
+        cached = ImmutableSortedMap.copyOfSorted(result);
+        final Map<String, String> previous = cache.putIfAbsent(line, cached);
+        return previous != null ? previous : cached;
     }
 
     /**
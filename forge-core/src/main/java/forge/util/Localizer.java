@@ -9,6 +9,9 @@ import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.text.MessageFormat;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.commons.lang3.StringUtils;
 
 public class Localizer {
 
@@ -16,9 +19,17 @@ public class Localizer {
 
     private List<LocalizationChangeObserver> observers = new ArrayList<>();
 
+    private static final String[] CHARSETS = { "ISO-8859-1", "UTF-8" };
+
     private Locale locale;
     private ResourceBundle resourceBundle;
     private ResourceBundle englishBundle;
+    // the bundles' messages, read once when the language is set
+    private Map<String, String> localMessages = Collections.emptyMap();
+    private Map<String, String> englishMessages = Collections.emptyMap();
+    private Map<String, Template> localTemplates = new ConcurrentHashMap<>();
+    private Map<String, Template> englishTemplates = new ConcurrentHashMap<>();
+    private final Template MISSING = new Template();
     private boolean silent = false;
     private boolean english = false;
 
@@ -80,63 +91,194 @@ public class Localizer {
         return getMessage(false, key, messageArguments);
     }
     public String getMessage(boolean forcedEnglish, final String key, final Object... messageArguments) {
-        MessageFormat formatter = null;
-
-        try {
-            //formatter = new MessageFormat(resourceBundle.getString(key.toLowerCase()), locale);
-            formatter = new MessageFormat(english || forcedEnglish ? englishBundle.getString(key) : resourceBundle.getString(key), english || forcedEnglish ? Locale.ENGLISH : locale);
-        } catch (final IllegalArgumentException | MissingResourceException e) {
-            if (!silent)
-                e.printStackTrace();
-        }
+        boolean useEnglish = english || forcedEnglish;
+        Template template = getTemplate(useEnglish, key);
 
-        if (formatter == null) {
+        if (template == null) {
             if (!silent) {
                 System.err.println("INVALID PROPERTY: '" + key + "' -- Translation missing from " + locale);
             }
 
-            if (english || forcedEnglish) {
+            if (useEnglish) {
                 return "INVALID PROPERTY: '" + key + "' -- Translation missing from English?";
             }
-            try {
-                formatter = new MessageFormat(englishBundle.getString(key), Locale.ENGLISH);
-                forcedEnglish = true;
-            } catch (final IllegalArgumentException | MissingResourceException e) {
-                if (!silent) {
-                    e.printStackTrace();
-                }
+            template = getTemplate(true, key);
+            if (template == null) {
                 return "INVALID PROPERTY: '" + key + "' -- Translation missing from English locale?";
             }
         }
 
         silent = false;
 
-        formatter.setLocale(english || forcedEnglish ? Locale.ENGLISH : locale);
+        return template.format(key, messageArguments);
+    }
+
+    private Template getTemplate(final boolean useEnglish, final String key) {
+        final Map<String, Template> templates = useEnglish ? englishTemplates : localTemplates;
+        Template template = templates.get(key);
+        if (template == null) {
+            final String text = (useEnglish ? englishMessages : localMessages).get(key);
+            template = text == null ? MISSING : compile(text, useEnglish ? Locale.ENGLISH : locale);
+            templates.put(key, template);
+        }
+        return template == MISSING ? null : template;
+    }
+
+    private Template compile(final String text, final Locale formatLocale) {
+        try {
+            return new Template(text, formatLocale);
+        } catch (final IllegalArgumentException e) {
+            if (!silent) {
+                e.printStackTrace();
+            }
+            return MISSING;
+        }
+    }
+
+    /**
+     * A message prepared for formatting: the charset of its text is found once, and messages
+     * that only use plain {n} arguments are split into their literal parts instead of being parsed
+     * by a new MessageFormat on every call.
+     */
+    private final class Template {
+        private final String charset;
+        private final boolean recode;
+        // literal parts around the arguments, null if the message needs a MessageFormat
+        private final String[] literals;
+        private final int[] arguments;
+        private final MessageFormat formatter;
+        private final String withoutArguments;
+
+        private Template() {
+            charset = StandardCharsets.UTF_8.name();
+            recode = false;
+            literals = null;
+            arguments = null;
+            formatter = null;
+            withoutArguments = null;
+        }
+
+        private Template(final String text, final Locale formatLocale) {
+            charset = charset(text, CHARSETS);
+            recode = !charset.equals(StandardCharsets.UTF_8.name());
+            final List<String> parts = new ArrayList<>();
+            final List<Integer> args = new ArrayList<>();
+            if (split(text, parts, args)) {
+                literals = parts.toArray(new String[0]);
+                arguments = new int[args.size()];
+                for (int i = 0; i < arguments.length; i++) {
+                    arguments[i] = args.get(i);
+                }
+                formatter = null;
+            } else {
+                literals = null;
+                arguments = null;
+                formatter = new MessageFormat(text, formatLocale);
+            }
+            withoutArguments = arguments != null && arguments.length > 0 ? null : apply(new Object[0]);
+        }
 
-        String formattedMessage = "CHAR ENCODING ERROR";
-        final String[] charsets = { "ISO-8859-1", "UTF-8" };
-        //Support non-English-standard characters
-        String detectedCharset = charset(english || forcedEnglish ? englishBundle.getString(key) : resourceBundle.getString(key), charsets);
+        private String format(final String key, final Object[] messageArguments) {
+            if (messageArguments.length == 0 && withoutArguments != null) {
+                return withoutArguments;
+            }
+            //when messageArguments encoding not equal the message's, convert to equal
+            //avoid convert to a have two encoding content formattedMessage string.
+            final Object[] syncEncodingMessageArguments = new Object[messageArguments.length];
+            for (int i = 0; i < messageArguments.length; i++) {
+                final String argument = messageArguments[i].toString();
+                if (isAscii(argument)) {
+                    // nothing to convert
+                    syncEncodingMessageArguments[i] = argument;
+                    continue;
+                }
+                String objCharset = charset(argument, CHARSETS);
+                try {
+                    syncEncodingMessageArguments[i] = convert(argument, objCharset, charset);
+                } catch (UnsupportedEncodingException ignored) {
+                    System.err.println("Cannot Convert '" + argument + "' from '" + objCharset + "' To '" + charset + "'");
+                    return "encoding '" + key + "' translate string failure";
+                }
+            }
+            return apply(syncEncodingMessageArguments);
+        }
 
-        final int argLength = messageArguments.length;
-        Object[] syncEncodingMessageArguments = new Object[argLength];
-        //when messageArguments encoding not equal resourceBundle.getString(key),convert to equal
-        //avoid convert to a have two encoding content formattedMessage string.
-        for (int i = 0; i < argLength; i++) {
-            String objCharset = charset(messageArguments[i].toString(), charsets);
+        private String apply(final Object[] args) {
+            String formattedMessage;
+            if (formatter != null) {
+                synchronized (formatter) {
+                    formattedMessage = formatter.format(args);
+                }
+            } else {
+                final StringBuilder sb = new StringBuilder(literals[0]);
+                for (int i = 0; i < arguments.length; i++) {
+                    final int arg = arguments[i];
+                    // same as MessageFormat for missing arguments
+                    sb.append(arg < args.length ? String.valueOf(args[arg]) : "{" + arg + "}");
+                    sb.append(literals[i + 1]);
+                }
+                formattedMessage = sb.toString();
+            }
+            if (!recode || isAscii(formattedMessage)) {
+                // same bytes in both charsets
+                return formattedMessage;
+            }
             try {
-                syncEncodingMessageArguments[i] = convert(messageArguments[i].toString(), objCharset, detectedCharset);
+                return new String(formattedMessage.getBytes(charset), StandardCharsets.UTF_8);
             } catch (UnsupportedEncodingException ignored) {
-                System.err.println("Cannot Convert '" + messageArguments[i].toString() + "' from '" + objCharset + "' To '" + detectedCharset + "'");
-                return "encoding '" + key + "' translate string failure";
+                return "CHAR ENCODING ERROR";
+            }
+        }
+    }
+
+    /**
+     * Splits a MessageFormat pattern into its literal parts and argument numbers, applying its quoting rules.
+     * @return false if the pattern has arguments with a format type or style
+     */
+    static boolean split(final String pattern, final List<String> literals, final List<Integer> arguments) {
+        StringBuilder literal = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < pattern.length(); i++) {
+            final char c = pattern.charAt(i);
+            if (c == '\'') {
+                if (i + 1 < pattern.length() && pattern.charAt(i + 1) == '\'') {
+                    literal.append(c);
+                    i++;
+                } else {
+                    quoted = !quoted;
+                }
+            } else if (quoted || c != '{') {
+                literal.append(c);
+            } else {
+                final int end = pattern.indexOf('}', i);
+                if (end < 0 || end == i + 1 || !StringUtils.isNumeric(pattern.substring(i + 1, end))) {
+                    return false;
+                }
+                literals.add(literal.toString());
+                arguments.add(Integer.parseInt(pattern.substring(i + 1, end)));
+                literal = new StringBuilder();
+                i = end;
             }
         }
+        literals.add(literal.toString());
+        return true;
+    }
 
-        try {
-            formattedMessage = new String(formatter.format(syncEncodingMessageArguments).getBytes(detectedCharset), StandardCharsets.UTF_8);
-        } catch(UnsupportedEncodingException ignored) {}
+    private static boolean isAscii(final String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) >= 0x80) {
+                return false;
+            }
+        }
+        return true;
+    }
 
-        return formattedMessage;
+    private static Map<String, String> toMap(final ResourceBundle bundle) {
+        final Map<String, String> messages = new HashMap<>();
+        for (final String key : bundle.keySet()) {
+            messages.put(key, bundle.getString(key));
+        }
+        return messages;
     }
 
     public void setLanguage(final String languageRegionID, final String languagesDirectory) {
@@ -168,6 +310,11 @@ public class Localizer {
                 e.printStackTrace();
             }
 
+            localMessages = toMap(resourceBundle);
+            englishMessages = englishBundle == null ? localMessages : toMap(englishBundle);
+            localTemplates = new ConcurrentHashMap<>();
+            englishTemplates = new ConcurrentHashMap<>();
+
             System.out.println("Language '" + resourceBundle.getBaseBundleName() + "' loaded successfully.");
 
             notifyObservers();
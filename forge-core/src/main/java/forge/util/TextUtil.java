@@ -1,6 +1,8 @@
 package forge.util;
 
 import com.google.common.collect.ImmutableSortedMap;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
 import forge.item.IPaperCard;
 import forge.item.PaperCard;
 import org.apache.commons.lang3.ArrayUtils;
@@ -66,6 +68,18 @@ public class TextUtil {
         return obj == null ? "null" : obj.toString();
     }
 
+    private static final Interner<String> interner = Interners.newWeakInterner();
+    /**
+     * Returns one shared instance for equal strings, so the names, artists, collector numbers and
+     * keywords repeated across the card database are kept in memory once.
+     * Strings no longer used anywhere else are dropped from the pool.
+     *
+     * @param s may be null
+     */
+    public static String intern(final String s) {
+        return s == null ? null : interner.intern(s);
+    }
+
     public static String mapToString(Map<String, ?> map) {
         StringBuilder mapAsString = new StringBuilder();
         boolean isFirst = true;
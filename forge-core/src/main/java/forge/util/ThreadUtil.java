@@ -22,6 +22,9 @@ public class ThreadUtil {
 
     private final static ExecutorService gameThreadPool = Executors.newCachedThreadPool(new WorkerThreadFactory("Game"));
     private static ExecutorService getGameThreadPool() { return gameThreadPool; }
+    // AI decisions that are bound by a thinking time run here, so timed out workers are reused instead of piling up
+    private final static ExecutorService aiThreadPool = Executors.newCachedThreadPool(new WorkerThreadFactory("AI"));
+    public static ExecutorService getAiThreadPool() { return aiThreadPool; }
     private final static ScheduledExecutorService scheduledPool = Executors.newScheduledThreadPool(2, new WorkerThreadFactory("Delayed"));
     private static ScheduledExecutorService getScheduledPool() { return scheduledPool; }
 
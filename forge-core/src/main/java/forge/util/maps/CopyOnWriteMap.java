@@ -0,0 +1,112 @@
+package forge.util.maps;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import com.google.common.collect.ForwardingMap;
+
+/**
+ * Map that shares its content with other instances until it gets modified.
+ * <p>
+ * Lots of objects are created from the same parsed data and most of them never change it,
+ * so they can all read from one template. The first write copies the template into a private HashMap.
+ * While the content is shared the collection views are unmodifiable.
+ */
+public class CopyOnWriteMap<K, V> extends ForwardingMap<K, V> implements Serializable {
+    private static final long serialVersionUID = 2957120316543217312L;
+
+    private Map<K, V> delegate;
+    private boolean shared;
+
+    public CopyOnWriteMap() {
+        this.delegate = new HashMap<>();
+        this.shared = false;
+    }
+
+    /**
+     * @param template content to share, must not be changed by anyone afterwards
+     */
+    public CopyOnWriteMap(final Map<K, V> template) {
+        this.delegate = template;
+        this.shared = true;
+    }
+
+    /**
+     * @return a map with the same content, sharing it with this one until either of them is modified
+     */
+    public CopyOnWriteMap<K, V> copy() {
+        shared = true;
+        return new CopyOnWriteMap<>(delegate);
+    }
+
+    public boolean isShared() {
+        return shared;
+    }
+
+    @Override
+    protected Map<K, V> delegate() {
+        return delegate;
+    }
+
+    private Map<K, V> writable() {
+        if (shared) {
+            delegate = new HashMap<>(delegate);
+            shared = false;
+        }
+        return delegate;
+    }
+
+    @Override
+    public V put(final K key, final V value) {
+        if (shared && value != null && delegate.containsKey(key) && Objects.equals(delegate.get(key), value)) {
+            // text changes often write back the same value
+            return value;
+        }
+        return writable().put(key, value);
+    }
+
+    @Override
+    public void putAll(final Map<? extends K, ? extends V> map) {
+        if (!map.isEmpty()) {
+            writable().putAll(map);
+        }
+    }
+
+    @Override
+    public V remove(final Object key) {
+        if (shared && !delegate.containsKey(key)) {
+            return null;
+        }
+        return writable().remove(key);
+    }
+
+    @Override
+    public void clear() {
+        if (shared) {
+            delegate = new HashMap<>();
+            shared = false;
+        } else {
+            delegate.clear();
+        }
+    }
+
+    @Override
+    public Set<K> keySet() {
+        return shared ? Collections.unmodifiableSet(delegate.keySet()) : delegate.keySet();
+    }
+
+    @Override
+    public Collection<V> values() {
+        return shared ? Collections.unmodifiableCollection(delegate.values()) : delegate.values();
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        return shared ? Collections.unmodifiableSet(delegate.entrySet()) : delegate.entrySet();
+    }
+}
@@ -3,11 +3,15 @@ package forge.game;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentMap;
 
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.StringUtils;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSortedMap;
+import com.google.common.collect.MapMaker;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Lists;
 
@@ -31,6 +35,7 @@ import forge.game.trigger.Trigger;
 import forge.game.zone.ZoneType;
 import forge.util.Expressions;
 import forge.util.ITranslatable;
+import forge.util.maps.CopyOnWriteMap;
 
 /**
  * Base class for Triggers,ReplacementEffects and StaticAbilities.
@@ -44,8 +49,11 @@ public abstract class CardTraitBase implements GameObject, IHasCardView, IHasSVa
     protected KeywordInterface keyword = null;
 
     /** The map params. */
-    protected Map<String, String> originalMapParams = Maps.newHashMap(),
-            mapParams = Maps.newHashMap();
+    protected Map<String, String> originalMapParams = new CopyOnWriteMap<>(),
+            mapParams = new CopyOnWriteMap<>();
+
+    /** Templates for the immutable parsed script lines, weak and by identity like the parse results themselves. */
+    private static final ConcurrentMap<Map<String, String>, Map<String, String>> paramTemplates = new MapMaker().weakKeys().makeMap();
 
     /** The is intrinsic. */
     protected boolean intrinsic;
@@ -73,6 +81,39 @@ public abstract class CardTraitBase implements GameObject, IHasCardView, IHasSVa
             .add("TokenScript", "NewName" , "DefinedName", "ChooseFromList")
             .add("AddAbility").build();
 
+    /**
+     * Sets the params of a new trait. Params parsed from a script line are shared
+     * with every other trait made from the same line until they get changed.
+     */
+    protected final void initMapParams(final Map<String, String> params) {
+        if (!originalMapParams.isEmpty() || !mapParams.isEmpty()) {
+            originalMapParams.putAll(params);
+            mapParams.putAll(params);
+            return;
+        }
+        final CopyOnWriteMap<String, String> template;
+        if (params instanceof ImmutableSortedMap) {
+            // parsed lines ignore case, lookups on the trait stay case sensitive like they used to be for the HashMap copies
+            template = new CopyOnWriteMap<>(paramTemplates.computeIfAbsent(params, ImmutableMap::copyOf));
+        } else if (params instanceof ImmutableMap) {
+            template = new CopyOnWriteMap<>(params);
+        } else {
+            template = new CopyOnWriteMap<>();
+            template.putAll(params);
+        }
+        originalMapParams = template;
+        mapParams = template.copy();
+    }
+
+    private static Map<String, String> copyParams(final Map<String, String> params) {
+        if (params instanceof CopyOnWriteMap<String, String> cow) {
+            return cow.copy();
+        }
+        final Map<String, String> result = new CopyOnWriteMap<>();
+        result.putAll(params);
+        return result;
+    }
+
     /**
      * <p>
      * Getter for the field <code>mapParams</code>.
@@ -705,7 +746,7 @@ public abstract class CardTraitBase implements GameObject, IHasCardView, IHasSVa
             }
         }
         // this does overwrite the original MapParams
-        this.originalMapParams = Maps.newHashMap(this.mapParams);
+        this.originalMapParams = copyParams(this.mapParams);
     }
 
     public void changeText() {
@@ -737,8 +778,8 @@ public abstract class CardTraitBase implements GameObject, IHasCardView, IHasSVa
         copyHelper(copy, host, false);
     }
     protected void copyHelper(CardTraitBase copy, Card host, boolean keepTextChanges) {
-        copy.originalMapParams = Maps.newHashMap(originalMapParams);
-        copy.mapParams = Maps.newHashMap(keepTextChanges ? mapParams : originalMapParams);
+        copy.originalMapParams = copyParams(originalMapParams);
+        copy.mapParams = copyParams(keepTextChanges ? mapParams : originalMapParams);
         copy.setSVars(sVars);
         copy.setCardState(cardState);
         // dont use setHostCard to not trigger the not copied parts yet
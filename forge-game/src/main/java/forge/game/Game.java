@@ -52,15 +52,26 @@ import forge.util.collect.FCollection;
 import org.apache.commons.lang3.tuple.Pair;
 
 import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
 
 /**
  * Represents the state of a <i>single game</i>, a new instance is created for each game.
+ * <p>
+ * The game state is confined to one thread at a time, its owner. That is the thread that plays the game,
+ * or a worker it hands the game to while it waits for the result (e.g. the AI choosing a spell with a time limit).
+ * The waiting thread only continues once the worker has given the game back, also when the worker ran out of time
+ * or failed. Only a worker that doesn't stop within a short grace period after its time ran out is abandoned,
+ * the waiting thread then takes the game back and {@link #checkThread()} reports what the worker still does.
+ * The game state is not locked, other threads (GUI, network) read the {@link GameView},
+ * and changes from them go through {@link GameAction#invoke(Runnable)}.
+ * Start with <code>-Dforge.checkGameThread=true</code> to have {@link #checkThread()} report access from other threads.
  */
 public class Game {
+    private static final boolean CHECK_THREAD = Boolean.getBoolean("forge.checkGameThread");
 
-    private static int maxId = 0;
-    private static int nextId() { return ++maxId; }
+    private static final AtomicInteger maxId = new AtomicInteger();
+    private static int nextId() { return maxId.incrementAndGet(); }
 
     /** The ID. */
     private int id;
@@ -89,6 +100,7 @@ public class Game {
     private final EventBus events = new EventBus("game events");
     private final GameLog gameLog = new GameLog();
 
+    private final GameJournal journal = new GameJournal(this);
     private final Zone stackZone = new Zone(ZoneType.Stack, this);
     public int AI_TIMEOUT = 5;
     public boolean AI_CAN_USE_TIMEOUT = true;
@@ -96,10 +108,9 @@ public class Game {
     public boolean EXPERIMENTAL_RESTORE_SNAPSHOT = false;
     // While this is false here, its really set by the Match/Preferences
 
-    // If this merges with LKI In the future, it will need to change forms
-    private GameSnapshot previousGameState = null;
     private CardCollection lastStateBattlefield = new CardCollection();
     private CardCollection lastStateGraveyard = new CardCollection();
+    private final CardLKICache lastStateCache = new CardLKICache();
 
     private CardZoneTable untilHostLeavesPlayTriggerList = new CardZoneTable();
 
@@ -135,6 +146,8 @@ public class Game {
 
     private final GameView view;
     private final Tracker tracker = new Tracker();
+    private volatile Thread owner;
+    private volatile boolean stopRequested;
 
     /**
      * Gets the id.
@@ -185,31 +198,35 @@ public class Game {
     }
 
     public void stashGameState() {
-        // Take a snapshot of the current state to restore to previous state
+        // Start recording changes from here so they can be undone
         if (EXPERIMENTAL_RESTORE_SNAPSHOT) {
-            previousGameState = new GameSnapshot(this);
-            previousGameState.makeCopy();
+            journal.begin();
         }
     }
 
     public boolean restoreGameState() {
-        // Restore game state snapshot
-        if (previousGameState == null || !EXPERIMENTAL_RESTORE_SNAPSHOT) {
+        // Undo everything recorded since the last stash
+        if (!EXPERIMENTAL_RESTORE_SNAPSHOT) {
             return false;
         }
+        return journal.rollback();
+    }
 
-        previousGameState.restoreGameState(this);
-        return true;
+    public GameJournal getJournal() {
+        return journal;
     }
 
     public void copyLastState() {
         lastStateBattlefield.clear();
         lastStateGraveyard.clear();
         Map<Integer, Card> cachedMap = Maps.newHashMap();
+        // only cards that changed since the previous last state need a new copy
+        lastStateCache.begin(getPhaseHandler().getTurn());
         for (final Player p : getPlayers()) {
-            lastStateBattlefield.addAll(p.getZone(ZoneType.Battlefield).getLKICopy(cachedMap));
-            lastStateGraveyard.addAll(p.getZone(ZoneType.Graveyard).getLKICopy(cachedMap));
+            lastStateBattlefield.addAll(lastStateCache.getLKICopyList(p.getZone(ZoneType.Battlefield).getCards(), cachedMap));
+            lastStateGraveyard.addAll(lastStateCache.getLKICopyList(p.getZone(ZoneType.Graveyard).getCards(), cachedMap));
         }
+        lastStateCache.end();
     }
 
     public CardCollectionView copyLastState(ZoneType type) {
@@ -381,6 +398,23 @@ public class Game {
         return tracker;
     }
 
+    /**
+     * Games nobody watches (simulations, copies made by the AI) can turn this off,
+     * their more expensive view updates are then put off until the views are read.
+     * @see Tracker#setObserved(boolean)
+     */
+    public void setObserved(final boolean observed) {
+        tracker.setObserved(observed);
+    }
+
+    /**
+     * @return the view of the game with all updates put off while the game was not observed applied
+     */
+    public GameView materializeView() {
+        tracker.materialize();
+        return view;
+    }
+
     /**
      * Gets the players who are still fighting to win.
      */
@@ -578,11 +612,24 @@ public class Game {
         }
     }
 
+    /**
+     * Asks the thread playing the game to end it as a draw the next time a player would get priority.
+     * Can be called from any thread, unlike {@link #setGameOver(GameEndReason)}.
+     */
+    public void requestStop() {
+        stopRequested = true;
+    }
+
+    public boolean isStopRequested() {
+        return stopRequested;
+    }
+
     public Zone getZoneOf(final Card card) {
         return card == null ? null : card.getLastKnownZone();
     }
 
-    public synchronized CardCollectionView getCardsIn(final ZoneType zone) {
+    public CardCollectionView getCardsIn(final ZoneType zone) {
+        checkThread();
         if (zone == ZoneType.Stack) {
             return getStackZone().getCards();
         }
@@ -1118,6 +1165,7 @@ public class Game {
     public void clearCaches() {
         lastStateBattlefield.clear();
         lastStateGraveyard.clear();
+        lastStateCache.clear();
         //playerCache.clear();
     }
 
@@ -1378,6 +1426,34 @@ public class Game {
                 getStack().getSpellsCastThisTurn().stream().anyMatch(s -> s.getCastSA().isWarp());
     }
 
+    /**
+     * Makes the calling thread the owner of the game state.
+     * @return the previous owner, give the game back to it with {@link #releaseThread(Thread)}
+     */
+    public Thread claimThread() {
+        final Thread previous = owner;
+        owner = Thread.currentThread();
+        return previous;
+    }
+
+    public void releaseThread(final Thread previous) {
+        owner = previous;
+    }
+
+    /**
+     * Only does something when started with forge.checkGameThread, as the check is on hot paths.
+     * @throws IllegalStateException if the game state is used by a thread that doesn't own it
+     */
+    public void checkThread() {
+        if (CHECK_THREAD) {
+            final Thread current = owner;
+            if (current != null && current != Thread.currentThread()) {
+                throw new IllegalStateException("Game " + id + " is owned by " + current.getName()
+                        + " but was used by " + Thread.currentThread().getName());
+            }
+        }
+    }
+
     public int getAITimeout() {
         return AI_TIMEOUT;
     }
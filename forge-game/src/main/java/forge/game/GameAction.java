@@ -76,6 +76,10 @@ public class GameAction {
 
     private boolean holdCheckingStaticAbilities = false;
 
+    // cards whose layer tables were changed by the static abilities currently being applied
+    private int applyingStaticAbilities = 0;
+    private final Set<Card> changedByStaticAbilities = Sets.newIdentityHashSet();
+
     private final static Comparator<StaticAbility> effectOrder = Comparator.comparing(StaticAbility::isCharacteristicDefining).reversed()
             .thenComparing(StaticAbility::getTimestamp);
 
@@ -1050,6 +1054,17 @@ public class GameAction {
         return holdCheckingStaticAbilities;
     }
 
+    /**
+     * Static abilities remove and apply all their effects again on every pass,
+     * so while they do, cards only report changes to their layers once the pass is done.
+     */
+    public final boolean isApplyingStaticAbilities() {
+        return applyingStaticAbilities > 0;
+    }
+    public final void addChangedByStaticAbilities(final Card c) {
+        changedByStaticAbilities.add(c);
+    }
+
     // This doesn't check layers or if the ability gets removed by other effects
     public boolean hasStaticAbilityAffectingZone(ZoneType zone, StaticAbilityLayer layer) {
         for (final Card ca : game.getCardsIn(ZoneType.STATIC_ABILITIES_SOURCE_ZONES)) {
@@ -1082,7 +1097,21 @@ public class GameAction {
             return;
         }
         game.getTracker().freeze(); //prevent views flickering during while updating for state-based effects
+        applyingStaticAbilities++;
+        try {
+            applyStaticAbilities(runEvents, affectedCards, preList);
+        } finally {
+            if (--applyingStaticAbilities == 0) {
+                for (final Card c : changedByStaticAbilities) {
+                    c.staticAbilitiesApplied();
+                }
+                changedByStaticAbilities.clear();
+            }
+        }
+        game.getTracker().unfreeze();
+    }
 
+    private void applyStaticAbilities(final boolean runEvents, final Set<Card> affectedCards, final CardCollectionView preList) {
         final Map<StaticAbilityLayer, Set<Card>> affectedPerLayer = Maps.newHashMap();
 
         // remove old effects
@@ -1271,7 +1300,6 @@ public class GameAction {
         if (runEvents && !affectedCards.isEmpty()) {
             game.fireEvent(new GameEventCardStatsChanged(affectedCards));
         }
-        game.getTracker().unfreeze();
     }
 
     private StaticAbility findStaticAbilityToApply(StaticAbilityLayer layer, List<StaticAbility> staticsForLayer, CardCollectionView preList, Map<StaticAbility, CardCollectionView> affectedPerAbility,
@@ -1458,6 +1486,12 @@ public class GameAction {
             CardCollection sacrificeList = new CardCollection();
             PlayerCollection spaceSculptors = new PlayerCollection();
             for (final Card c : game.getCardsIn(ZoneType.Battlefield)) {
+                // unchanged since it last passed the checks below, which only look at the card itself
+                // (the version only goes up, so an equal one can't come from a later change)
+                final long stateVersion = c.getLKIVersion();
+                if (c.getStateCheckedVersion() == stateVersion) {
+                    continue;
+                }
                 boolean checkAgainCard = false;
                 if (c.hasKeyword(Keyword.SPACE_SCULPTOR)) {
                     spaceSculptors.add(c.getController());
@@ -1527,6 +1561,8 @@ public class GameAction {
                 if (checkAgainCard) {
                     cardsToUpdateLKI.add(c);
                     checkAgain = true;
+                } else if (hasOnlyOwnStateChecks(c)) {
+                    c.setStateCheckedVersion(stateVersion);
                 }
             }
             for (Card u : unAttachList) {
@@ -1657,6 +1693,24 @@ public class GameAction {
         return performedSBA;
     }
 
+    /**
+     * Whether the outcome of the battlefield checks in checkStateEffects only depends on the card itself,
+     * so it can't change as long as the card doesn't. Not the case for anything that also looks at
+     * the stack, attachments, other permanents or static abilities allowing to remove counters.
+     */
+    private static boolean hasOnlyOwnStateChecks(final Card c) {
+        if (c.isSaga() || c.isBattle() || c.isContraption() || c.isAura()
+                || c.isAttachedToEntity() || c.hasCardAttachments()) {
+            return false;
+        }
+        if ((c.getCounters(CounterEnumType.P1P1) > 0 && c.getCounters(CounterEnumType.M1M1) > 0)
+                || c.getCounters(CounterEnumType.DREAM) > 0) {
+            return false;
+        }
+        return !c.hasKeyword(Keyword.SPACE_SCULPTOR)
+                && !c.hasKeyword("The number of loyalty counters on CARDNAME is equal to the number of Beebles you control.");
+    }
+
     private boolean stateBasedAction_Saga(Card c, CardCollection sacrificeList) {
         boolean checkAgain = false;
         if (!c.isSaga() || !c.hasChapter()) {
@@ -2286,7 +2340,7 @@ public class GameAction {
 
         //shuffle
         List<Card> shuffledCards = Lists.newArrayList(p1.getZone(ZoneType.Library).getCards().threadSafeIterable());
-        Collections.shuffle(shuffledCards);
+        Collections.shuffle(shuffledCards, MyRandom.getRandom());
 
         //check a second hand
         List<Card> hand2 = shuffledCards.subList(0,p1.getMaxHandSize());
@@ -2536,7 +2590,14 @@ public class GameAction {
         if (ThreadUtil.isGameThread()) {
             proc.run();
         } else {
-            ThreadUtil.invokeInGameThread(proc);
+            ThreadUtil.invokeInGameThread(() -> {
+                final Thread previous = game.claimThread();
+                try {
+                    proc.run();
+                } finally {
+                    game.releaseThread(previous);
+                }
+            });
         }
     }
 
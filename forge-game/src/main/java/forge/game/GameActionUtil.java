@@ -934,27 +934,30 @@ public final class GameActionUtil {
         // cancel ability during target choosing
         final Game game = ability.getActivatingPlayer().getGame();
 
-        if (game.restoreGameState()) {
-            // If we're able to restore the whole game state when rolling back an ability don't try to manually roll back
+        // the journal puts the cards, players and their mana back,
+        // but the ability, its payment and the stack still need to be reset below
+        final boolean restored = game.restoreGameState();
+        if (restored) {
             System.out.println("Restored state from snapshot! Rolled back: " + ability.getHostCard().getName() + " - " + ability.getActivatingPlayer());
-
-            return;
         }
 
         if (fromZone != null && !fromZone.is(ZoneType.None)) { // and not a copy
-            // add back to where it came from, hopefully old state
-            // skip GameAction
-            oldCard.getZone().remove(oldCard);
+            // otherwise the journal already put the card back where it came from
+            if (!restored) {
+                // add back to where it came from, hopefully old state
+                // skip GameAction
+                oldCard.getZone().remove(oldCard);
 
-            // might have been an alternative lki host
-            oldCard = ability.getCardState().getCard();
+                // might have been an alternative lki host
+                oldCard = ability.getCardState().getCard();
 
-            oldCard.setCastSA(null);
-            oldCard.setCastFrom(null);
+                oldCard.setCastSA(null);
+                oldCard.setCastFrom(null);
 
-            // in some rare cases the old position no longer exists (Panglacial Wurm + Selvala)
-            Integer newPosition = zonePosition >= 0 ? Math.min(zonePosition, fromZone.size()) : null;
-            fromZone.add(oldCard, newPosition, null, true);
+                // in some rare cases the old position no longer exists (Panglacial Wurm + Selvala)
+                Integer newPosition = zonePosition >= 0 ? Math.min(zonePosition, fromZone.size()) : null;
+                fromZone.add(oldCard, newPosition, null, true);
+            }
             ability.setHostCard(oldCard);
             ability.setXManaCostPaid(null);
             ability.setSpendPhyrexianMana(false);
@@ -975,16 +978,21 @@ public final class GameActionUtil {
             //for Chorus of the Conclave
             ability.rollback();
 
-            oldCard.setBackSide(false);
-            oldCard.setState(oldCard.getFaceupCardStateName(), true);
+            if (!restored) {
+                oldCard.setBackSide(false);
+                oldCard.setState(oldCard.getFaceupCardStateName(), true);
+            }
+            // the journal doesn't record changed types and clone states
             oldCard.unanimateBestow();
 
             if (ability.hasParam("Prototype")) {
                 oldCard.removeCloneState(oldCard.getPrototypeTimestamp());
             }
 
-            for (Card c : ability.getTappedForConvoke()) {
-                c.setTapped(false);
+            if (!restored) {
+                for (Card c : ability.getTappedForConvoke()) {
+                    c.setTapped(false);
+                }
             }
         }
 
@@ -997,7 +1005,12 @@ public final class GameActionUtil {
         ability.clearTargets();
 
         ability.resetOnceResolved();
-        payment.refundPayment();
+        if (restored) {
+            // what was paid is already back
+            payment.clearPayment();
+        } else {
+            payment.refundPayment();
+        }
         game.getStack().clearFrozen();
         game.getTriggerHandler().clearWaitingTriggers();
     }
@@ -197,12 +197,18 @@ public abstract class GameEntity implements GameObject, IIdentifiable {
 
     public final void addAttachedCard(final Card c) {
         if (attachedCards.add(c)) {
+            if (getGame() != null && getGame().getJournal().isRecording()) {
+                getGame().getJournal().record(() -> removeAttachedCard(c));
+            }
             updateAttachedCards();
         }
     }
 
     public final void removeAttachedCard(final Card c) {
         if (attachedCards.remove(c)) {
+            if (getGame() != null && getGame().getJournal().isRecording()) {
+                getGame().getJournal().record(() -> addAttachedCard(c));
+            }
             updateAttachedCards();
         }
     }
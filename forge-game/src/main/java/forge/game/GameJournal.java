@@ -0,0 +1,99 @@
+package forge.game;
+
+import java.util.List;
+
+import com.google.common.collect.Lists;
+
+import forge.game.event.GameEventSnapshotRestored;
+import forge.game.player.Player;
+
+/**
+ * Records how to undo the changes made to a game since the last time a player received priority,
+ * so a spell or ability that can't be finished can be rolled back.
+ * <p>
+ * While recording, the changed objects add the inverse of each change (zone moves, tapping, counters,
+ * damage, attachments, card states) and a rollback runs them from last to first. Players are few,
+ * their life, counters and mana pool are captured whole when recording begins.
+ * Like the game snapshots used before, anything that isn't recorded isn't restored.
+ */
+public class GameJournal {
+    private final Game game;
+    private final List<Runnable> undoList = Lists.newArrayList();
+    private final List<Runnable> playerStates = Lists.newArrayList();
+    private long timestamp;
+    private boolean recording = false;
+    private boolean undoing = false;
+
+    GameJournal(final Game game) {
+        this.game = game;
+    }
+
+    /**
+     * @return whether changes should be recorded right now, callers check this before preparing the undo
+     */
+    public final boolean isRecording() {
+        return recording && !undoing;
+    }
+
+    public final int size() {
+        return undoList.size();
+    }
+
+    /**
+     * Forgets what was recorded so far and starts over from the current state.
+     */
+    public void begin() {
+        undoList.clear();
+        playerStates.clear();
+        for (final Player p : game.getPlayers()) {
+            playerStates.add(p.captureUndoState());
+        }
+        timestamp = game.getTimestamp();
+        recording = true;
+    }
+
+    public void stop() {
+        recording = false;
+        undoList.clear();
+        playerStates.clear();
+    }
+
+    public void record(final Runnable undo) {
+        if (isRecording()) {
+            undoList.add(undo);
+        }
+    }
+
+    /**
+     * Puts the game back into the state it had when recording began, recording then starts over from there.
+     * @return false if nothing was recorded
+     */
+    public boolean rollback() {
+        if (!recording) {
+            return false;
+        }
+        game.fireEvent(new GameEventSnapshotRestored(true));
+        undoing = true;
+        try {
+            for (int i = undoList.size() - 1; i >= 0; i--) {
+                undoList.get(i).run();
+            }
+            for (final Runnable playerState : playerStates) {
+                playerState.run();
+            }
+            game.dangerouslySetTimestamp(timestamp);
+        } finally {
+            undoing = false;
+            undoList.clear();
+        }
+
+        for (final Player p : game.getPlayers()) {
+            p.updateAllZonesForView();
+        }
+        if (game.getCombat() != null) {
+            game.updateCombatForView();
+        }
+        game.fireEvent(new GameEventSnapshotRestored(false));
+        return true;
+    }
+}
@@ -0,0 +1,147 @@
+package forge.game;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map.Entry;
+
+import com.google.common.collect.Lists;
+import com.google.common.eventbus.Subscribe;
+
+import forge.game.card.Card;
+import forge.game.event.*;
+import forge.game.player.Player;
+import forge.game.spellability.SpellAbility;
+import forge.game.spellability.TargetChoices;
+import forge.util.maps.MapOfLists;
+
+/**
+ * Writes the decisions of a game into a compact trace, one line per decision.
+ * <p>
+ * The decisions are taken from the game events, so the trace shows what was chosen
+ * (mulligans, lands, spells and abilities with their targets, attackers and blockers) and not how.
+ * Cards are written with their id, which only depends on the order the game creates them in.
+ * When the game is played again with the same seed and without AI time limits it has to produce the same trace,
+ * the first line that differs points to the decision where the two games went apart.
+ */
+public class GameRecorder extends IGameEventVisitor.Base<String> {
+    private final List<String> trace = Lists.newArrayList();
+    private int turn = 0;
+
+    public List<String> getTrace() {
+        return trace;
+    }
+
+    /**
+     * @return the index of the first line in which the traces differ, or -1 when they are the same
+     */
+    public static int findDivergence(final List<String> expected, final List<String> actual) {
+        final int common = Math.min(expected.size(), actual.size());
+        for (int i = 0; i < common; i++) {
+            if (!expected.get(i).equals(actual.get(i))) {
+                return i;
+            }
+        }
+        return expected.size() == actual.size() ? -1 : common;
+    }
+
+    @Override
+    public String visit(GameEventTurnBegan ev) {
+        turn = ev.turnNumber();
+        return "turn " + ev.turnOwner().getName();
+    }
+
+    @Override
+    public String visit(GameEventMulligan ev) {
+        return ev.player().getName() + " mulligan";
+    }
+
+    @Override
+    public String visit(GameEventLandPlayed ev) {
+        return ev.player().getName() + " land " + card(ev.land());
+    }
+
+    @Override
+    public String visit(GameEventSpellAbilityCast ev) {
+        final SpellAbility sa = ev.sa();
+        final StringBuilder sb = new StringBuilder();
+        sb.append(sa.getActivatingPlayer().getName());
+        sb.append(sa.isSpell() ? " cast " : sa.isActivatedAbility() ? " activate " : " trigger ");
+        sb.append(card(sa.getHostCard()));
+        for (TargetChoices tc : sa.getAllTargetChoices()) {
+            for (GameObject o : tc) {
+                sb.append(' ').append(target(o));
+            }
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public String visit(GameEventAttackersDeclared ev) {
+        if (ev.attackersMap().isEmpty()) {
+            return null;
+        }
+        final StringBuilder sb = new StringBuilder(ev.player().getName()).append(" attack");
+        for (Entry<GameEntity, Collection<Card>> e : ev.attackersMap().asMap().entrySet()) {
+            sb.append(' ').append(target(e.getKey())).append(':');
+            for (Card c : e.getValue()) {
+                sb.append(' ').append(card(c));
+            }
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public String visit(GameEventBlockersDeclared ev) {
+        final StringBuilder sb = new StringBuilder(ev.defendingPlayer().getName()).append(" block");
+        boolean any = false;
+        for (MapOfLists<Card, Card> blocks : ev.blockers().values()) {
+            for (Entry<Card, Collection<Card>> e : blocks.entrySet()) {
+                sb.append(' ').append(card(e.getKey())).append(':');
+                for (Card c : e.getValue()) {
+                    sb.append(' ').append(card(c));
+                    any = true;
+                }
+            }
+        }
+        return any ? sb.toString() : null;
+    }
+
+    @Override
+    public String visit(GameEventPlayerLivesChanged ev) {
+        return ev.player().getName() + " life " + ev.newLives();
+    }
+
+    @Override
+    public String visit(GameEventGameOutcome ev) {
+        final GameOutcome result = ev.result();
+        if (result.isDraw()) {
+            return "draw";
+        }
+        return "won " + result.getWinningLobbyPlayer().getName();
+    }
+
+    private static String card(final Card c) {
+        return c.getName() + "#" + c.getId();
+    }
+
+    private static String target(final Object o) {
+        if (o instanceof Card c) {
+            return card(c);
+        }
+        if (o instanceof Player p) {
+            return p.getName();
+        }
+        if (o instanceof SpellAbility sa) {
+            return "^" + card(sa.getHostCard());
+        }
+        return String.valueOf(o);
+    }
+
+    @Subscribe
+    public void receive(GameEvent ev) {
+        String line = ev.visit(this);
+        if (line != null) {
+            trace.add(turn + " " + line);
+        }
+    }
+}
@@ -16,6 +16,8 @@ public class GameRules {
     private boolean sideboardForAI = false;
     private final Set<GameType> appliedVariants = EnumSet.noneOf(GameType.class);
     private int simTimeout = 120;
+    // other games run in the same process at the same time, so ids shared by all games must not be reset
+    private boolean concurrentGames = false;
 
     // it's a preference, not rule... but I could hardly find a better place for it
     private boolean useGrayText;
@@ -133,4 +135,11 @@ public class GameRules {
     public void setSimTimeout(final int duration) {
         this.simTimeout = duration;
     }
+
+    public boolean hasConcurrentGames() {
+        return concurrentGames;
+    }
+    public void setConcurrentGames(final boolean concurrentGames) {
+        this.concurrentGames = concurrentGames;
+    }
 }
@@ -77,6 +77,8 @@ public class Match {
     }
 
     public void startGame(final Game game, Runnable startGameHook) {
+        // the game is played on the calling thread
+        game.claimThread();
         prepareAllZones(game);
         if (rules.useAnte()) {  // Deciding which cards go to ante
             Multimap<Player, Card> list = game.chooseCardsForAnte(rules.getMatchAnteRarity());
@@ -94,12 +96,15 @@ public class Match {
         executeOwnershipChanges(game);
 
         game.clearCaches();
+        game.releaseThread(null);
 
         // will pull UI dialog, when the UI is listening
         game.fireEvent(new GameEventGameFinished());
 
-        //run GC after game is finished
-        System.gc();
+        //run GC after game is finished, unless other games still run in this JVM, which it would stop as well
+        if (!rules.hasConcurrentGames()) {
+            System.gc();
+        }
     }
 
     public GameOutcome getOutcomeById(int id) {
@@ -218,7 +223,9 @@ public class Match {
 
     private void prepareAllZones(final Game game) {
         // need this code here, otherwise observables fail
-        Trigger.resetIDs();
+        if (!rules.hasConcurrentGames()) {
+            Trigger.resetIDs();
+        }
         game.getTriggerHandler().clearDelayedTrigger();
 
         // friendliness
@@ -185,7 +185,7 @@ public final class AbilityFactory {
         }
         String cost = mapParams.get("Cost");
         if (cost != null) {
-            return new Cost(cost, type == AbilityRecordType.Ability);
+            return Cost.parse(cost, type == AbilityRecordType.Ability);
         }
         if (type == AbilityRecordType.Spell) {
             // for a Spell if no Cost is used, use the card states ManaCost
@@ -15,8 +15,7 @@ public class SpellApiBased extends Spell {
         super(sourceCard, abCost);
         this.setTargetRestrictions(tgt);
 
-        originalMapParams.putAll(params0);
-        mapParams.putAll(params0);
+        initMapParams(params0);
         api = api0;
         effect = api.getSpellEffect();
 
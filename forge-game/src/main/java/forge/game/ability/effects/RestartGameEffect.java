@@ -35,7 +35,9 @@ public class RestartGameEffect extends SpellAbilityEffect {
 
         //Card.resetUniqueNumber();
         // need this code here, otherwise observables fail
-        forge.game.trigger.Trigger.resetIDs();
+        if (!game.getRules().hasConcurrentGames()) {
+            forge.game.trigger.Trigger.resetIDs();
+        }
         TriggerHandler trigHandler = game.getTriggerHandler();
         trigHandler.clearDelayedTrigger();
         trigHandler.clearPlayerDefinedDelayedTrigger();
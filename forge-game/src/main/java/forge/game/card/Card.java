@@ -96,7 +96,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
 
     // Hidden keywords won't be displayed on the card
     // x=timestamp y=StaticAbility id
-    private final Table<Long, Long, List<String>> hiddenExtrinsicKeywords = TreeBasedTable.create();
+    private final Table<Long, Long, List<String>> hiddenExtrinsicKeywords = tracked(TreeBasedTable.create());
 
     // cards attached or otherwise linked to this card
     private CardCollection hauntedBy, devouredCards, exploitedCards, delvedCards, imprintedCards,
@@ -121,21 +121,21 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
     // changes by AF animate and continuous static effects
 
     // x=timestamp y=StaticAbility id
-    private final Table<Long, Long, ICardChangedType> changedCardTypesByText = TreeBasedTable.create(); // Layer 3
-    private final Table<Long, Long, ICardChangedType> changedCardTypesCharacterDefining = TreeBasedTable.create(); // Layer 4 CDA
-    private final Table<Long, Long, ICardChangedType> changedCardTypes = TreeBasedTable.create(); // Layer 4
+    private final Table<Long, Long, ICardChangedType> changedCardTypesByText = tracked(TreeBasedTable.create()); // Layer 3
+    private final Table<Long, Long, ICardChangedType> changedCardTypesCharacterDefining = tracked(TreeBasedTable.create()); // Layer 4 CDA
+    private final Table<Long, Long, ICardChangedType> changedCardTypes = tracked(TreeBasedTable.create()); // Layer 4
 
-    private final Table<Long, Long, CardChangedName> changedCardNames = TreeBasedTable.create(); // Layer 3
-    private final Table<Long, Long, IKeywordsChange> changedCardKeywordsByText = TreeBasedTable.create(); // Layer 3 by Text Change
+    private final Table<Long, Long, CardChangedName> changedCardNames = tracked(TreeBasedTable.create()); // Layer 3
+    private final Table<Long, Long, IKeywordsChange> changedCardKeywordsByText = tracked(TreeBasedTable.create()); // Layer 3 by Text Change
     protected KeywordsChange changedCardKeywordsByWord = new KeywordsChange(ImmutableList.<KeywordInterface>of(), ImmutableList.<KeywordInterface>of(), false); // Layer 3 by Word Change
-    private final Table<Long, Long, KeywordsChange> changedCardKeywords = TreeBasedTable.create(); // Layer 6
+    private final Table<Long, Long, KeywordsChange> changedCardKeywords = tracked(TreeBasedTable.create()); // Layer 6
 
     // stores the keywords created by static abilities
     private final Map<Triple<String, Long, Long>, KeywordInterface> storedKeywords = Maps.newHashMap();
 
     // x=timestamp y=StaticAbility id
-    private final Table<Long, Long, CardTraitChanges> changedCardTraitsByText = TreeBasedTable.create(); // Layer 3 by Text Change
-    private final Table<Long, Long, ICardTraitChanges> changedCardTraits = TreeBasedTable.create(); // Layer 6
+    private final Table<Long, Long, CardTraitChanges> changedCardTraitsByText = tracked(TreeBasedTable.create()); // Layer 3 by Text Change
+    private final Table<Long, Long, ICardTraitChanges> changedCardTraits = tracked(TreeBasedTable.create()); // Layer 6
 
     // stores the card traits created by static abilities
     private final Table<StaticAbility, String, SpellAbility> storedSpellAbility = TreeBasedTable.create();
@@ -153,15 +153,15 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
     private final Map<Triple<String, Long, Long>, KeywordInterface> storedKeywordByText = Maps.newHashMap();
 
     // x=timestamp y=StaticAbility id
-    private final Table<Long, Long, CardColor> changedCardColorsByText = TreeBasedTable.create(); // Layer 3 by Text Change
-    private final Table<Long, Long, CardColor> changedCardColorsCharacterDefining = TreeBasedTable.create(); // Layer 5 CDA
-    private final Table<Long, Long, CardColor> changedCardColors = TreeBasedTable.create(); // Layer 5
+    private final Table<Long, Long, CardColor> changedCardColorsByText = tracked(TreeBasedTable.create()); // Layer 3 by Text Change
+    private final Table<Long, Long, CardColor> changedCardColorsCharacterDefining = tracked(TreeBasedTable.create()); // Layer 5 CDA
+    private final Table<Long, Long, CardColor> changedCardColors = tracked(TreeBasedTable.create()); // Layer 5
 
-    protected final Table<Long, Long, CardManaCost> changedCardManaCost = TreeBasedTable.create(); // Layer 3
+    protected final Table<Long, Long, CardManaCost> changedCardManaCost = tracked(TreeBasedTable.create()); // Layer 3
 
     private final NavigableMap<Long, CardCloneStates> clonedStates = Maps.newTreeMap(); // Layer 1
 
-    private final Table<Long, Long, Map<String, String>> changedSVars = TreeBasedTable.create();
+    private final Table<Long, Long, Map<String, String>> changedSVars = tracked(TreeBasedTable.create());
 
     private Map<StaticAbility, CardPlayOption> mayPlay = Maps.newHashMap();
 
@@ -269,10 +269,10 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
 
     // stack of set power/toughness
     // x=timestamp y=StaticAbility id
-    private Table<Long, Long, Pair<Integer,Integer>> newPTText = TreeBasedTable.create(); // Text Change Layer 3
-    private Table<Long, Long, Pair<Integer,Integer>> newPTCharacterDefining = TreeBasedTable.create(); // Layer 7a
-    private Table<Long, Long, Pair<Integer,Integer>> newPT = TreeBasedTable.create(); // Layer 7b
-    private Table<Long, Long, Pair<Integer,Integer>> boostPT = TreeBasedTable.create(); // Layer 7c
+    private final Table<Long, Long, Pair<Integer,Integer>> newPTText = tracked(TreeBasedTable.create()); // Text Change Layer 3
+    private final Table<Long, Long, Pair<Integer,Integer>> newPTCharacterDefining = tracked(TreeBasedTable.create()); // Layer 7a
+    private final Table<Long, Long, Pair<Integer,Integer>> newPT = tracked(TreeBasedTable.create()); // Layer 7b
+    private final Table<Long, Long, Pair<Integer,Integer>> boostPT = tracked(TreeBasedTable.create()); // Layer 7c
 
     private CardDamageHistory damageHistory = new CardDamageHistory();
     private final Map<Card, Integer> assignedDamageMap = Maps.newTreeMap();
@@ -342,6 +342,12 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
     // LKI copies of cards store CMC separately to avoid shenanigans with the game state visualization
     // breaking when the LKI object is changed to a different card state.
     private int lkiCMC = -1;
+    // bumped by changes that an LKI copy captures but that don't show up in the view
+    private long lkiVersion;
+    private long stateCheckedVersion = -1;
+    // what the static abilities did to the layer tables the last time, see staticAbilitiesApplied
+    private boolean layersChangedByStatics, layerSignatureKnown;
+    private long layerSignature;
 
     private CombatLki combatLKI;
 
@@ -424,7 +430,10 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
     public long getPrototypeTimestamp() { return prototypeTimestamp; }
 
     public long getTransformedTimestamp() { return transformedTimestamp; }
-    public void setTransformedTimestamp(long ts) { this.transformedTimestamp = ts; }
+    public void setTransformedTimestamp(long ts) {
+        lkiChanged();
+        this.transformedTimestamp = ts;
+    }
 
     // The following methods are used to selectively update certain view components (text,
     // P/T, card types) in order to avoid card flickering due to aggressive full update
@@ -542,6 +551,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
     }
 
     public void setOriginalStateAsFaceDown() {
+        lkiChanged();
         // For Ertai's Meddling a morph spell
         currentState = CardUtil.getFaceDownCharacteristic(this, CardStateName.Original);
         states.put(CardStateName.Original, currentState);
@@ -555,9 +565,11 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
     }
 
     public boolean setState(final CardStateName state, boolean updateView) {
+        lkiChanged();
         return setState(state, updateView, false);
     }
     public boolean setState(final CardStateName state, boolean updateView, boolean forceUpdate) {
+        lkiChanged();
         boolean rollback = state == CardStateName.Original
                 && (currentStateName == CardStateName.Flipped || currentStateName == CardStateName.Backside);
         boolean transform = state == CardStateName.Flipped || state == CardStateName.Backside || state == CardStateName.Meld;
@@ -587,6 +599,10 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
             this.setCloaked(null);
         }
 
+        if (isJournaling()) {
+            final CardStateName oldState = currentStateName;
+            game.getJournal().record(() -> setState(oldState, true));
+        }
         currentStateName = state;
         currentState = getState(state);
 
@@ -625,11 +641,13 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
 
     // use by CopyPermanent
     public void setStates(Map<CardStateName, CardState> map) {
+        lkiChanged();
         states.clear();
         states.putAll(map);
     }
 
     public final void addAlternateState(final CardStateName state, final boolean updateView) {
+        lkiChanged();
         states.put(state, new CardState(this, state));
         if (updateView) {
             updateStateForView();
@@ -637,6 +655,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
     }
 
     public void clearStates(final CardStateName state, boolean updateView) {
+        lkiChanged();
         if (states.remove(state) == null) {
             return;
         }
@@ -815,9 +834,11 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
     }
 
     public boolean turnFaceDown() {
+        lkiChanged();
         return turnFaceDown(false);
     }
     public boolean turnFaceDown(boolean override) {
+        lkiChanged();
         CardCollectionView cards = hasMergedCard() ? getMergedCards() : new CardCollection(this);
         boolean retResult = false;
         long ts = game.getNextTimestamp();
@@ -842,6 +863,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
     }
 
     public boolean turnFaceDownNoUpdate() {
+        lkiChanged();
         facedown = true;
         return setState(CardStateName.FaceDown, false);
     }
@@ -856,9 +878,11 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
     }
 
     public boolean turnFaceUp(SpellAbility cause) {
+        lkiChanged();
         return turnFaceUp(true, cause);
     }
     public boolean turnFaceUp(boolean runTriggers, SpellAbility cause) {
+        lkiChanged();
         if (!isFaceDown() || !canBeTurnedFaceUp()) {
             return false;
         }
@@ -997,6 +1021,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
 
     @Override
     public final void setName(final String name0) {
+        lkiChanged();
         currentState.setName(name0);
     }
 
@@ -1033,6 +1058,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
     }
 
     public void setGamePieceType(GamePieceType gamePieceType) {
+        lkiChanged();
         this.gamePieceType = gamePieceType;
         this.view.updateGamePieceType(this);
         updateTokenView();
@@ -1127,6 +1153,10 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return backside;
     }
     public final void setBackSide(boolean value) {
+        lkiChanged();
+        if (backside != value && isJournaling()) {
+            game.getJournal().record(() -> setBackSide(!value));
+        }
         backside = value;
     }
 
@@ -1146,6 +1176,10 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return facedown;
     }
     public final void setFaceDown(boolean value) {
+        lkiChanged();
+        if (facedown != value && isJournaling()) {
+            game.getJournal().record(() -> setFaceDown(!value));
+        }
         facedown = value;
     }
 
@@ -1160,6 +1194,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return flipped;
     }
     public final void setFlipped(boolean value) {
+        lkiChanged();
         flipped = value;
     }
 
@@ -1167,6 +1202,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return CardCollection.getView(devouredCards);
     }
     public final void addDevoured(final Card c) {
+        lkiChanged();
         if (devouredCards == null) {
             devouredCards = new CardCollection();
         }
@@ -1177,6 +1213,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return CardCollection.getView(exploitedCards);
     }
     public final void addExploited(final Card c) {
+        lkiChanged();
         if (exploitedCards == null) {
             exploitedCards = new CardCollection();
         }
@@ -1187,12 +1224,14 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return CardCollection.getView(delvedCards);
     }
     public final void addDelved(final Card c) {
+        lkiChanged();
         if (delvedCards == null) {
             delvedCards = new CardCollection();
         }
         delvedCards.add(c);
     }
     public final void clearDelved() {
+        lkiChanged();
         delvedCards = null;
     }
 
@@ -1226,11 +1265,13 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return rememberedObjects.contains(o);
     }
     public final <T> void addRemembered(final T o) {
+        lkiChanged();
         if (rememberedObjects.add(o)) {
             view.updateRemembered(this);
         }
     }
     public final <T> void addRemembered(final Iterable<T> objects) {
+        lkiChanged();
         boolean changed = false;
         for (T o : objects) {
             if (rememberedObjects.add(o)) {
@@ -1242,12 +1283,14 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         }
     }
     public final <T> void removeRemembered(final T o) {
+        lkiChanged();
         if (rememberedObjects.remove(o)) {
             view.updateRemembered(this);
         }
     }
 
     public final <T> void removeRemembered(final Iterable<T> list) {
+        lkiChanged();
         boolean changed = false;
         for (T o : list) {
             if (rememberedObjects.remove(o)) {
@@ -1259,6 +1302,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         }
     }
     public final void clearRemembered() {
+        lkiChanged();
         if (rememberedObjects.isEmpty()) { return; }
         rememberedObjects.clear();
         view.updateRemembered(this);
@@ -1277,22 +1321,28 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return FCollection.hasElement(imprintedCards, c);
     }
     public final void addImprintedCard(final Card c) {
+        lkiChanged();
         imprintedCards = view.addCard(imprintedCards, c, TrackableProperty.ImprintedCards);
     }
     public final void addImprintedCards(final Iterable<Card> cards) {
+        lkiChanged();
         imprintedCards = view.addCards(imprintedCards, cards, TrackableProperty.ImprintedCards);
     }
     public final void removeImprintedCard(final Card c) {
+        lkiChanged();
         imprintedCards = view.removeCard(imprintedCards, c, TrackableProperty.ImprintedCards);
     }
     public final void removeImprintedCards(final Iterable<Card> cards) {
+        lkiChanged();
         imprintedCards = view.removeCards(imprintedCards, cards, TrackableProperty.ImprintedCards);
     }
     public final void clearImprintedCards() {
+        lkiChanged();
         imprintedCards = view.clearCards(imprintedCards, TrackableProperty.ImprintedCards);
     }
 
     public final void addToChosenMap(final Player p, final CardCollection chosen) {
+        lkiChanged();
         chosenMap.put(p, chosen);
     }
     public final Map<Player, CardCollection> getChosenMap() {
@@ -1303,9 +1353,11 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return CardCollection.getView(gainControlTargets);
     }
     public final void addGainControlTarget(final Card c) {
+        lkiChanged();
         gainControlTargets = view.addCard(gainControlTargets, c, TrackableProperty.GainControlTargets);
     }
     public final void removeGainControlTargets(final Card c) {
+        lkiChanged();
         gainControlTargets = view.removeCard(gainControlTargets, c, TrackableProperty.GainControlTargets);
     }
     public final boolean hasGainControlTarget() {
@@ -1319,18 +1371,23 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return CardCollection.getView(untilLeavesBattlefield);
     }
     public final void addUntilLeavesBattlefield(final Card c) {
+        lkiChanged();
         untilLeavesBattlefield = view.addCard(untilLeavesBattlefield, c, TrackableProperty.UntilLeavesBattlefield);
     }
     public final void addUntilLeavesBattlefield(final Iterable<Card> cards) {
+        lkiChanged();
         untilLeavesBattlefield = view.addCards(untilLeavesBattlefield, cards, TrackableProperty.UntilLeavesBattlefield);
     }
     public final void removeUntilLeavesBattlefield(final Card c) {
+        lkiChanged();
         untilLeavesBattlefield = view.removeCard(untilLeavesBattlefield, c, TrackableProperty.UntilLeavesBattlefield);
     }
     public final void removeUntilLeavesBattlefield(final Iterable<Card> cards) {
+        lkiChanged();
         untilLeavesBattlefield = view.removeCards(untilLeavesBattlefield, cards, TrackableProperty.UntilLeavesBattlefield);
     }
     public final void clearUntilLeavesBattlefield() {
+        lkiChanged();
         untilLeavesBattlefield = view.clearCards(untilLeavesBattlefield, TrackableProperty.UntilLeavesBattlefield);
     }
 
@@ -1344,18 +1401,23 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return FCollection.hasElement(exiledCards, c);
     }
     public final void addExiledCard(final Card c) {
+        lkiChanged();
         exiledCards = view.addCard(exiledCards, c, TrackableProperty.ExiledCards);
     }
     public final void addExiledCards(final Iterable<Card> cards) {
+        lkiChanged();
         exiledCards = view.addCards(exiledCards, cards, TrackableProperty.ExiledCards);
     }
     public final void removeExiledCard(final Card c) {
+        lkiChanged();
         exiledCards = view.removeCard(exiledCards, c, TrackableProperty.ExiledCards);
     }
     public final void removeExiledCards(final Iterable<Card> cards) {
+        lkiChanged();
         exiledCards = view.removeCards(exiledCards, cards, TrackableProperty.ExiledCards);
     }
     public final void clearExiledCards() {
+        lkiChanged();
         exiledCards = view.clearCards(exiledCards, TrackableProperty.ExiledCards);
     }
 
@@ -1369,15 +1431,18 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return FCollection.hasElement(hauntedBy, c);
     }
     public final void addHauntedBy(Card c, final boolean update) {
+        lkiChanged();
         hauntedBy = view.addCard(hauntedBy, c, TrackableProperty.HauntedBy);
         if (c != null && update) {
             c.setHaunting(this);
         }
     }
     public final void addHauntedBy(Card c) {
+        lkiChanged();
         addHauntedBy(c, true);
     }
     public final void removeHauntedBy(Card c) {
+        lkiChanged();
         hauntedBy = view.removeCard(hauntedBy, c, TrackableProperty.HauntedBy);
     }
 
@@ -1385,6 +1450,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return haunting;
     }
     public final void setHaunting(final Card c) {
+        lkiChanged();
         haunting = view.setCard(haunting, c, TrackableProperty.Haunting);
     }
 
@@ -1392,6 +1458,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return pairedWith;
     }
     public final void setPairedWith(final Card c) {
+        lkiChanged();
         pairedWith = view.setCard(pairedWith, c, TrackableProperty.PairedWith);
     }
     public final boolean isPaired() {
@@ -1399,7 +1466,10 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
     }
 
     public Card getMeldedWith() { return meldedWith; }
-    public void setMeldedWith(Card meldedWith) { this.meldedWith = meldedWith; }
+    public void setMeldedWith(Card meldedWith) {
+        lkiChanged();
+        this.meldedWith = meldedWith;
+    }
 
     public final CardCollectionView getEncodedCards() {
         return CardCollection.getView(encodedCards);
@@ -1411,15 +1481,19 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return FCollection.hasElement(encodedCards, c);
     }
     public final void addEncodedCard(final Card c) {
+        lkiChanged();
         encodedCards = view.addCard(encodedCards, c, TrackableProperty.EncodedCards);
     }
     public final void addEncodedCards(final Iterable<Card> cards) {
+        lkiChanged();
         encodedCards = view.addCards(encodedCards, cards, TrackableProperty.EncodedCards);
     }
     public final void removeEncodedCard(final Card c) {
+        lkiChanged();
         encodedCards = view.removeCard(encodedCards, c, TrackableProperty.EncodedCards);
     }
     public final void clearEncodedCards() {
+        lkiChanged();
         encodedCards = view.clearCards(encodedCards, TrackableProperty.EncodedCards);
     }
 
@@ -1427,6 +1501,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return encoding;
     }
     public final void setEncodingCard(final Card e) {
+        lkiChanged();
         encoding = e;
     }
 
@@ -1434,6 +1509,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return CardCollection.getView(mergedCards);
     }
     public final void setMergedCards(Iterable<Card> mc) {
+        lkiChanged();
         mergedCards = new CardCollection(mc);
     }
 
@@ -1444,18 +1520,22 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return FCollection.hasElements(mergedCards);
     }
     public final void addMergedCard(final Card c) {
+        lkiChanged();
         if (mergedCards == null) {
             mergedCards = new CardCollection();
         }
         mergedCards.add(c);
     }
     public final void addMergedCardToTop(final Card c) {
+        lkiChanged();
         mergedCards.add(0, c);
     }
     public final void removeMergedCard(final Card c) {
+        lkiChanged();
         mergedCards.remove(c);
     }
     public final void clearMergedCards() {
+        lkiChanged();
         mergedCards.clear();
     }
 
@@ -1463,6 +1543,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return mergedTo;
     }
     public final void setMergedToCard(final Card c) {
+        lkiChanged();
         mergedTo = c;
     }
     public final boolean isMerged() {
@@ -1476,6 +1557,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return mutatedTimestamp;
     }
     public final void setMutatedTimestamp(final long t) {
+        lkiChanged();
         mutatedTimestamp = t;
     }
 
@@ -1483,10 +1565,12 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return timesMutated;
     }
     public final void setTimesMutated(final int t) {
+        lkiChanged();
         timesMutated = t;
     }
 
     public final void removeMutatedStates() {
+        lkiChanged();
         if (isMutated()) {
             removeCloneState(getMutatedTimestamp());
         }
@@ -1587,6 +1671,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return forView;
     }
     public final void addStoredRolls(final List<Integer> results) {
+        lkiChanged();
         if (storedRolls == null) {
             storedRolls = Lists.newArrayList();
         }
@@ -1610,12 +1695,14 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return flipResult.get(flipper);
     }
     public final void addFlipResult(final Player flipper, final String result) {
+        lkiChanged();
         if (flipResult == null) {
             flipResult = Maps.newTreeMap();
         }
         flipResult.put(flipper, result);
     }
     public final void clearFlipResult() {
+        lkiChanged();
         flipResult = null;
     }
 
@@ -1631,6 +1718,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return xManaCostPaidByColor;
     }
     public final void setXManaCostPaidByColor(final Map<String, Integer> xByColor) {
+        lkiChanged();
         xManaCostPaidByColor = xByColor;
     }
 
@@ -1650,9 +1738,11 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return blockedThisTurn;
     }
     public void addBlockedThisTurn(Card attacker) {
+        lkiChanged();
         blockedThisTurn.add(attacker);
     }
     public void clearBlockedThisTurn() {
+        lkiChanged();
         blockedThisTurn.clear();
     }
 
@@ -1660,9 +1750,11 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return blockedByThisTurn;
     }
     public void addBlockedByThisTurn(Card blocker) {
+        lkiChanged();
         blockedByThisTurn.add(blocker);
     }
     public void clearBlockedByThisTurn() {
+        lkiChanged();
         blockedByThisTurn.clear();
     }
 
@@ -1672,18 +1764,22 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return CardCollection.getView(Iterables.concat(mustBlockCards.values()));
     }
     public final void addMustBlockCard(long ts, final Card c) {
+        lkiChanged();
         mustBlockCards.put(ts, new CardCollection(c));
         view.updateMustBlockCards(this);
     }
     public final void addMustBlockCards(long ts, final Iterable<Card> attackersToBlock) {
+        lkiChanged();
         mustBlockCards.put(ts, new CardCollection(attackersToBlock));
         view.updateMustBlockCards(this);
     }
     public final void removeMustBlockCards(long ts) {
+        lkiChanged();
         mustBlockCards.remove(ts);
         view.updateMustBlockCards(this);
     }
     public final void clearMustBlockCards() {
+        lkiChanged();
         mustBlockCards.clear();
         view.updateMustBlockCards(this);
     }
@@ -1692,6 +1788,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return cloneOrigin;
     }
     public final void setCloneOrigin(final Card cloneOrigin0) {
+        lkiChanged();
         cloneOrigin = view.setCard(cloneOrigin, cloneOrigin0, TrackableProperty.CloneOrigin);
     }
 
@@ -1751,6 +1848,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
 
     @Override
     public void addCounterInternal(final CounterType counterType, final int n, final Player source, final boolean fireEvents, GameEntityCounterTable table, Map<AbilityKey, Object> params) {
+        journalCounters();
         int addAmount = n;
 
         if (addAmount <= 0 || !canReceiveCounters(counterType)) {
@@ -1867,6 +1965,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
     }
 
     public final int subtractCounter(final CounterType counterName, final int n, final Player remover, final boolean isDamage) {
+        journalCounters();
         int oldValue = getCounters(counterName);
         int newValue = max(oldValue - n, 0);
 
@@ -1930,8 +2029,17 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return delta;
     }
 
+    @Override
+    public void setCounters(final CounterType counterType, final Integer num) {
+        lkiChanged();
+        journalCounters();
+        super.setCounters(counterType, num);
+    }
+
     @Override
     public final void setCounters(final Map<CounterType, Integer> allCounters) {
+        lkiChanged();
+        journalCounters();
         boolean changed = counters.containsKey(CounterEnumType.MANABOND) || counters.keySet().stream().allMatch(CounterType::isKeywordCounter);
         counters = allCounters;
         view.updateCounters(this);
@@ -1951,6 +2059,8 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
     @Override
     public final void clearCounters() {
         if (counters.isEmpty()) { return; }
+        lkiChanged();
+        journalCounters();
         boolean changed = counters.containsKey(CounterEnumType.MANABOND) || counters.keySet().stream().allMatch(CounterType::isKeywordCounter);
 
         counters.clear();
@@ -2003,6 +2113,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
     }
 
     public final void setSVar(final String var, final String str) {
+        lkiChanged();
         currentState.setSVar(var, str);
     }
 
@@ -2017,10 +2128,12 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
     }
 
     public final void setSVars(final Map<String, String> newSVars) {
+        lkiChanged();
         currentState.setSVars(newSVars);
     }
 
     public final void removeSVar(final String var) {
+        lkiChanged();
         currentState.removeSVar(var);
     }
 
@@ -2035,6 +2148,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return turnInZone;
     }
     public final void setTurnInZone(final int turn) {
+        lkiChanged();
         turnInZone = turn;
     }
 
@@ -2046,10 +2160,12 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return turnInController;
     }
     public final void setTurnInController(final Player p) {
+        lkiChanged();
         turnInController = p;
     }
 
     public final void setManaCost(final ManaCost s) {
+        lkiChanged();
         currentState.setManaCost(s);
     }
     public final ManaCost getOriginalManaCost() {
@@ -2092,12 +2208,14 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return chosenPlayer;
     }
     public final void setChosenPlayer(final Player p) {
+        lkiChanged();
         if (chosenPlayer == p) { return; }
         chosenPlayer = p;
         view.updateChosenPlayer(this);
     }
 
     public final void setSecretChosenPlayer(final Player p) {
+        lkiChanged();
         chosenPlayer = p;
     }
     public final void revealChosenPlayer() {
@@ -2111,6 +2229,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return promisedGift;
     }
     public final void setPromisedGift(final Player p) {
+        lkiChanged();
         if (promisedGift == p) { return; }
         promisedGift = p;
         view.updatePromisedGift(this);
@@ -2120,6 +2239,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return protectingPlayer;
     }
     public final void setProtectingPlayer(final Player p) {
+        lkiChanged();
         if (protectingPlayer == p) { return; }
         protectingPlayer = p;
         view.updateProtectingPlayer(this);
@@ -2134,10 +2254,12 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
 
     public final void setChosenNumber(final int i) { setChosenNumber(i, false); }
     public final void setChosenNumber(final int i, final boolean secret) {
+        lkiChanged();
         chosenNumber = i;
         if (!secret) view.updateChosenNumber(this);
     }
     public final void clearChosenNumber() {
+        lkiChanged();
         chosenNumber = null;
         view.clearChosenNumber();
     }
@@ -2146,6 +2268,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return exiledWith;
     }
     public final void setExiledWith(final Card e) {
+        lkiChanged();
         exiledWith = view.setCard(exiledWith, e, TrackableProperty.ExiledWith);
     }
 
@@ -2165,11 +2288,13 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
 
     public final Player getExiledBy() { return exiledBy; }
     public final void setExiledBy(final Player ep) {
+        lkiChanged();
         exiledBy = ep;
     }
 
     public final SpellAbility getExiledSA() { return exiledSA;}
     public final void setExiledSA(final SpellAbility sa) {
+        lkiChanged();
         exiledSA = sa;
     }
 
@@ -2177,6 +2302,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return chosenType;
     }
     public final void setChosenType(final String s) {
+        lkiChanged();
         chosenType = s;
         view.updateChosenType(this);
     }
@@ -2185,6 +2311,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
     }
 
     public final void setSecretChosenType(final String s) {
+        lkiChanged();
         chosenType = s;
     }
     public final void revealChosenType() {
@@ -2196,6 +2323,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return chosenType2;
     }
     public final void setChosenType2(final String s) {
+        lkiChanged();
         chosenType2 = s;
         view.updateChosenType2(this);
     }
@@ -2208,6 +2336,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
     }
 
     public final void addNotedType(final String type) {
+        lkiChanged();
         notedTypes.add(type);
         view.updateNotedTypes(this);
     }
@@ -2239,6 +2368,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return chosenColors;
     }
     public final void setChosenColors(final List<String> s) {
+        lkiChanged();
         chosenColors = s;
         view.updateChosenColors(this);
     }
@@ -2263,6 +2393,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return markedColor;
     }
     public final void setMarkedColors(final ColorSet s) {
+        lkiChanged();
         markedColor = s;
         view.updateMarkedColors(this);
     }
@@ -2276,6 +2407,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return CardCollection.getView(chosenCards);
     }
     public final void setChosenCards(final Iterable<Card> cards) {
+        lkiChanged();
         chosenCards = view.setCards(chosenCards, cards, TrackableProperty.ChosenCards);
     }
     public boolean hasChosenCard() {
@@ -2289,6 +2421,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return chosenDirection;
     }
     public void setChosenDirection(Direction chosenDirection0) {
+        lkiChanged();
         if (chosenDirection == chosenDirection0) { return; }
         chosenDirection = chosenDirection0;
         view.updateChosenDirection(this);
@@ -2298,6 +2431,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return chosenMode;
     }
     public void setChosenMode(String mode) {
+        lkiChanged();
         chosenMode = mode;
         view.updateChosenMode(this);
     }
@@ -2306,6 +2440,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return currentRoom;
     }
     public void setCurrentRoom(String room) {
+        lkiChanged();
         currentRoom = room;
         view.updateCurrentRoom(this);
         updateAbilityTextForView();
@@ -2334,6 +2469,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return chosenSector;
     }
     public final void setChosenSector(final String s) {
+        lkiChanged();
         chosenSector = s;
     }
 
@@ -2341,6 +2477,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return this.sprocket;
     }
     public void setSprocket(int sprocket) {
+        lkiChanged();
         int oldSprocket = this.sprocket;
         this.sprocket = sprocket;
         view.updateSprocket(this);
@@ -2361,11 +2498,13 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return chosenName;
     }
     public final void setNamedCards(final List<String> s) {
+        lkiChanged();
         chosenName = s;
         view.updateNamedCard(this);
     }
 
     public final void addNamedCard(final String s) {
+        lkiChanged();
         chosenName.add(s);
         view.updateNamedCard(this);
     }
@@ -2382,6 +2521,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return chosenEvenOdd;
     }
     public void setChosenEvenOdd(EvenOdd chosenEvenOdd0) {
+        lkiChanged();
         if (chosenEvenOdd == chosenEvenOdd0) { return; }
         chosenEvenOdd = chosenEvenOdd0;
         view.updateChosenEvenOdd(this);
@@ -2392,6 +2532,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
     }
 
     public final void setText(final String t) {
+        lkiChanged();
         originalText = t;
         text = originalText;
     }
@@ -3386,9 +3527,11 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
     }
 
     public final void addSpellAbility(final SpellAbility a) {
+        lkiChanged();
         addSpellAbility(a, true);
     }
     public final void addSpellAbility(final SpellAbility a, final boolean updateView) {
+        lkiChanged();
         a.setHostCard(this);
         if (currentState.addSpellAbility(a) && updateView) {
             currentState.getView().updateAbilityText(this, currentState);
@@ -3511,27 +3654,32 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
     }
 
     public final void incShieldCount() {
+        lkiChanged();
         shieldCount++;
         view.updateShieldCount(this);
     }
 
     public final void decShieldCount() {
+        lkiChanged();
         shieldCount--;
         view.updateShieldCount(this);
     }
 
     public final void resetShieldCount() {
+        lkiChanged();
         shieldCount = 0;
         view.updateShieldCount(this);
     }
 
     public final void addRegeneratedThisTurn() {
+        lkiChanged();
         regeneratedThisTurn++;
     }
     public final int getRegeneratedThisTurn() {
         return regeneratedThisTurn;
     }
     public final void setRegeneratedThisTurn(final int n) {
+        lkiChanged();
         regeneratedThisTurn = n;
     }
 
@@ -3550,12 +3698,14 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return tokenCard;
     }
     public final void setTokenCard(boolean tokenC) {
+        lkiChanged();
         if (tokenCard == tokenC) { return; }
         tokenCard = tokenC;
         view.updateTokenCard(this);
     }
 
     public final void setCollectible(boolean collectible) {
+        lkiChanged();
         this.collectible = collectible;
     }
     /**
@@ -3579,6 +3729,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return copiedPermanent;
     }
     public final void setCopiedPermanent(final Card c) {
+        lkiChanged();
         if (copiedPermanent == c) { return; }
         copiedPermanent = c;
         if(c != null) {
@@ -3670,7 +3821,11 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
     }
 
     public final void setSickness(boolean sickness0) {
+        lkiChanged();
         if (sickness == sickness0) { return; }
+        if (isJournaling()) {
+            game.getJournal().record(() -> setSickness(!sickness0));
+        }
         sickness = sickness0;
         view.updateSickness(this);
     }
@@ -3691,6 +3846,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return !targetedFromThisTurn.isEmpty();
     }
     public void addTargetFromThisTurn(Player p) {
+        lkiChanged();
         targetedFromThisTurn.add(p);
     }
     public boolean isValiant(Player p) {
@@ -3701,6 +3857,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return startedTheTurnUntapped;
     }
     public void setStartedTheTurnUntapped(boolean untapped) {
+        lkiChanged();
         startedTheTurnUntapped = untapped;
     }
 
@@ -3708,6 +3865,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return cameUnderControlSinceLastUpkeep;
     }
     public void setCameUnderControlSinceLastUpkeep(boolean underControlSinceLastUpkeep) {
+        lkiChanged();
         this.cameUnderControlSinceLastUpkeep = underControlSinceLastUpkeep;
     }
 
@@ -3715,6 +3873,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return owner;
     }
     public final void setOwner(final Player owner0) {
+        lkiChanged();
         if (owner == owner0) { return; }
         if (owner != null && owner.getGame() != this.getGame()) {
             // Sanity check.
@@ -3740,6 +3899,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
     }
 
     public final void setController(final Player player, final long tstamp) {
+        lkiChanged();
         tempControllers.clear();
         controller = player;
         controllerTimestamp = tstamp;
@@ -3747,17 +3907,20 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
     }
 
     public final void addTempController(final Player player, final long tstamp) {
+        lkiChanged();
         tempControllers.put(tstamp, player);
         view.updateController(this);
     }
 
     public final void removeTempController(final long tstamp) {
+        lkiChanged();
         if (tempControllers.remove(tstamp) != null) {
             view.updateController(this);
         }
     }
 
     public final void removeTempController(final Player player) {
+        lkiChanged();
         boolean changed = false;
         // Remove each key that yields this player
         while (tempControllers.values().remove(player)) {
@@ -3769,12 +3932,14 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
     }
 
     public final void clearTempControllers() {
+        lkiChanged();
         if (tempControllers.isEmpty()) { return; }
         tempControllers.clear();
         view.updateController(this);
     }
 
     public final void clearControllers() {
+        lkiChanged();
         if (tempControllers.isEmpty() && controller == null) { return; }
         tempControllers.clear();
         controller = null;
@@ -3786,11 +3951,13 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
     }
 
     public final void addMayLookFaceDownExile(final Player p) {
+        lkiChanged();
         mayLookFaceDownExile.add(p);
         updateMayLook();
     }
 
     public final void addMayLookAt(final long timestamp, final Iterable<Player> list) {
+        lkiChanged();
         PlayerCollection plist = new PlayerCollection(list);
         mayLook.put(timestamp, plist);
         if (isFaceDown() && isInZone(ZoneType.Exile)) {
@@ -3800,12 +3967,14 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
     }
 
     public final void removeMayLookAt(final long timestamp) {
+        lkiChanged();
         if (mayLook.remove(timestamp) != null) {
             updateMayLook();
         }
     }
 
     public final void addMayLookTemp(final Player player) {
+        lkiChanged();
         if (mayLookTemp.add(player)) {
             if (isFaceDown() && isInZone(ZoneType.Exile)) {
                 mayLookFaceDownExile.add(player);
@@ -3815,6 +3984,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
     }
 
     public final void removeMayLookTemp(final Player player) {
+        lkiChanged();
         if (mayLookTemp.remove(player)) {
             updateMayLook();
         }
@@ -3856,10 +4026,12 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return result;
     }
     public final void setMayPlay(final Player player, final boolean withoutManaCost, final Cost altManaCost, final boolean withFlash, final boolean grantZonePermissions, final StaticAbility sta) {
+        lkiChanged();
         this.mayPlay.put(sta, new CardPlayOption(player, sta, withoutManaCost, altManaCost, withFlash, grantZonePermissions));
         this.updateMayPlay();
     }
     public final void removeMayPlay(final StaticAbility sta) {
+        lkiChanged();
         this.mayPlay.remove(sta);
         this.updateMayPlay();
     }
@@ -3867,10 +4039,12 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return Maps.newHashMap(mayPlay);
     }
     public final Map<StaticAbility, CardPlayOption> setMayPlay(Map<StaticAbility, CardPlayOption> mp) {
+        lkiChanged();
         return mayPlay = mp;
     }
 
     public void resetMayPlayTurn() {
+        lkiChanged();
         for (StaticAbility sta : getStaticAbilities()) {
             sta.resetMayPlayTurn();
         }
@@ -3917,11 +4091,17 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return entityAttachedTo;
     }
     public final void setEntityAttachedTo(final GameEntity e) {
+        lkiChanged();
         if (entityAttachedTo == e) { return; }
+        if (isJournaling()) {
+            final GameEntity oldAttachedTo = entityAttachedTo;
+            game.getJournal().record(() -> setEntityAttachedTo(oldAttachedTo));
+        }
         entityAttachedTo = e;
         view.updateAttachedTo(this);
     }
     public final void removeAttachedTo(final GameEntity e) {
+        lkiChanged();
         if (entityAttachedTo == e) {
             setEntityAttachedTo(null);
         }
@@ -4045,21 +4225,26 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
     }
 
     public final void setType(final CardType type0) {
+        lkiChanged();
         currentState.setType(type0);
     }
 
     public final void addType(final String type0) {
+        lkiChanged();
         currentState.addType(type0);
     }
     public final void addType(final Iterable<String> type0) {
+        lkiChanged();
         currentState.addType(type0);
     }
 
     public final void removeType(final CardType.Supertype st) {
+        lkiChanged();
         currentState.removeType(st);
     }
 
     public final void setCreatureTypes(Collection<String> ctypes) {
+        lkiChanged();
         currentState.setCreatureTypes(ctypes);
     }
 
@@ -4216,9 +4401,11 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
     }
 
     public final void setColor(final String... color) {
+        lkiChanged();
         setColor(ColorSet.fromNames(color));
     }
     public final void setColor(final ColorSet color) {
+        lkiChanged();
         currentState.setColor(color);
     }
 
@@ -4245,6 +4432,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return getCounters(CounterEnumType.LOYALTY);
     }
     public final void setBaseLoyalty(final int n) {
+        lkiChanged();
         currentState.setBaseLoyalty(Integer.toString(n));
     }
 
@@ -4252,6 +4440,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return getCounters(CounterEnumType.DEFENSE);
     }
     public final void setBaseDefense(final int n) {
+        lkiChanged();
         currentState.setBaseDefense(Integer.toString(n));
     }
 
@@ -4259,6 +4448,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return currentState.getAttractionLights();
     }
     public final void setAttractionLights(Set<Integer> attractionLights) {
+        lkiChanged();
         currentState.setAttractionLights(attractionLights);
     }
 
@@ -4269,9 +4459,11 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return currentState.getBaseToughness();
     }
     public final void setBasePower(final int n) {
+        lkiChanged();
         currentState.setBasePower(n);
     }
     public final void setBaseToughness(final int n) {
+        lkiChanged();
         currentState.setBaseToughness(n);
     }
 
@@ -4285,19 +4477,23 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
 
     // values that are printed on card
     public final void setBasePowerString(final String s) {
+        lkiChanged();
         currentState.setBasePowerString(s);
     }
     public final void setBaseToughnessString(final String s) {
+        lkiChanged();
         currentState.setBaseToughnessString(s);
     }
 
     public final void addCloneState(CardCloneStates states, final long timestamp) {
+        lkiChanged();
         clonedStates.put(timestamp, states);
         updateCloneState(true);
         updateWorldTimestamp(timestamp);
     }
 
     public final boolean removeCloneState(final long timestamp) {
+        lkiChanged();
         if (clonedStates.remove(timestamp) != null) {
             updateCloneState(true);
             updateWorldTimestamp(timestamp);
@@ -4307,6 +4503,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
     }
 
     public final boolean removeCloneState(final CardTraitBase ctb) {
+        lkiChanged();
         boolean changed = false;
         List<Long> toRemove = Lists.newArrayList();
         for (final Entry<Long, CardCloneStates> e : clonedStates.entrySet()) {
@@ -4334,6 +4531,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
     }
 
     public final boolean removeCloneStates() {
+        lkiChanged();
         if (clonedStates.isEmpty()) {
             return false;
         }
@@ -4347,6 +4545,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
     }
 
     public final void setCloneStates(Map<Long, CardCloneStates> val) {
+        lkiChanged();
         clonedStates.clear();
         clonedStates.putAll(val);
         updateCloneState(true);
@@ -4425,7 +4624,6 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
 
         removed |= newPT.remove(timestamp, staticId) != null;
         removed |= newPTCharacterDefining.remove(timestamp, staticId) != null;
-
         if (removed && updateView) {
             updatePTforView();
         }
@@ -4610,11 +4808,13 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
     }
 
     public void addDraftAction(String s) {
+        lkiChanged();
         draftActions.add(s);
     }
 
     private int intensity = 0;
     public final void addIntensity(final int n) {
+        lkiChanged();
         intensity += n;
         view.updateIntensity(this);
     }
@@ -4624,7 +4824,10 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         }
         return intensity;
     }
-    public final void setIntensity(final int n) { intensity = n; }
+    public final void setIntensity(final int n) {
+        lkiChanged();
+        intensity = n;
+    }
     public final boolean hasIntensity() {
         return intensity > 0;
     }
@@ -4638,10 +4841,12 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
     }
 
     public final void addPerpetual(PerpetualInterface p) {
+        lkiChanged();
         perpetual.add(p);
     }
 
     public final void removePerpetual(final long timestamp) {
+        lkiChanged();
         PerpetualInterface toRemove = null;
         for (PerpetualInterface p : perpetual) {
             if (p.getTimestamp() == timestamp) {
@@ -4653,10 +4858,12 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
     }
 
     public final void setPerpetual(final Card oldCard) {
+        lkiChanged();
         setPerpetual(oldCard, true);
     }
 
     public final void setPerpetual(final Card oldCard, boolean applyEffects) {
+        lkiChanged();
         perpetual = oldCard.getPerpetual();
         if (applyEffects) {
             for (PerpetualInterface p : perpetual) {
@@ -4672,7 +4879,11 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return tapped;
     }
     public final void setTapped(boolean tapped0) {
+        lkiChanged();
         if (tapped == tapped0) { return; }
+        if (isJournaling()) {
+            game.getJournal().record(() -> setTapped(!tapped0));
+        }
         tapped = tapped0;
         view.updateTapped(this);
     }
@@ -4690,9 +4901,11 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
     }
 
     public final boolean tap(boolean tapAnimation, SpellAbility cause, Player tapper) {
+        lkiChanged();
         return tap(false, tapAnimation, cause, tapper);
     }
     public final boolean tap(boolean attacker, boolean tapAnimation, SpellAbility cause, Player tapper) {
+        lkiChanged();
         if (tapped) { return false; }
 
         // Run replacement effects
@@ -4737,9 +4950,11 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
     }
 
     public final boolean untap() {
+        lkiChanged();
         return untap(null);
     }
     public final boolean untap(Player phase) {
+        lkiChanged();
         if (!tapped) { return false; }
         if (phase != null && isExertedBy(phase)) {
             return false;
@@ -4919,6 +5134,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
     }
     public final void addChangedCardTraitsByText(Collection<SpellAbility> spells,
             Collection<Trigger> trigger, Collection<ReplacementEffect> replacements, Collection<StaticAbility> statics, long timestamp, long staticId) {
+        lkiChanged();
         changedCardTraitsByText.put(timestamp, staticId, new CardTraitChanges(
             spells, null, trigger, replacements, statics, e -> true
         ));
@@ -5192,8 +5408,12 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
     public boolean clearStaticChangedCardKeywords(final boolean updateView) {
         // remove all keywords which are done by static ability, where the staticId isn't 0 (these are currently pump or animate effects)
         boolean changed = changedCardKeywords.columnKeySet().retainAll(ImmutableList.of((long)0));
-        if (changed && updateView) {
-            updateKeywords();
+        if (changed) {
+            // went through a view of the table, which doesn't track it
+            layersChanged();
+            if (updateView) {
+                updateKeywords();
+            }
         }
         return changed;
     }
@@ -5242,6 +5462,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
     }
 
     public final KeywordInterface addIntrinsicKeyword(final String s) {
+        lkiChanged();
         KeywordInterface inst = currentState.addIntrinsicKeyword(s, true);
         if (inst != null) {
             updateKeywords();
@@ -5250,21 +5471,25 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
     }
 
     public final void addIntrinsicKeywords(final Iterable<String> s) {
+        lkiChanged();
         addIntrinsicKeywords(s, true);
     }
     public final void addIntrinsicKeywords(final Iterable<String> s, boolean initTraits) {
+        lkiChanged();
         if (currentState.addIntrinsicKeywords(s, initTraits)) {
             updateKeywords();
         }
     }
 
     public final void removeIntrinsicKeyword(final String s) {
+        lkiChanged();
         if (currentState.removeIntrinsicKeyword(s)) {
             updateKeywords();
         }
     }
 
     public final void removeIntrinsicKeyword(final KeywordInterface s) {
+        lkiChanged();
         if (currentState.removeIntrinsicKeyword(s)) {
             updateKeywords();
         }
@@ -5301,6 +5526,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
             }
         }
         if (updated) {
+            layersChanged();
             updateNonAbilityTextForView();
             updateKeywords();
         }
@@ -5410,19 +5636,23 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
     }
 
     public void addCantHaveKeyword(Keyword keyword, Long timestamp) {
+        lkiChanged();
         cantHaveKeywords.put(timestamp, keyword);
         getView().updateCantHaveKeyword(this);
     }
 
     public void addCantHaveKeyword(Long timestamp, Iterable<Keyword> keywords) {
+        lkiChanged();
         cantHaveKeywords.putAll(timestamp, keywords);
         getView().updateCantHaveKeyword(this);
     }
 
     public boolean removeCantHaveKeyword(Long timestamp) {
+        lkiChanged();
         return removeCantHaveKeyword(timestamp, true);
     }
     public boolean removeCantHaveKeyword(Long timestamp, boolean updateView) {
+        lkiChanged();
         boolean change = !cantHaveKeywords.removeAll(timestamp).isEmpty();
         if (change && updateView) {
             getView().updateCantHaveKeyword(this);
@@ -5443,6 +5673,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
      *  color.
      */
     public final void addChangedTextColorWord(final String originalWord, final String newWord, final Long timestamp, final long staticId) {
+        lkiChanged();
         if (MagicColor.fromName(newWord) == 0) {
             throw new RuntimeException("Not a color: " + newWord);
         }
@@ -5452,6 +5683,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
     }
 
     public final void removeChangedTextColorWord(final Long timestamp, final long staticId) {
+        lkiChanged();
         if (changedTextColors.remove(timestamp, staticId)) {
             updateChangedText();
         }
@@ -5463,12 +5695,14 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
      * @param newWord the new type word.
      */
     public final void addChangedTextTypeWord(final String originalWord, final String newWord, final Long timestamp, final long staticId) {
+        lkiChanged();
         changedTextTypes.add(timestamp, staticId, originalWord, newWord);
         changedCardTypesByText.put(timestamp, staticId, new WordChangedType(originalWord, newWord));
         updateChangedText();
     }
 
     public final void removeChangedTextTypeWord(final Long timestamp, final long staticId) {
+        lkiChanged();
         if (changedCardTypesByText.remove(timestamp, staticId) != null) {
             updateTypeCache();
         }
@@ -5622,6 +5856,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return unearthed;
     }
     public final void setUnearthed(final boolean b) {
+        lkiChanged();
         unearthed = b;
     }
 
@@ -5635,15 +5870,18 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return phasedOut;
     }
     public final void setPhasedOut(final Player phasedOut0) {
+        lkiChanged();
         if (phasedOut == phasedOut0) { return; }
         phasedOut = phasedOut0;
         view.updatePhasedOut(this);
     }
 
     public final void phase(final boolean fromUntapStep) {
+        lkiChanged();
         phase(fromUntapStep, true);
     }
     public final void phase(final boolean fromUntapStep, final boolean direct) {
+        lkiChanged();
         final boolean phasingIn = isPhasedOut();
 
         if (!switchPhaseState(fromUntapStep)) {
@@ -5734,6 +5972,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return directlyPhasedOut;
     }
     public final void setDirectlyPhasedOut(final boolean direct) {
+        lkiChanged();
         directlyPhasedOut = direct;
     }
 
@@ -5741,6 +5980,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return wontPhaseInNormal;
     }
     public final void setWontPhaseInNormal(final boolean phaseFlag) {
+        lkiChanged();
         wontPhaseInNormal = phaseFlag;
     }
 
@@ -5828,6 +6068,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return isEmblem;
     }
     public final void setEmblem(final boolean isEmblem0) {
+        lkiChanged();
         isEmblem = isEmblem0;
         view.updateEmblem(this);
     }
@@ -5836,6 +6077,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return isBoon;
     }
     public final void setBoon(final boolean isBoon0) {
+        lkiChanged();
         isBoon = isBoon0;
         view.updateBoon(this);
     }
@@ -6000,6 +6242,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return usedToPayCost;
     }
     public final void setUsedToPay(final boolean b) {
+        lkiChanged();
         usedToPayCost = b;
     }
 
@@ -6007,6 +6250,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return damageHistory;
     }
     public void setDamageHistory(CardDamageHistory history) {
+        lkiChanged();
         damageHistory = history;
     }
 
@@ -6076,7 +6320,9 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return sum;
     }
     public final void setDamage(int damage0) {
+        lkiChanged();
         if (getDamage() == damage0) { return; }
+        journalDamage();
         damage.clear();
         if (damage0 != 0) {
             damage.put(0, damage0);
@@ -6093,6 +6339,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return hasBeenDealtDeathtouchDamage;
     }
     public final void setHasBeenDealtDeathtouchDamage(final boolean hasBeenDealtDeatchtouchDamage) {
+        lkiChanged();
         this.hasBeenDealtDeathtouchDamage = hasBeenDealtDeatchtouchDamage;
     }
 
@@ -6100,6 +6347,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return hasBeenDealtExcessDamageThisTurn;
     }
     public final void setHasBeenDealtExcessDamageThisTurn(final boolean bool) {
+        lkiChanged();
         this.hasBeenDealtExcessDamageThisTurn = bool;
     }
     public final void logExcessDamage(final int n) {
@@ -6109,9 +6357,11 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return excessDamageThisTurnAmount;
     }
     public final void setExcessDamageReceivedThisTurn(final int n) {
+        lkiChanged();
         excessDamageThisTurnAmount = n;
     }
     private void resetExcessDamage() {
+        lkiChanged();
         hasBeenDealtExcessDamageThisTurn = false;
         excessDamageThisTurnAmount = 0;
     }
@@ -6121,6 +6371,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
     }
 
     public final void addAssignedDamage(int assignedDamage0, final Card sourceCard) {
+        lkiChanged();
         // 510.1a Creatures that would assign 0 or less damage don't assign combat damage at all.
         if (assignedDamage0 <= 0) {
             return;
@@ -6134,6 +6385,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         view.updateAssignedDamage(this);
     }
     public final void clearAssignedDamage() {
+        lkiChanged();
         if (assignedDamageMap.isEmpty()) { return; }
         assignedDamageMap.clear();
         view.updateAssignedDamage(this);
@@ -6233,6 +6485,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
      */
     @Override
     public final int addDamageAfterPrevention(final int damageIn, final Card source, final SpellAbility cause, final boolean isCombat, GameEntityCounterTable counterTable) {
+        lkiChanged();
         if (damageIn <= 0) {
             return 0; // 120.8
         }
@@ -6271,6 +6524,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
                 damageType = DamageType.M1M1Counters;
             }
             else { // 120.3e
+                journalDamage();
                 int old = damage.getOrDefault(Objects.hash(source.getId(), source.getGameTimestamp()), 0);
                 damage.put(Objects.hash(source.getId(), source.getGameTimestamp()), old + damageIn);
                 view.updateDamage(this);
@@ -6314,6 +6568,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return currentState.getSetCode();
     }
     public final void setSetCode(final String setCode) {
+        lkiChanged();
         currentState.setSetCode(setCode);
     }
 
@@ -6407,6 +6662,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
 
     public final boolean isTributed() { return tributed; }
     public final void setTributed(final boolean b) {
+        lkiChanged();
         tributed = b;
     }
 
@@ -6414,6 +6670,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return tokenSpawningAbility;
     }
     public void setTokenSpawningAbility(SpellAbility sa) {
+        lkiChanged();
         tokenSpawningAbility = sa;
     }
 
@@ -6448,11 +6705,13 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
     }
 
     public void removeExertedBy(final Player player) {
+        lkiChanged();
         exertedByPlayer.remove(player);
         // removeExertedBy is called on Untap phase, where it can't be exerted yet
     }
 
     protected void resetExertedThisTurn() {
+        lkiChanged();
         exertThisTurn = 0;
         view.updateExertedThisTurn(this, false);
     }
@@ -6468,6 +6727,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return drawnThisTurn;
     }
     public final void setDrawnThisTurn(final boolean b) {
+        lkiChanged();
         drawnThisTurn = b;
     }
 
@@ -6475,6 +6735,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return foughtThisTurn;
     }
     public final void setFoughtThisTurn(final boolean b) {
+        lkiChanged();
         foughtThisTurn = b;
     }
 
@@ -6482,21 +6743,27 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return enlistedThisCombat;
     }
     public final void setEnlistedThisCombat(final boolean b) {
+        lkiChanged();
         enlistedThisCombat = b;
     }
 
     public boolean wasDiscarded() { return discarded; }
-    public void setDiscarded(boolean state) { discarded = state; }
+    public void setDiscarded(boolean state) {
+        lkiChanged();
+        discarded = state;
+    }
     public boolean wasSurveilled() {
         return this.surveilled;
     }
     public void setSurveilled(boolean value) {
+        lkiChanged();
         this.surveilled = value;
     }
     public boolean wasMilled() {
         return milled;
     }
     public void setMilled(boolean value) {
+        lkiChanged();
         milled = value;
     }
 
@@ -6504,10 +6771,12 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return ringbearer;
     }
     public final void setRingBearer(final boolean ringbearer0) {
+        lkiChanged();
         ringbearer = ringbearer0;
         view.updateRingBearer(this);
     }
     public final void clearRingBearer() {
+        lkiChanged();
         setRingBearer(false);
     }
 
@@ -6515,6 +6784,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return harnessed;
     }
     public final boolean setHarnessed(final boolean harnessed0) {
+        lkiChanged();
         harnessed = harnessed0;
         return true;
     }
@@ -6523,6 +6793,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return monstrous;
     }
     public final void setMonstrous(final boolean monstrous0) {
+        lkiChanged();
         monstrous = monstrous0;
     }
 
@@ -6530,6 +6801,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return renowned;
     }
     public final void setRenowned(final boolean renowned0) {
+        lkiChanged();
         renowned = renowned0;
     }
 
@@ -6537,6 +6809,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return solved;
     }
     public final boolean setSolved(final boolean solved) {
+        lkiChanged();
         this.solved = solved;
         return true;
     }
@@ -6548,13 +6821,16 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return saddledByThisTurn;
     }
     public final void addSaddledByThisTurn(final CardCollection saddlers) {
+        lkiChanged();
         if (saddledByThisTurn != null) saddledByThisTurn.addAll(saddlers);
         else saddledByThisTurn = saddlers;
     }
     public final void setSaddledByThisTurn(final CardCollection saddlers) {
+        lkiChanged();
         saddledByThisTurn = saddlers;
     }
     public void resetSaddled() {
+        lkiChanged();
         final boolean changed = isSaddled();
         setSaddled(false);
         if (saddledByThisTurn != null) saddledByThisTurn = null;
@@ -6565,6 +6841,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return saddled;
     }
     public final boolean setSaddled(final boolean saddled) {
+        lkiChanged();
         this.saddled = saddled;
         if (saddled) timesSaddledThisTurn++;
         return true;
@@ -6574,6 +6851,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return this.suspectedStatic;
     }
     public void setSuspectedStatic(StaticAbility stAb) {
+        lkiChanged();
         this.suspectedStatic = stAb;
     }
 
@@ -6582,6 +6860,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
     }
 
     public final boolean setSuspected(final boolean suspected) {
+        lkiChanged();
         if (suspected && StaticAbilityCantBeSuspected.cantBeSuspected(this)) {
             return false;
         }
@@ -6610,6 +6889,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return manifestedSA;
     }
     public final void setManifested(final SpellAbility sa) {
+        lkiChanged();
         this.manifestedSA = sa;
     }
 
@@ -6620,6 +6900,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return cloakedSA;
     }
     public final void setCloaked(final SpellAbility sa) {
+        lkiChanged();
         this.cloakedSA = sa;
     }
 
@@ -6635,6 +6916,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return false;
     }
     public final void setForetold(final boolean foretold) {
+        lkiChanged();
         this.foretold = foretold;
     }
 
@@ -6642,6 +6924,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return this.plotted;
     }
     public final boolean setPlotted(final boolean plotted) {
+        lkiChanged();
         this.plotted = plotted;
         if (plotted == true && !isLKI()) {
             final Map<AbilityKey, Object> runParams = AbilityKey.mapFromCard(this);
@@ -6654,6 +6937,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return foretoldCostByEffect;
     }
     public void setForetoldCostByEffect(final boolean val) {
+        lkiChanged();
         this.foretoldCostByEffect = val;
     }
 
@@ -6675,6 +6959,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return specialized;
     }
     public final void setSpecialized(final boolean bool) {
+        lkiChanged();
         specialized = bool;
         setImageKey(getPaperCard(), getCurrentStateName());
     }
@@ -6690,9 +6975,11 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return timesCrewedThisTurn;
     }
     public final void setTimesCrewedThisTurn(final int t) {
+        lkiChanged();
         this.timesCrewedThisTurn = t;
     }
     public void resetTimesCrewedThisTurn() {
+        lkiChanged();
         timesCrewedThisTurn = 0;
     }
 
@@ -6705,11 +6992,13 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         game.getTriggerHandler().runTrigger(TriggerType.BecomesCrewed, runParams, false);
     }
     public void resetCrewed() {
+        lkiChanged();
         resetTimesCrewedThisTurn();
         if (crewedByThisTurn != null) crewedByThisTurn = null;
     }
 
     public final void addCrewedByThisTurn(final CardCollection crew) {
+        lkiChanged();
         if (crewedByThisTurn != null) crewedByThisTurn.addAll(crew);
         else crewedByThisTurn = crew;
     }
@@ -6720,6 +7009,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return crewedByThisTurn;
     }
     public final void setCrewedByThisTurn(final CardCollectionView crew) {
+        lkiChanged();
         crewedByThisTurn = new CardCollection(crew);
     }
 
@@ -6738,6 +7028,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return classLevel;
     }
     public void setClassLevel(int level) {
+        lkiChanged();
         classLevel = level;
         view.updateClassLevel(this);
         updateAbilityTextForView();
@@ -6794,6 +7085,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return bestowTimestamp;
     }
     public final void setBestowTimestamp(final long t) {
+        lkiChanged();
         bestowTimestamp = t;
     }
 
@@ -6801,6 +7093,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return gameTimestamp;
     }
     public final void setGameTimestamp(final long t) {
+        lkiChanged();
         gameTimestamp = t;
         // 613.7d An object receives a timestamp at the time it enters a zone.
         layerTimestamp = t;
@@ -6810,6 +7103,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return layerTimestamp;
     }
     public final void setLayerTimestamp(final long t) {
+        lkiChanged();
         layerTimestamp = t;
     }
 
@@ -6928,6 +7222,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return currentZone;
     }
     public void setZone(Zone zone) {
+        lkiChanged();
         if (currentZone == zone) { return; }
         currentZone = zone;
         view.updateZone(this);
@@ -7073,6 +7368,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return currentState.getStaticAbilities();
     }
     public final StaticAbility addStaticAbility(final String s) {
+        lkiChanged();
         if (!s.trim().isEmpty()) {
             final StaticAbility stAb = StaticAbility.create(s, this, currentState, true);
             currentState.addStaticAbility(stAb);
@@ -7081,6 +7377,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return null;
     }
     public final StaticAbility addStaticAbility(final StaticAbility stAb) {
+        lkiChanged();
         currentState.addStaticAbility(stAb);
         return stAb;
     }
@@ -7113,6 +7410,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return currentState.getTriggers();
     }
     public final Trigger addTrigger(final Trigger t) {
+        lkiChanged();
         currentState.addTrigger(t);
         return t;
     }
@@ -7140,6 +7438,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
     }
 
     public ReplacementEffect addReplacementEffect(final ReplacementEffect replacementEffect) {
+        lkiChanged();
         currentState.addReplacementEffect(replacementEffect);
         return replacementEffect;
     }
@@ -7215,6 +7514,11 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return castFrom;
     }
     public void setCastFrom(final Zone castFrom0) {
+        lkiChanged();
+        if (isJournaling()) {
+            final Zone oldCastFrom = castFrom;
+            game.getJournal().record(() -> setCastFrom(oldCastFrom));
+        }
         castFrom = castFrom0;
     }
     public boolean wasCast() {
@@ -7235,6 +7539,11 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return castSA;
     }
     public void setCastSA(SpellAbility castSA) {
+        lkiChanged();
+        if (isJournaling()) {
+            final SpellAbility oldCastSA = this.castSA;
+            game.getJournal().record(() -> setCastSA(oldCastSA));
+        }
         this.castSA = castSA;
     }
 
@@ -7248,9 +7557,11 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return effectSourceAbility;
     }
     public void setEffectSource(Card src) {
+        lkiChanged();
         effectSource = src;
     }
     public void setEffectSource(SpellAbility sa) {
+        lkiChanged();
         effectSourceAbility = sa;
     }
 
@@ -7258,6 +7569,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return startsGameInPlay;
     }
     public void setStartsGameInPlay(boolean startsGameInPlay0) {
+        lkiChanged();
         startsGameInPlay = startsGameInPlay0;
     }
 
@@ -7279,6 +7591,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
     }
 
     public void onCleanupPhase(final Player turn) {
+        lkiChanged();
         tappedThisTurn = 0;
         setRegeneratedThisTurn(0);
         resetShieldCount();
@@ -7403,6 +7716,128 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return this.lkiCMC >= 0;
     }
 
+    private void lkiChanged() {
+        lkiVersion++;
+    }
+
+    // the layer tables bump the LKI version themselves, so their setters can't forget it
+    private <R, C, V> Table<R, C, V> tracked(final Table<R, C, V> table) {
+        return new ChangeTrackingTable<>(table, this::layersChanged);
+    }
+    private void layersChanged() {
+        if (game != null && game.getAction() != null && game.getAction().isApplyingStaticAbilities()) {
+            // only what's different once the pass is done counts as a change
+            if (!layersChangedByStatics) {
+                layersChangedByStatics = true;
+                game.getAction().addChangedByStaticAbilities(this);
+            }
+        } else {
+            lkiChanged();
+            layerSignatureKnown = false;
+        }
+    }
+
+    /**
+     * Called once the static abilities are applied, the LKI version only moves
+     * if their effects on this card are different from the last time.
+     */
+    public final void staticAbilitiesApplied() {
+        if (!layersChangedByStatics) {
+            return;
+        }
+        layersChangedByStatics = false;
+        final long signature = getLayerSignature();
+        if (!layerSignatureKnown || signature != layerSignature) {
+            lkiChanged();
+        }
+        layerSignature = signature;
+        layerSignatureKnown = true;
+    }
+
+    private long getLayerSignature() {
+        long result = 1;
+        for (Table<Long, Long, ?> table : ImmutableList.<Table<Long, Long, ?>>of(hiddenExtrinsicKeywords,
+                changedCardTypesByText, changedCardTypesCharacterDefining, changedCardTypes, changedCardNames,
+                changedCardKeywordsByText, changedCardKeywords, changedCardTraitsByText, changedCardTraits,
+                changedCardColorsByText, changedCardColorsCharacterDefining, changedCardColors, changedCardManaCost,
+                changedSVars, newPTText, newPTCharacterDefining, newPT, boostPT)) {
+            result = 31 * result + table.size();
+            for (Table.Cell<Long, Long, ?> cell : table.cellSet()) {
+                result = 31 * result + cell.getRowKey();
+                result = 31 * result + cell.getColumnKey();
+                result = 31 * result + getLayerHashCode(cell.getValue());
+            }
+        }
+        return result;
+    }
+
+    // most of the changes are created again on every pass, so compare what they contain
+    private static int getLayerHashCode(final Object change) {
+        if (change instanceof KeywordsChange kc) {
+            return kc.contentHashCode();
+        }
+        if (change instanceof CardChangedType ct) {
+            return Objects.hash(String.valueOf(ct.addType()), String.valueOf(ct.removeType()), ct.addAllCreatureTypes(), ct.remove());
+        }
+        if (change instanceof StateChangedType st) {
+            return String.valueOf(st.type()).hashCode();
+        }
+        if (change instanceof CardColor cc) {
+            return Objects.hash(cc.color() == null ? null : cc.color().getColor(), cc.additional());
+        }
+        if (change instanceof CardManaCost mc) {
+            return Objects.hash(mc.mana() == null ? null : mc.mana().getShortString(), mc.additional());
+        }
+        return Objects.hashCode(change);
+    }
+
+    private boolean isJournaling() {
+        return game != null && game.getJournal().isRecording();
+    }
+    private void journalCounters() {
+        if (isJournaling()) {
+            final Map<CounterType, Integer> oldCounters = Maps.newHashMap(counters);
+            game.getJournal().record(() -> setCounters(Maps.newHashMap(oldCounters)));
+        }
+    }
+    private void journalDamage() {
+        if (isJournaling()) {
+            final Map<Integer, Integer> oldDamage = Maps.newHashMap(damage);
+            game.getJournal().record(() -> {
+                damage.clear();
+                damage.putAll(oldDamage);
+                lkiChanged();
+                view.updateDamage(this);
+            });
+        }
+    }
+
+    /**
+     * The state-based actions that only depend on this card found nothing to do while it had this
+     * {@link #getLKIVersion() version}, so they don't need to look at it again until it changes.
+     */
+    public final long getStateCheckedVersion() {
+        return stateCheckedVersion;
+    }
+    public final void setStateCheckedVersion(final long version) {
+        stateCheckedVersion = version;
+    }
+
+    /**
+     * Changes whenever something an LKI copy of this card would capture changes,
+     * so an older copy with the same version can be used in place of a new one.
+     */
+    public final long getLKIVersion() {
+        if (layersChangedByStatics) {
+            // asked while the static abilities are still being applied, so it might be a change
+            layersChangedByStatics = false;
+            layerSignatureKnown = false;
+            lkiChanged();
+        }
+        // both counters only go up, so a version is never seen again once the card changed
+        return lkiVersion + view.getCardChangeCount();
+    }
+
     public CardRules getRules() {
         return getPaperCard() == null ? null : getPaperCard().getRules();
     }
@@ -7432,6 +7867,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return isCommander;
     }
     public void setCommander(boolean b) {
+        lkiChanged();
         if (isCommander == b) { return; }
         isCommander = b;
         view.updateCommander(this);
@@ -7455,10 +7891,12 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return canMoveToCommandZone;
     }
     public void setMoveToCommandZone(boolean b) {
+        lkiChanged();
         canMoveToCommandZone = b;
     }
 
     public void setSplitStateToPlayAbility(final SpellAbility sa) {
+        lkiChanged();
         if (isInPlay()) {
             return;
         }
@@ -7660,6 +8098,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return currentState.getOracleText();
     }
     public void setOracleText(final String oracleText) {
+        lkiChanged();
         currentState.setOracleText(oracleText);
     }
 
@@ -7757,11 +8196,13 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
     }
 
     public final void addGoad(Long timestamp, final Player p) {
+        lkiChanged();
         goad.put(timestamp, p);
         updateAbilityTextForView();
     }
 
     public final void removeGoad(Long timestamp) {
+        lkiChanged();
         if (goad.remove(timestamp) != null) {
             updateAbilityTextForView();
         }
@@ -7772,6 +8213,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
     }
 
     public final void unGoad() {
+        lkiChanged();
         goad = Maps.newTreeMap();
         updateAbilityTextForView();
     }
@@ -7806,6 +8248,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
      * @param zone last known zone information for the card.
      */
     public final void setLastKnownZone(Zone zone) {
+        lkiChanged();
         this.savedLastKnownZone = zone;
     }
 
@@ -7822,6 +8265,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
     }
 
     public void addAbilityActivated(SpellAbility ability) {
+        lkiChanged();
         numberTurnActivations.add(ability);
         numberGameActivations.add(ability);
 
@@ -7851,6 +8295,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
     }
 
     public void addAbilityResolved(SpellAbility ability) {
+        lkiChanged();
         numberAbilityResolved.add(ability);
     }
     public List<Player> getAbilityResolvedThisTurnActivators(SpellAbility ability) {
@@ -7858,6 +8303,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
     }
 
     public void resetAbilityResolvedThisTurn() {
+        lkiChanged();
         numberAbilityResolved.clear();
     }
 
@@ -7895,6 +8341,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
     }
 
     public void addChosenModes(SpellAbility ability, String mode, boolean yourCombat) {
+        lkiChanged();
         SpellAbility original = null;
         SpellAbility root = ability.getRootAbility();
 
@@ -7943,6 +8390,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
     }
 
     public void resetChosenModeTurn() {
+        lkiChanged();
         boolean updateView = !chosenModesTurn.isEmpty() || !chosenModesTurnStatic.isEmpty();
         chosenModesTurn.clear();
         chosenModesTurnStatic.clear();
@@ -7956,6 +8404,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
     }
 
     public void addPlaneswalkerAbilityActivated() {
+        lkiChanged();
         // track if increased limit was used for activation because if there are also additional ones they can count on top
         if (++planeswalkerAbilityActivated == 2 && StaticAbilityNumLoyaltyAct.limitIncrease(this)) {
             planeswalkerActivationLimitUsed = true;
@@ -7967,12 +8416,14 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
     }
 
     public void resetActivationsPerTurn() {
+        lkiChanged();
         planeswalkerAbilityActivated = 0;
         planeswalkerActivationLimitUsed = false;
         numberTurnActivations.clear();
     }
 
     public void addCanBlockAdditional(int n, long timestamp) {
+        lkiChanged();
         if (n <= 0) {
             return;
         }
@@ -7980,6 +8431,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         getView().updateBlockAdditional(this);
     }
     public boolean removeCanBlockAdditional(long timestamp) {
+        lkiChanged();
         boolean result = canBlockAdditional.remove(timestamp) != null;
         if (result) {
             getView().updateBlockAdditional(this);
@@ -7995,10 +8447,12 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
     }
 
     public void addCanBlockAny(long timestamp) {
+        lkiChanged();
         canBlockAny.add(timestamp);
         getView().updateBlockAdditional(this);
     }
     public boolean removeCanBlockAny(long timestamp) {
+        lkiChanged();
         boolean result = canBlockAny.remove(timestamp);
         if (result) {
             getView().updateBlockAdditional(this);
@@ -8010,6 +8464,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
     }
 
     public boolean removeChangedState() {
+        lkiChanged();
         boolean updateState = false;
         updateState |= removeCloneStates();
 
@@ -8076,6 +8531,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return this.unlockedRooms;
     }
     public void setUnlockedRooms(Set<CardStateName> set) {
+        lkiChanged();
         this.unlockedRooms = set;
     }
 
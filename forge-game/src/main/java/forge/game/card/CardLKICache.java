@@ -0,0 +1,86 @@
+package forge.game.card;
+
+import java.util.List;
+import java.util.Map;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+/**
+ * Remembers the LKI copies made for the last state of the battlefield and graveyards,
+ * so taking the next last state only copies the cards that changed since.
+ * <p>
+ * A copy is handed out again as long as {@link Card#getLKIVersion()} of its card is the same,
+ * and the copy itself wasn't changed since it was made, so callers that modify a copy don't affect the next last state.
+ * Cards that reference other cards in their LKI (attachments, effect source, melded or exiled with)
+ * and permanents during combat are always copied, so the copies of one last state stay consistent with each other.
+ */
+public class CardLKICache {
+    private Map<Integer, Entry> entries = Maps.newHashMap();
+    private Map<Integer, Entry> nextEntries = Maps.newHashMap();
+    private int turn = -1;
+
+    private record Entry(Card card, long version, Card lki, long lkiVersion) { }
+
+    /**
+     * Starts a new last state. Copies of an earlier turn are dropped,
+     * as cleanup resets a lot of per turn information at once.
+     */
+    public void begin(final int currentTurn) {
+        if (currentTurn != turn) {
+            entries.clear();
+            turn = currentTurn;
+        }
+        nextEntries.clear();
+    }
+
+    /**
+     * Finishes the last state, copies of cards that are no longer part of it are forgotten.
+     */
+    public void end() {
+        Map<Integer, Entry> old = entries;
+        entries = nextEntries;
+        nextEntries = old;
+        nextEntries.clear();
+    }
+
+    public void clear() {
+        entries.clear();
+        nextEntries.clear();
+        turn = -1;
+    }
+
+    public List<Card> getLKICopyList(final Iterable<Card> in, final Map<Integer, Card> cachedMap) {
+        List<Card> result = Lists.newArrayList();
+        for (final Card c : in) {
+            result.add(getLKICopy(c, cachedMap));
+        }
+        return result;
+    }
+
+    public Card getLKICopy(final Card c, final Map<Integer, Card> cachedMap) {
+        Card lki = cachedMap.get(c.getId());
+        if (lki == null) {
+            Entry entry = entries.get(c.getId());
+            if (entry != null && entry.card() == c && entry.version() == c.getLKIVersion()
+                    && entry.lkiVersion() == entry.lki().getLKIVersion() && canReuse(c)) {
+                lki = entry.lki();
+                cachedMap.put(c.getId(), lki);
+            } else {
+                lki = CardCopyService.getLKICopy(c, cachedMap);
+            }
+        }
+        // reading some of the state for the copy can update the view, so remember the version afterwards
+        nextEntries.put(c.getId(), new Entry(c, c.getLKIVersion(), lki, lki.getLKIVersion()));
+        return lki;
+    }
+
+    private static boolean canReuse(final Card c) {
+        if (c.getGame().getCombat() != null && c.isPermanent()) {
+            // the combat keeps track of the LKI of its combatants itself
+            return false;
+        }
+        return c.getEffectSource() == null && c.getEntityAttachedTo() == null && !c.hasCardAttachments()
+                && c.getMeldedWith() == null && c.getExiledWith() == null;
+    }
+}
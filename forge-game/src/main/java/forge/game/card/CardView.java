@@ -29,6 +29,9 @@ import java.util.*;
 public class CardView extends GameEntityView {
     private static final long serialVersionUID = -3624090829028979255L;
 
+    // changes of this view and the views of all states of the card, only ever goes up
+    private transient long cardChangeCount;
+
     public static CardView get(Card c) {
         return c == null ? null : c.getView();
     }
@@ -83,6 +86,19 @@ public class CardView extends GameEntityView {
         super(id0, tracker);
         set(TrackableProperty.CurrentState, new CardStateView(id0, CardStateName.Original, tracker));
     }
+
+    /**
+     * Number of property changes of this view and the state views created by it so far.
+     * Only meant to be compared against an earlier value to tell whether the card's views changed.
+     */
+    public final long getCardChangeCount() {
+        return cardChangeCount;
+    }
+
+    @Override
+    protected void propertyChanged() {
+        cardChangeCount++;
+    }
     public CardView(final int id0, final Tracker tracker, final String name0) {
         this(id0, tracker);
         getCurrentState().setName(name0);
@@ -1262,6 +1278,11 @@ public class CardView extends GameEntityView {
             state = state0;
         }
 
+        @Override
+        protected void propertyChanged() {
+            cardChangeCount++;
+        }
+
         public String getDisplayId() {
             if (getState().equals(CardStateName.FaceDown)) {
                 return "H" + getHiddenId();
@@ -1660,10 +1681,13 @@ public class CardView extends GameEntityView {
             return get(TrackableProperty.AbilityText);
         }
         void updateAbilityText(Card c, CardState state) {
-            set(TrackableProperty.AbilityText, c.getAbilityText(state));
+            updateLater(TrackableProperty.AbilityText, () -> set(TrackableProperty.AbilityText, c.getAbilityText(state)));
         }
         void updateKeywords(Card c, CardState state) {
             c.updateKeywordsCache(state);
+            updateLater(TrackableProperty.KeywordKey, () -> updateKeywordProps(c, state));
+        }
+        private void updateKeywordProps(Card c, CardState state) {
             // deeper check for Idris
             set(TrackableProperty.HasAnnihilator, c.hasKeyword(Keyword.ANNIHILATOR, state) || state.getTriggers().anyMatch(t -> t.isKeyword(Keyword.ANNIHILATOR)));
             set(TrackableProperty.HasWard, c.hasKeyword(Keyword.WARD, state) || state.getTriggers().anyMatch(t -> t.isKeyword(Keyword.WARD)));
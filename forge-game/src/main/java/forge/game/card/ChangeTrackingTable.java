@@ -0,0 +1,58 @@
+package forge.game.card;
+
+import com.google.common.collect.ForwardingTable;
+import com.google.common.collect.Table;
+
+/**
+ * A table of the changes applied to a card (types, keywords, P/T, ...) that tells the card whenever it is modified,
+ * so anything derived from it like the {@link Card#getLKIVersion() LKI version} doesn't rely on every caller.
+ * Only changes made through the table itself are seen, not changes through its row, column or cell views.
+ */
+final class ChangeTrackingTable<R, C, V> extends ForwardingTable<R, C, V> {
+    private final Table<R, C, V> delegate;
+    private final Runnable onChange;
+
+    ChangeTrackingTable(final Table<R, C, V> delegate, final Runnable onChange) {
+        this.delegate = delegate;
+        this.onChange = onChange;
+    }
+
+    @Override
+    protected Table<R, C, V> delegate() {
+        return delegate;
+    }
+
+    @Override
+    public V put(final R rowKey, final C columnKey, final V value) {
+        final V old = super.put(rowKey, columnKey, value);
+        if (old != value) {
+            onChange.run();
+        }
+        return old;
+    }
+
+    @Override
+    public void putAll(final Table<? extends R, ? extends C, ? extends V> table) {
+        if (!table.isEmpty()) {
+            super.putAll(table);
+            onChange.run();
+        }
+    }
+
+    @Override
+    public V remove(final Object rowKey, final Object columnKey) {
+        final V old = super.remove(rowKey, columnKey);
+        if (old != null) {
+            onChange.run();
+        }
+        return old;
+    }
+
+    @Override
+    public void clear() {
+        if (!isEmpty()) {
+            super.clear();
+            onChange.run();
+        }
+    }
+}
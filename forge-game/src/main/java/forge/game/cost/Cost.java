@@ -38,6 +38,8 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * <p>
@@ -59,6 +61,11 @@ public class Cost implements Serializable {
     // Primarily used for Summoning Sickness awareness
     private boolean tapCost = false;
 
+    // parsed script costs, only for the ones whose parts don't keep track of a payment
+    private static final Map<String, Cost> abilityCostTemplates = new ConcurrentHashMap<>();
+    private static final Map<String, Cost> spellCostTemplates = new ConcurrentHashMap<>();
+    private static final Cost NOT_SHAREABLE = new Cost();
+
     public final boolean hasTapCost() {
         return this.tapCost;
     }
@@ -216,6 +223,30 @@ public class Cost implements Serializable {
         this(parse, bAbility, true);
     }
 
+    /**
+     * Same as the constructor, but a cost made only of mana and (un)tapping is parsed once
+     * and every card using it gets its own copy of the template.
+     */
+    public static Cost parse(final String parse, final boolean bAbility) {
+        final Map<String, Cost> templates = bAbility ? abilityCostTemplates : spellCostTemplates;
+        Cost template = templates.get(parse);
+        if (template == null) {
+            final Cost parsed = new Cost(parse, bAbility);
+            templates.putIfAbsent(parse, parsed.isShareable() ? parsed.copy() : NOT_SHAREABLE);
+            return parsed;
+        }
+        return template == NOT_SHAREABLE ? new Cost(parse, bAbility) : template.copy();
+    }
+
+    private boolean isShareable() {
+        for (final CostPart part : costParts) {
+            if (!(part instanceof CostPartMana || part instanceof CostTap || part instanceof CostUntap)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * <p>
      * Constructor for Cost.
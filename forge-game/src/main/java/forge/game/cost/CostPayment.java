@@ -133,6 +133,19 @@ public class CostPayment extends ManaConversionMatrix {
         new ManaRefundService(this.ability).refundManaPaid();
     }
 
+    /**
+     * Forgets what was paid without giving it back, for when the game was already put back into its state before the payment.
+     */
+    public final void clearPayment() {
+        for (final CostPart part : this.paidCostParts) {
+            if (part instanceof CostPartWithList) {
+                ((CostPartWithList) part).resetLists();
+            }
+        }
+
+        new ManaRefundService(this.ability).clearManaPaid();
+    }
+
     public boolean payCost(final CostDecisionMakerBase decisionMaker) {
         adjustedCost = CostAdjustment.adjust(cost, ability, decisionMaker.isEffect());
         List<CostPart> costParts = adjustedCost.getCostPartsWithZeroMana();
@@ -17,6 +17,7 @@ import forge.game.replacement.ReplacementEffect;
 import forge.game.spellability.SpellAbility;
 import forge.game.staticability.StaticAbility;
 import forge.game.trigger.Trigger;
+import forge.util.Diagnostics;
 import forge.util.Lang;
 import io.sentry.Breadcrumb;
 import io.sentry.Sentry;
@@ -94,16 +95,7 @@ public abstract class KeywordInstance<T extends KeywordInstance<?>> implements K
         }
 
         try {
-            String msg = "KeywordInstance:createTraits: make Traits for Keyword";
-
-            Breadcrumb bread = new Breadcrumb(msg);
-            bread.setData("Card", host.getName());
-            bread.setData("Keyword", this.original);
-            Sentry.addBreadcrumb(bread);
-
-            // add Extra for debugging
-            Sentry.setExtra("Card", host.getName());
-            Sentry.setExtra("Keyword", this.original);
+            Diagnostics.record("KeywordInstance:createTraits: make Traits for Keyword", "Card", host.getName(), "Keyword", this.original);
 
             CardFactoryUtil.addTriggerAbility(this, host, intrinsic);
             CardFactoryUtil.addReplacementEffect(this, host.getCurrentState(), intrinsic);
@@ -119,10 +111,6 @@ public abstract class KeywordInstance<T extends KeywordInstance<?>> implements K
 
             //rethrow
             throw new RuntimeException("Error in Keyword " + this.original + " for card " + host.getName(), e);
-        } finally {
-            // remove added extra
-            Sentry.removeExtra("Card");
-            Sentry.removeExtra("Keyword");
         }
     }
 
@@ -145,16 +133,7 @@ public abstract class KeywordInstance<T extends KeywordInstance<?>> implements K
             staticAbilities.clear();
         }
         try {
-            String msg = "KeywordInstance:createTraits: make Traits for Keyword";
-
-            Breadcrumb bread = new Breadcrumb(msg);
-            bread.setData("Player", player.getName());
-            bread.setData("Keyword", this.original);
-            Sentry.addBreadcrumb(bread);
-
-            // add Extra for debugging
-            Sentry.setExtra("Player", player.getName());
-            Sentry.setExtra("Keyword", this.original);
+            Diagnostics.record("KeywordInstance:createTraits: make Traits for Keyword", "Player", player.getName(), "Keyword", this.original);
 
             PlayerFactoryUtil.addTriggerAbility(this, player);
             PlayerFactoryUtil.addReplacementEffect(this, player);
@@ -170,10 +149,6 @@ public abstract class KeywordInstance<T extends KeywordInstance<?>> implements K
 
             //rethrow
             throw new RuntimeException("Error in Keyword " + this.original + " for player " + player.getName(), e);
-        } finally {
-            // remove added extra
-            Sentry.removeExtra("Player");
-            Sentry.removeExtra("Keyword");
         }
     }
     /*
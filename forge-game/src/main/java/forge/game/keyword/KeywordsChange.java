@@ -190,6 +190,22 @@ public class KeywordsChange implements ICardTraitChanges, IKeywordsChange, Clone
         }
     }
 
+    /**
+     * @return a hash of what this change does, static abilities reuse their keyword instances
+     * so it stays the same when they apply the change again.
+     */
+    public int contentHashCode() {
+        int result = Boolean.hashCode(removeAllKeywords);
+        result = 31 * result + removeKeywords.hashCode();
+        for (KeywordInterface k : keywords.getValues()) {
+            result = 31 * result + System.identityHashCode(k);
+        }
+        for (KeywordInterface k : removeKeywordInterfaces) {
+            result = 31 * result + System.identityHashCode(k);
+        }
+        return result;
+    }
+
     public boolean hasTraits() {
         for (KeywordInterface k : this.keywords.getValues()) {
             if (k.hasTraits()) {
@@ -54,4 +54,18 @@ public class ManaRefundService {
             p.getGame().fireEvent(new GameEventZone(ZoneType.Battlefield, p, EventValueChangeType.ComplexUpdate, null));
         }
     }
+
+    /**
+     * Forgets the mana paid and the mana abilities used for it, without giving anything back.
+     */
+    public void clearManaPaid() {
+        sa.getPayingMana().clear();
+
+        for (final SpellAbility am : sa.getPayingManaAbilities()) {
+            new ManaRefundService(am).clearManaPaid();
+            sa.getHostCard().getGame().getStack().clearUndoStack(am);
+        }
+
+        sa.getPayingManaAbilities().clear();
+    }
 }
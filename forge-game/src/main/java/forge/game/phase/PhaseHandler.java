@@ -1166,6 +1166,10 @@ public class PhaseHandler implements java.io.Serializable {
     }
 
     private boolean checkStateBasedEffects() {
+        if (game.isStopRequested()) {
+            game.setGameOver(GameEndReason.Draw);
+            return true;
+        }
         final Set<Card> allAffectedCards = new HashSet<>();
         do {
             // Rule 704.3  Whenever a player would get priority, the game checks ... for state-based actions,
@@ -35,6 +35,7 @@ import forge.game.card.*;
 import forge.game.event.*;
 import forge.game.keyword.*;
 import forge.game.keyword.KeywordCollection.KeywordCollectionView;
+import forge.game.mana.Mana;
 import forge.game.mana.ManaPool;
 import forge.game.phase.PhaseHandler;
 import forge.game.phase.PhaseType;
@@ -1761,6 +1762,36 @@ public class Player extends GameEntity implements Comparable<Player> {
         view.updateMana(this);
     }
 
+    /**
+     * @return puts life, counters, mana pool and the per turn counts that paying for a spell
+     * can change back to what they are now, without any replacement effects or triggers
+     */
+    public Runnable captureUndoState() {
+        final int oldLife = life;
+        final int oldLifeLost = lifeLostThisTurn;
+        final int oldLifeGained = lifeGainedThisTurn;
+        final int oldLandsPlayed = landsPlayedThisTurn;
+        final int oldCrimes = committedCrimeThisTurn;
+        final int oldExpent = expentThisTurn;
+        final Map<CounterType, Integer> oldCounters = Maps.newHashMap(counters);
+        final List<Mana> oldMana = Lists.newArrayList(manaPool);
+        return () -> {
+            life = oldLife;
+            lifeLostThisTurn = oldLifeLost;
+            lifeGainedThisTurn = oldLifeGained;
+            landsPlayedThisTurn = oldLandsPlayed;
+            committedCrimeThisTurn = oldCrimes;
+            expentThisTurn = oldExpent;
+            setCounters(Maps.newHashMap(oldCounters));
+            manaPool.resetPool();
+            for (Mana m : oldMana) {
+                manaPool.addMana(m, false);
+            }
+            view.updateLife(this);
+            updateManaForView();
+        };
+    }
+
     public final int getNumPowerSurgeLands() {
         return numPowerSurgeLands;
     }
@@ -20,6 +20,7 @@ package forge.game.replacement;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.google.common.collect.*;
 
@@ -47,8 +48,8 @@ import forge.util.TextUtil;
  *
  */
 public abstract class ReplacementEffect extends TriggerReplacementBase {
-    private static int maxId = 0;
-    private static int nextId() { return ++maxId; }
+    private static final AtomicInteger maxId = new AtomicInteger();
+    private static int nextId() { return maxId.incrementAndGet(); }
 
     /** The ID. */
     private int id;
@@ -103,8 +104,7 @@ public abstract class ReplacementEffect extends TriggerReplacementBase {
     public ReplacementEffect(final Map<String, String> map, final Card host, final boolean intrinsic) {
         this.id = nextId();
         this.intrinsic = intrinsic;
-        originalMapParams.putAll(map);
-        mapParams.putAll(map);
+        initMapParams(map);
         this.setHostCard(host);
         if (map.containsKey("Layer")) {
             this.setLayer(ReplacementLayer.smartValueOf(map.get("Layer")));
@@ -80,8 +80,7 @@ public final class AbilitySub extends SpellAbility implements java.io.Serializab
 
         api = api0;
         if (params0 != null) {
-            originalMapParams.putAll(params0);
-            mapParams.putAll(params0);
+            initMapParams(params0);
         }
 
         effect = api.getSpellEffect();
@@ -22,6 +22,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.google.common.collect.*;
 
@@ -51,8 +52,8 @@ import forge.util.*;
  * The Class StaticAbility.
  */
 public class StaticAbility extends CardTraitBase implements IIdentifiable, Cloneable, Comparable<StaticAbility> {
-    private static int maxId = 0;
-    private static int nextId() { return ++maxId; }
+    private static final AtomicInteger maxId = new AtomicInteger();
+    private static int nextId() { return maxId.incrementAndGet(); }
 
     private int id;
 
@@ -245,8 +246,7 @@ public class StaticAbility extends CardTraitBase implements IIdentifiable, Clone
      */
     private StaticAbility(final Map<String, String> params, final Card host, CardState state) {
         this.id = nextId();
-        this.originalMapParams.putAll(params);
-        this.mapParams.putAll(params);
+        initMapParams(params);
         this.hostCard = host;
         this.setCardState(state);
         if (hasParam("EffectZone")) {
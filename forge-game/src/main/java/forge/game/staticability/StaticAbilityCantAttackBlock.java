@@ -325,7 +325,7 @@ public class StaticAbilityCantAttackBlock {
             }
         }
 
-        Cost cost = new Cost(costString, true);
+        Cost cost = Cost.parse(costString, true);
 
         if (stAb.hasParam("Trigger")) {
             cost.getCostParts().get(0).setTrigger(stAb.getPayingTrigSA());
@@ -360,7 +360,7 @@ public class StaticAbilityCantAttackBlock {
             }
         }
 
-        return new Cost(costString, true);
+        return Cost.parse(costString, true);
     }
 
     public static boolean canAttackHaste(final Card attacker, final GameEntity defender) {
@@ -947,7 +947,7 @@ public final class StaticAbilityContinuous {
             validActivator.add(c.getController());
         }
         final Card sourceCard = stAb.getHostCard();
-        Cost cost = new Cost(costString, true);
+        Cost cost = Cost.parse(costString, true);
         final AbilityStatic addIgnore = new AbilityStatic(sourceCard, cost, null) {
 
             @Override
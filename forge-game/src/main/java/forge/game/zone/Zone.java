@@ -70,11 +70,19 @@ public class Zone implements java.io.Serializable, Iterable<Card> {
     protected void onChanged() {
     }
 
+    private void journalOrder() {
+        if (game.getJournal().isRecording()) {
+            final List<Card> oldOrder = new ArrayList<>(cardList);
+            game.getJournal().record(() -> setCards(oldOrder));
+        }
+    }
+
     public Player getPlayer() { // generic zones like stack have no player associated
         return null;
     }
 
     public final void reorder(final Card c, final int index) {
+        journalOrder();
         cardList.remove(c);
         cardList.add(index, c);
     }
@@ -130,6 +138,13 @@ public class Zone implements java.io.Serializable, Iterable<Card> {
             }
         }
 
+        if (game.getJournal().isRecording()) {
+            final Zone previousZone = c.getZone();
+            game.getJournal().record(() -> {
+                remove(c);
+                c.setZone(previousZone);
+            });
+        }
         c.setZone(this);
 
         if ((zoneType == ZoneType.Battlefield || !c.isToken()) || (zoneType == ZoneType.Stack && c.getCopiedPermanent() != null)) {
@@ -153,6 +168,17 @@ public class Zone implements java.io.Serializable, Iterable<Card> {
     }
 
     public void remove(final Card c) {
+        // only look for the position when it has to be restored, outside of journaled simulations remove runs a lot
+        if (game.getJournal().isRecording()) {
+            final int index = cardList.indexOf(c);
+            if (index >= 0) {
+                game.getJournal().record(() -> {
+                    cardList.add(Math.min(index, cardList.size()), c);
+                    onChanged();
+                    game.fireEvent(new GameEventZone(zoneType, getPlayer(), EventValueChangeType.Added, c));
+                });
+            }
+        }
         if (cardList.remove(c)) {
             onChanged();
             game.fireEvent(new GameEventZone(zoneType, getPlayer(), EventValueChangeType.Removed, c));
@@ -160,6 +186,7 @@ public class Zone implements java.io.Serializable, Iterable<Card> {
     }
 
     public final void setCards(final Iterable<Card> cards) {
+        journalOrder();
         cardList.clear();
         for (Card c : cards) {
             c.setZone(this);
@@ -281,6 +308,7 @@ public class Zone implements java.io.Serializable, Iterable<Card> {
     }
 
     public void shuffle() {
+        journalOrder();
         Collections.shuffle(cardList, MyRandom.getRandom());
         onChanged();
     }
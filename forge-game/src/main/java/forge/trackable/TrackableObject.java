@@ -5,6 +5,7 @@ import java.util.EnumMap;
 import java.util.EnumSet;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Objects;
 import java.util.Set;
 
 import forge.game.IIdentifiable;
@@ -39,6 +40,12 @@ public abstract class TrackableObject implements IIdentifiable, Serializable {
         return tracker;
     }
 
+    /**
+     * Called for every property change, including changes delayed by a frozen tracker.
+     */
+    protected void propertyChanged() {
+    }
+
     @Override
     public int hashCode() {
         return id;
@@ -57,6 +64,9 @@ public abstract class TrackableObject implements IIdentifiable, Serializable {
 
     @SuppressWarnings("unchecked")
     protected final <T> T get(final TrackableProperty key) {
+        if (tracker != null) {
+            tracker.refresh(this);
+        }
         T value = (T)props.get(key);
         if (value == null) {
             value = key.getDefaultValue();
@@ -65,7 +75,7 @@ public abstract class TrackableObject implements IIdentifiable, Serializable {
     }
 
     protected final <T> void set(final TrackableProperty key, final T value) {
-        if (tracker != null && tracker.isFrozen()) { //if trackable objects currently frozen, queue up delayed prop change
+        if (tracker != null && tracker.delaysChanges()) { //if trackable objects currently frozen, queue up delayed prop change
             boolean respectsFreeze = false;
             if (key.getFreezeMode() == TrackableProperty.FreezeMode.RespectsFreeze) {
                 respectsFreeze = true;
@@ -73,22 +83,42 @@ public abstract class TrackableObject implements IIdentifiable, Serializable {
                 respectsFreeze = (props.get(key) != null);
             }
             if (respectsFreeze) {
+                // static abilities set the same values again on every pass, that isn't a change
+                final Object current = props.containsKey(key) ? props.get(key) : key.getDefaultValue();
+                if (!Objects.equals(value == null ? key.getDefaultValue() : value, current)) {
+                    propertyChanged();
+                }
                 tracker.addDelayedPropChange(this, key, value);
                 return;
             }
         }
         if (value == null || value.equals(key.getDefaultValue())) {
             if (props.remove(key) != null) {
+                propertyChanged();
                 changedProps.add(key);
                 key.updateObjLookup(tracker, value);
             }
         }
         else if (!value.equals(props.put(key, value))) {
+            propertyChanged();
             changedProps.add(key);
             key.updateObjLookup(tracker, value);
         }
     }
 
+    /**
+     * Runs an update of properties derived from the game object. While the game is not observed
+     * (see {@link Tracker#setObserved}) it is put off until this object is read or the views are materialized,
+     * the key tells which earlier updates it makes unnecessary.
+     */
+    protected final void updateLater(final Object key, final Runnable update) {
+        if (tracker == null || tracker.runsUpdatesNow()) {
+            update.run();
+        } else {
+            tracker.addStaleUpdate(this, key, update);
+        }
+    }
+
     public final void updateObjLookup() {
         for (final Entry<TrackableProperty, Object> prop : props.entrySet()) {
             prop.getKey().updateObjLookup(tracker, prop.getValue());
@@ -109,6 +139,7 @@ public abstract class TrackableObject implements IIdentifiable, Serializable {
 
     //use when updating collection type properties with using set
     protected final void flagAsChanged(final TrackableProperty key) {
+        propertyChanged();
         changedProps.add(key);
         key.updateObjLookup(tracker, props.get(key));
     }
@@ -1,6 +1,9 @@
 package forge.trackable;
 
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import com.google.common.collect.HashBasedTable;
 import com.google.common.collect.Lists;
@@ -12,12 +15,80 @@ public class Tracker {
     private int freezeCounter = 0;
     private final List<DelayedPropChange> delayedPropChanges = Lists.newArrayList();
 
+    // while nobody observes the game, updates of derived view properties wait here until they are read
+    private boolean observed = true;
+    private boolean materializing = false;
+    // by identity, the views of all states of a card are equal as they share the card's id
+    private final Map<TrackableObject, Map<Object, Runnable>> staleObjects = new IdentityHashMap<>();
+
     private final Table<TrackableType<?>, Integer, Object> objLookups = HashBasedTable.create();
 
     public final boolean isFrozen() {
         return freezeCounter > 0;
     }
 
+    final boolean runsUpdatesNow() {
+        return observed || materializing;
+    }
+
+    final boolean delaysChanges() {
+        // updates put off while unobserved are applied when they run, whatever the freeze state
+        return freezeCounter > 0 && !materializing;
+    }
+
+    public final boolean isObserved() {
+        return observed;
+    }
+
+    /**
+     * Headless games (simulations, AI games nobody watches) set this to false,
+     * the more expensive view updates are then only done when somebody reads the object.
+     * Setting it back to true brings all views up to date.
+     */
+    public void setObserved(final boolean observed0) {
+        observed = observed0;
+        if (observed) {
+            materialize();
+        }
+    }
+
+    final void addStaleUpdate(final TrackableObject object, final Object key, final Runnable update) {
+        // a later update with the same key replaces the earlier one, both recompute the same properties
+        staleObjects.computeIfAbsent(object, o -> new LinkedHashMap<>(4)).put(key, update);
+    }
+
+    final void refresh(final TrackableObject object) {
+        if (staleObjects.isEmpty()) {
+            return;
+        }
+        final Map<Object, Runnable> updates = staleObjects.remove(object);
+        if (updates != null) {
+            runUpdates(updates);
+        }
+    }
+
+    /**
+     * Runs all view updates that were put off while the game was unobserved.
+     */
+    public void materialize() {
+        while (!staleObjects.isEmpty()) {
+            final TrackableObject object = staleObjects.keySet().iterator().next();
+            runUpdates(staleObjects.remove(object));
+        }
+    }
+
+    private void runUpdates(final Map<Object, Runnable> updates) {
+        final boolean wasMaterializing = materializing;
+        materializing = true;
+        try {
+            for (final Runnable update : updates.values()) {
+                update.run();
+            }
+        } finally {
+            materializing = wasMaterializing;
+        }
+    }
+
     public void freeze() {
         freezeCounter++;
     }
@@ -0,0 +1,64 @@
+package forge.benchmark;
+
+import static forge.benchmark.BenchmarkGame.repeat;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import forge.game.Game;
+
+/**
+ * A full turn of two AI players, from upkeep until the next player's turn starts.
+ * Every invocation plays the same turn on a fresh copy of the scenario.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g", "--add-opens", "java.base/java.lang=ALL-UNNAMED", "--add-opens", "java.base/java.util=ALL-UNNAMED"})
+public class AiTurnBenchmark {
+    private static final int MAX_STEPS = 1000;
+
+    private Game game;
+
+    @Setup(Level.Invocation)
+    public void setup() {
+        game = BenchmarkGame.create(
+                "turn=5",
+                "activeplayer=ai",
+                "activephase=UPKEEP",
+                "humanlife=20",
+                "ailife=20",
+                "aihand=Lightning Bolt;Grizzly Bears;Giant Growth;Llanowar Elves;Shock",
+                "ailibrary=" + repeat("Mountain", 5) + ";" + repeat("Forest", 5),
+                "aibattlefield=" + repeat("Mountain", 3) + ";" + repeat("Forest", 3) + ";Goblin Piker;Craw Wurm",
+                "humanhand=Savannah Lions;Swords to Plowshares;Pacifism",
+                "humanlibrary=" + repeat("Plains", 10),
+                "humanbattlefield=" + repeat("Plains", 5) + ";Serra Angel;Wall of Omens;Grizzly Bears",
+                "removesummoningsickness=true"
+        );
+    }
+
+    @Benchmark
+    public int playTurn() {
+        int turn = game.getPhaseHandler().getTurn();
+        int steps = 0;
+        while (!game.isGameOver() && game.getPhaseHandler().getTurn() == turn && steps < MAX_STEPS) {
+            game.getPhaseHandler().mainLoopStep();
+            steps++;
+        }
+        return steps;
+    }
+}
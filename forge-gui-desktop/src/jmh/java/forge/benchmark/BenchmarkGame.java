@@ -0,0 +1,129 @@
+package forge.benchmark;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+
+import com.google.common.collect.Lists;
+
+import forge.GuiDesktop;
+import forge.ai.GameState;
+import forge.ai.LobbyPlayerAi;
+import forge.deck.Deck;
+import forge.game.Game;
+import forge.game.GameRules;
+import forge.game.GameStage;
+import forge.game.GameType;
+import forge.game.Match;
+import forge.game.card.Card;
+import forge.game.player.Player;
+import forge.game.player.RegisteredPlayer;
+import forge.game.zone.ZoneType;
+import forge.gui.GuiBase;
+import forge.item.IPaperCard;
+import forge.localinstance.properties.ForgePreferences.FPref;
+import forge.model.FModel;
+import forge.util.MyRandom;
+import forge.util.ThreadUtil;
+
+/**
+ * Sets up the games the benchmarks run on.
+ * <p>
+ * Every scenario is a {@link GameState} in the puzzle format between two AI players,
+ * and the random generator is seeded, so the same scenario does the same work on every commit.
+ */
+public final class BenchmarkGame {
+    public static final long SEED = 20240229L;
+
+    private static boolean initialized = false;
+
+    private BenchmarkGame() {
+    }
+
+    private static synchronized void initialize() {
+        if (initialized) {
+            return;
+        }
+        GuiBase.setInterface(new GuiDesktop());
+        FModel.initialize(null, preferences -> {
+            preferences.setPref(FPref.LOAD_CARD_SCRIPTS_LAZILY, false);
+            preferences.setPref(FPref.UI_LANGUAGE, "en-US");
+            return null;
+        });
+        initialized = true;
+    }
+
+    /**
+     * @param state lines of a puzzle [state] section, human is the first player and ai the second
+     */
+    public static Game create(final String... state) {
+        initialize();
+        MyRandom.setRandom(new Random(SEED));
+
+        List<RegisteredPlayer> players = Lists.newArrayList();
+        Deck deck = new Deck();
+        players.add(new RegisteredPlayer(deck).setPlayer(new LobbyPlayerAi("human", null)));
+        players.add(new RegisteredPlayer(deck).setPlayer(new LobbyPlayerAi("ai", null)));
+        GameRules rules = new GameRules(GameType.Constructed);
+        Match match = new Match(rules, players, "Benchmark");
+        Game game = new Game(players, rules, match);
+        game.setAge(GameStage.Play);
+        game.EXPERIMENTAL_RESTORE_SNAPSHOT = false;
+        // no thinking time limits, they would make the work depend on the machine
+        game.AI_CAN_USE_TIMEOUT = false;
+
+        GameState gameState = new GameState() {
+            @Override
+            public IPaperCard getPaperCard(final String cardName, final String setCode, final int artID) {
+                return FModel.getMagicDb().getCommonCards().getCard(cardName, setCode, artID);
+            }
+        };
+        gameState.parse(Arrays.asList(state));
+        // the state is applied on the game thread, wait for it to be done
+        FutureTask<Void> apply = new FutureTask<>(() -> gameState.applyToGame(game), null);
+        ThreadUtil.invokeInGameThread(apply);
+        try {
+            apply.get();
+        } catch (InterruptedException | ExecutionException e) {
+            throw new IllegalStateException("Could not set up the scenario", e);
+        }
+        return game;
+    }
+
+    public static Player human(final Game game) {
+        return game.getPlayers().get(0);
+    }
+
+    public static Player ai(final Game game) {
+        return game.getPlayers().get(1);
+    }
+
+    public static Card findCard(final Game game, final String name) {
+        for (Card c : game.getCardsInGame()) {
+            if (c.getName().equals(name)) {
+                return c;
+            }
+        }
+        throw new IllegalStateException(name + " is not part of the scenario");
+    }
+
+    public static List<Card> findCards(final Player player, final ZoneType zone, final String name) {
+        List<Card> result = Lists.newArrayList();
+        for (Card c : player.getCardsIn(zone)) {
+            if (c.getName().equals(name)) {
+                result.add(c);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return the given card text count times, separated for a zone line
+     */
+    public static String repeat(final String card, final int count) {
+        return String.join(";", Collections.nCopies(count, card));
+    }
+}
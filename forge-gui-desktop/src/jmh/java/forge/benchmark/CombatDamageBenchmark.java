@@ -0,0 +1,64 @@
+package forge.benchmark;
+
+import static forge.benchmark.BenchmarkGame.repeat;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import forge.game.Game;
+import forge.game.card.Card;
+import forge.game.combat.Combat;
+import forge.game.zone.ZoneType;
+
+/**
+ * Combat damage assignment with trampling attackers that are blocked by several creatures each,
+ * so the attacking AI has to divide the damage.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g", "--add-opens", "java.base/java.lang=ALL-UNNAMED", "--add-opens", "java.base/java.util=ALL-UNNAMED"})
+public class CombatDamageBenchmark {
+    private Combat combat;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Game game = BenchmarkGame.create(
+                "turn=5",
+                "activeplayer=ai",
+                "activephase=COMBAT_DECLARE_ATTACKERS",
+                "humanlife=20",
+                "ailife=20",
+                "aibattlefield=" + repeat("Colossal Dreadmaw|Attacking", 3) + ";Craw Wurm|Attacking",
+                "humanbattlefield=" + repeat("Grizzly Bears", 6) + ";" + repeat("Wall of Omens", 3) + ";" + repeat("Savannah Lions", 3)
+        );
+        combat = game.getCombat();
+        List<Card> attackers = combat.getAttackers();
+        List<Card> blockers = BenchmarkGame.human(game).getCardsIn(ZoneType.Battlefield);
+        for (int i = 0; i < blockers.size(); i++) {
+            Card attacker = attackers.get(i % attackers.size());
+            combat.addBlocker(attacker, blockers.get(i));
+            combat.setBlocked(attacker, true);
+        }
+        combat.orderBlockersForDamageAssignment();
+    }
+
+    @Benchmark
+    public boolean assignCombatDamage() {
+        return combat.assignCombatDamage(false);
+    }
+}
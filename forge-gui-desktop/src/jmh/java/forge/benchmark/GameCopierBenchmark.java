@@ -0,0 +1,59 @@
+package forge.benchmark;
+
+import static forge.benchmark.BenchmarkGame.repeat;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import forge.ai.simulation.GameCopier;
+import forge.game.Game;
+
+/**
+ * Copying a mid game board, like the simulating AI does for every option it looks at.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g", "--add-opens", "java.base/java.lang=ALL-UNNAMED", "--add-opens", "java.base/java.util=ALL-UNNAMED"})
+public class GameCopierBenchmark {
+    private Game game;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        game = BenchmarkGame.create(
+                "turn=7",
+                "activeplayer=ai",
+                "activephase=MAIN1",
+                "humanlife=14",
+                "ailife=11",
+                "aihand=Lightning Bolt;Counterspell;Grizzly Bears;Giant Growth",
+                "ailibrary=" + repeat("Island", 20),
+                "aigraveyard=Shock;Opt;Llanowar Elves",
+                "aibattlefield=" + repeat("Island", 3) + ";" + repeat("Mountain", 3) + ";Forest;Goblin King;Raging Goblin|Counters:P1P1=2;"
+                        + "Prodigal Sorcerer;Serra Angel;Bonesplitter",
+                "humanhand=Wrath of God;Swords to Plowshares;Plains",
+                "humanlibrary=" + repeat("Plains", 20),
+                "humangraveyard=Savannah Lions;Disenchant",
+                "humanbattlefield=" + repeat("Plains", 5) + ";" + repeat("Forest", 2) + ";Glorious Anthem;Soul Warden;"
+                        + "Grizzly Bears|Tapped;Wall of Omens;Baneslayer Angel"
+        );
+    }
+
+    @Benchmark
+    public Game makeCopy() {
+        return new GameCopier(game).makeCopy();
+    }
+}
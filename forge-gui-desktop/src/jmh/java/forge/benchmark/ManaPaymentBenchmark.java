@@ -0,0 +1,56 @@
+package forge.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import forge.ai.ComputerUtilMana;
+import forge.game.Game;
+import forge.game.player.Player;
+import forge.game.spellability.SpellAbility;
+
+/**
+ * The AI mana payment search for a spell with colored requirements and a mix of lands, dual lands and mana creatures.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g", "--add-opens", "java.base/java.lang=ALL-UNNAMED", "--add-opens", "java.base/java.util=ALL-UNNAMED"})
+public class ManaPaymentBenchmark {
+    private Player ai;
+    private SpellAbility spell;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Game game = BenchmarkGame.create(
+                "turn=5",
+                "activeplayer=ai",
+                "activephase=MAIN1",
+                "humanlife=20",
+                "ailife=20",
+                "aihand=Cryptic Command",
+                "aibattlefield=Island;Swamp;Forest;Watery Grave;Hallowed Fountain;Breeding Pool;Birds of Paradise;"
+                        + "Llanowar Elves;Sol Ring;City of Brass",
+                "removesummoningsickness=true"
+        );
+        ai = BenchmarkGame.ai(game);
+        spell = BenchmarkGame.findCard(game, "Cryptic Command").getFirstSpellAbility();
+    }
+
+    @Benchmark
+    public boolean canPayManaCost() {
+        return ComputerUtilMana.canPayManaCost(spell, ai, 0, false);
+    }
+}
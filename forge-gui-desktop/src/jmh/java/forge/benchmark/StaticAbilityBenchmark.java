@@ -0,0 +1,56 @@
+package forge.benchmark;
+
+import static forge.benchmark.BenchmarkGame.repeat;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import forge.game.Game;
+
+/**
+ * Continuous effects and state-based actions on a board full of lords and anthems,
+ * where nothing changes between the checks.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g", "--add-opens", "java.base/java.lang=ALL-UNNAMED", "--add-opens", "java.base/java.util=ALL-UNNAMED"})
+public class StaticAbilityBenchmark {
+    private Game game;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        game = BenchmarkGame.create(
+                "turn=3",
+                "activeplayer=ai",
+                "activephase=MAIN1",
+                "humanlife=20",
+                "ailife=20",
+                "aibattlefield=" + repeat("Llanowar Elves", 12) + ";" + repeat("Elvish Champion", 3) + ";" + repeat("Glorious Anthem", 2),
+                "humanbattlefield=" + repeat("Goblin Piker", 10) + ";" + repeat("Goblin King", 2) + ";Crusade;Bad Moon"
+        );
+    }
+
+    @Benchmark
+    public void checkStaticAbilities() {
+        game.getAction().checkStaticAbilities(false);
+    }
+
+    @Benchmark
+    public boolean checkStateEffects() {
+        return game.getAction().checkStateEffects(false);
+    }
+}
@@ -0,0 +1,92 @@
+package forge.benchmark;
+
+import static forge.benchmark.BenchmarkGame.repeat;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import forge.game.Game;
+import forge.game.ability.AbilityKey;
+import forge.game.card.Card;
+import forge.game.replacement.ReplacementEffect;
+import forge.game.replacement.ReplacementLayer;
+import forge.game.replacement.ReplacementType;
+import forge.game.trigger.TriggerType;
+import forge.game.zone.ZoneType;
+
+/**
+ * Dispatching a zone change trigger and looking up replacement effects
+ * on a board with many cards that trigger on or replace those events.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g", "--add-opens", "java.base/java.lang=ALL-UNNAMED", "--add-opens", "java.base/java.util=ALL-UNNAMED"})
+public class TriggerReplacementBenchmark {
+    private Game game;
+    private Card mover;
+    private Card source;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        game = BenchmarkGame.create(
+                "turn=3",
+                "activeplayer=ai",
+                "activephase=MAIN1",
+                "humanlife=20",
+                "ailife=20",
+                "aihand=Grizzly Bears",
+                "aibattlefield=" + repeat("Soul Warden", 4) + ";" + repeat("Blood Artist", 2) + ";" + repeat("Furnace of Rath", 2)
+                        + ";Torbran, Thane of Red Fell;Grim Lavamancer;" + repeat("Mountain", 6),
+                "humanbattlefield=" + repeat("Soul Warden", 2) + ";Doubling Season;Energy Field;" + repeat("Plains", 6)
+        );
+        mover = BenchmarkGame.findCard(game, "Grizzly Bears");
+        source = BenchmarkGame.findCard(game, "Grim Lavamancer");
+    }
+
+    @Benchmark
+    public boolean triggerDispatch() {
+        final Map<AbilityKey, Object> runParams = AbilityKey.mapFromCard(mover);
+        runParams.put(AbilityKey.CardLKI, mover);
+        runParams.put(AbilityKey.Origin, ZoneType.Hand.name());
+        runParams.put(AbilityKey.Destination, ZoneType.Battlefield.name());
+        game.getTriggerHandler().runTrigger(TriggerType.ChangesZone, runParams, false);
+        // forget the triggered abilities again, only collecting them is measured
+        boolean triggered = game.getStack().hasSimultaneousStackEntries();
+        game.getStack().clearSimultaneousStack();
+        return triggered;
+    }
+
+    @Benchmark
+    public List<ReplacementEffect> damageReplacementLookup() {
+        final Map<AbilityKey, Object> repParams = AbilityKey.mapFromAffected(BenchmarkGame.human(game));
+        repParams.put(AbilityKey.DamageSource, source);
+        repParams.put(AbilityKey.DamageAmount, 3);
+        repParams.put(AbilityKey.IsCombat, false);
+        repParams.put(AbilityKey.NoPreventDamage, false);
+        return game.getReplacementHandler().getReplacementList(ReplacementType.DamageDone, repParams, ReplacementLayer.Other);
+    }
+
+    @Benchmark
+    public List<ReplacementEffect> etbReplacementLookup() {
+        final Map<AbilityKey, Object> repParams = AbilityKey.mapFromAffected(mover);
+        repParams.put(AbilityKey.Origin, ZoneType.Hand);
+        repParams.put(AbilityKey.Destination, ZoneType.Battlefield);
+        return game.getReplacementHandler().getReplacementList(ReplacementType.Moved, repParams, ReplacementLayer.Other);
+    }
+}
@@ -22,7 +22,9 @@ import forge.Singletons;
 import forge.error.ExceptionHandler;
 import forge.gui.GuiBase;
 import forge.gui.card.CardReaderExperiments;
+import forge.gui.error.SentryDiagnosticsSink;
 import forge.util.BuildInfo;
+import forge.util.Diagnostics;
 import io.sentry.Sentry;
 
 /**
@@ -61,6 +63,9 @@ public final class Main {
 
         // Start splash screen first, then data models, then controller.
         if (args.length == 0) {
+            // only interactive sessions report errors, headless modes below record no diagnostics
+            Diagnostics.install(new SentryDiagnosticsSink());
+            Diagnostics.setSampleInterval(SentryDiagnosticsSink.SAMPLE_INTERVAL);
             Singletons.initializeOnce(true);
 
             // Controller can now step in and take over.
@@ -76,6 +81,10 @@ public final class Main {
                 SimulateMatch.simulate(args);
                 break;
 
+            case "tune":
+                TuneAiProfile.tune(args);
+                break;
+
             case "parse":
                 CardReaderExperiments.parseAllCards(args);
                 break;
@@ -85,7 +94,7 @@ public final class Main {
                 break;
 
             default:
-                System.out.println("Unknown mode.\nKnown mode is 'sim', 'parse' ");
+                System.out.println("Unknown mode.\nKnown modes are 'sim', 'tune', 'parse' ");
                 break;
         }
 
@@ -15,6 +15,7 @@ import forge.game.Game;
 import forge.game.GameEndReason;
 import forge.game.GameLogEntry;
 import forge.game.GameLogEntryType;
+import forge.game.GameRecorder;
 import forge.game.GameRules;
 import forge.game.GameType;
 import forge.game.Match;
@@ -29,6 +30,7 @@ import forge.localinstance.properties.ForgeConstants;
 import forge.model.FModel;
 import forge.player.GamePlayerUtil;
 import forge.util.Lang;
+import forge.util.MyRandom;
 import forge.util.TextUtil;
 import forge.util.WordUtil;
 import forge.util.storage.IStorage;
@@ -38,9 +40,29 @@ public class SimulateMatch {
         FModel.initialize(null, null);
 
         System.out.println("Simulation mode");
+        if (args.length == 3 && "-R".equals(args[1])) {
+            replay(args[2]);
+            return;
+        }
+        simulate(args, null);
+    }
+
+    private static void replay(String filename) {
+        SimulationRecording replay = SimulationRecording.load(filename);
+        System.out.println("Replaying " + replay);
+        if (!simulate(replay.getArgs(), replay)) {
+            System.out.flush();
+            System.exit(1);
+        }
+    }
+
+    /**
+     * @return false if a replayed game did not make the recorded decisions
+     */
+    private static boolean simulate(String[] args, SimulationRecording replay) {
         if (args.length < 4) {
             argumentHelp();
-            return;
+            return true;
         }
 
         final Map<String, List<String>> params = new HashMap<>();
@@ -54,7 +76,7 @@ public class SimulateMatch {
                 if (a.length() < 2) {
                     System.err.println("Error at argument " + a);
                     argumentHelp();
-                    return;
+                    return true;
                 }
 
                 options = new ArrayList<>();
@@ -63,10 +85,35 @@ public class SimulateMatch {
                 options.add(a);
             } else {
                 System.err.println("Illegal parameter usage");
-                return;
+                return true;
             }
         }
 
+        for (String option : new String[] { "r", "s" }) {
+            if (params.containsKey(option) && params.get(option).isEmpty()) {
+                System.err.println("Missing value for argument -" + option);
+                argumentHelp();
+                return true;
+            }
+        }
+
+        // the random generator is only seeded on request, the same seed and decks make the same game
+        Long seed = null;
+        if (replay != null) {
+            seed = replay.getSeed();
+        } else if (params.containsKey("s")) {
+            seed = Long.parseLong(params.get("s").get(0));
+        } else if (params.containsKey("r")) {
+            seed = System.nanoTime();
+        }
+        if (seed != null) {
+            MyRandom.setRandom(new Random(seed));
+        }
+        SimulationRecording recording = null;
+        if (params.containsKey("r")) {
+            recording = new SimulationRecording(seed, withoutOptions(args, "r", "s"));
+        }
+
         int nGames = 1;
         if (params.containsKey("n")) {
             // Number of games should only be a single string
@@ -96,7 +143,7 @@ public class SimulateMatch {
         if (params.containsKey("t")) {
             simulateTournament(params, rules, outputGamelog);
             System.out.flush();
-            return;
+            return true;
         }
 
         List<RegisteredPlayer> pp = new ArrayList<>();
@@ -109,7 +156,7 @@ public class SimulateMatch {
                 Deck d = deckFromCommandLineParameter(deck, type);
                 if (d == null) {
                     System.out.println(TextUtil.concatNoSpace("Could not load deck - ", deck, ", match cannot start"));
-                    return;
+                    return true;
                 }
                 if (i > 1) {
                     sb.append(" vs ");
@@ -139,25 +186,64 @@ public class SimulateMatch {
         System.out.println(sb.toString());
 
         Match mc = new Match(rules, pp, "Test");
-
-        if (matchSize != 0) {
-            int iGame = 0;
-            while (!mc.isMatchOver()) {
-                // play games until the match ends
-                simulateSingleMatch(mc, iGame, outputGamelog);
-                iGame++;
+        boolean traced = recording != null || replay != null;
+        boolean replayed = true;
+        long totalTime = 0;
+
+        for (int iGame = 0; matchSize != 0 ? !mc.isMatchOver() : iGame < nGames; iGame++) {
+            // play games until the match ends
+            GameRecorder recorder = traced ? new GameRecorder() : null;
+            totalTime += simulateSingleMatch(mc, iGame, outputGamelog, recorder);
+            if (recording != null) {
+                recording.addGame(recorder.getTrace());
             }
-        } else {
-            for (int iGame = 0; iGame < nGames; iGame++) {
-                simulateSingleMatch(mc, iGame, outputGamelog);
+            if (replay != null) {
+                replayed &= checkReplay(replay.getGame(iGame), recorder.getTrace(), iGame);
             }
         }
 
+        if (recording != null) {
+            recording.save(params.get("r").get(0));
+            System.out.println("Recorded " + Lang.nounWithNumeral(recording.getGameCount(), "game") + " with seed " + seed);
+        }
+        if (replay != null) {
+            System.out.printf("Replay %s in %d ms%n", replayed ? "matched the recording" : "diverged from the recording", totalTime);
+        }
+
         System.out.flush();
+        return replayed;
+    }
+
+    private static boolean checkReplay(List<String> expected, List<String> actual, int iGame) {
+        int line = GameRecorder.findDivergence(expected, actual);
+        if (line < 0) {
+            System.out.printf("Game %d replayed %d decisions%n", 1 + iGame, actual.size());
+            return true;
+        }
+        System.out.printf("Game %d diverged at decision %d%n", 1 + iGame, 1 + line);
+        System.out.println("\trecorded: " + (line < expected.size() ? expected.get(line) : "<end of game>"));
+        System.out.println("\treplayed: " + (line < actual.size() ? actual.get(line) : "<end of game>"));
+        return false;
+    }
+
+    private static String[] withoutOptions(String[] args, String... skipped) {
+        List<String> skippedOptions = Arrays.asList(skipped);
+        List<String> result = new ArrayList<>();
+        boolean skipping = false;
+        for (String a : args) {
+            if (a.length() > 1 && a.charAt(0) == '-') {
+                skipping = skippedOptions.contains(a.substring(1));
+            }
+            if (!skipping) {
+                result.add(a);
+            }
+        }
+        return result.toArray(new String[0]);
     }
 
     private static void argumentHelp() {
-        System.out.println("Syntax: forge.exe sim -d <deck1[.dck]> ... <deckX[.dck]> -D [D] -n [N] -m [M] -t [T] -p [P] -f [F] -q");
+        System.out.println("Syntax: forge.exe sim -d <deck1[.dck]> ... <deckX[.dck]> -D [D] -n [N] -m [M] -t [T] -p [P] -f [F] -s [S] -r [R] -q");
+        System.out.println("        forge.exe sim -R <recording>");
         System.out.println("\tsim - stands for simulation mode");
         System.out.println("\tdeck1 (or deck2,...,X) - constructed deck name or filename (has to be quoted when contains multiple words)");
         System.out.println("\tdeck is treated as file if it ends with a dot followed by three numbers or letters");
@@ -169,13 +255,30 @@ public class SimulateMatch {
         System.out.println("\tF - format of games, defaults to constructed");
         System.out.println("\tc - Clock flag. Set the maximum time in seconds before calling the match a draw, defaults to 120.");
         System.out.println("\tq - Quiet flag. Output just the game result, not the entire game log.");
+        System.out.println("\tS - Seed for the random generator, the same seed and decks play the same games.");
+        System.out.println("\tR - Record the seed and the decisions of the games to the file R, the AI gets no time limits.");
+        System.out.println("\t    Playing the recording with 'sim -R file' checks that the games still make the same decisions.");
+        System.out.println("\t    A game stopped by the clock (c) can't be replayed reliably.");
     }
 
     public static void simulateSingleMatch(final Match mc, int iGame, boolean outputGamelog) {
+        simulateSingleMatch(mc, iGame, outputGamelog, null);
+    }
+
+    /**
+     * @param recorder writes the decisions of the game, also turns off the AI time limits as they depend on the machine
+     * @return the time the game took in ms
+     */
+    public static long simulateSingleMatch(final Match mc, int iGame, boolean outputGamelog, final GameRecorder recorder) {
         final StopWatch sw = new StopWatch();
         sw.start();
 
         final Game g1 = mc.createGame();
+        g1.setObserved(false);
+        if (recorder != null) {
+            g1.AI_CAN_USE_TIMEOUT = false;
+            g1.subscribeToEvents(recorder);
+        }
         // will run match in the same thread
         try {
             TimeLimitedCodeBlock.runWithTimeout(() -> {
@@ -212,6 +315,7 @@ public class SimulateMatch {
         } else {
             System.out.printf("\nGame Result: Game %d ended in %d ms. %s has won!\n%n", 1 + iGame, sw.getTime(), g1.getOutcome().getWinningLobbyPlayer().getName());
         }
+        return sw.getTime();
     }
 
     private static void simulateTournament(Map<String, List<String>> params, GameRules rules, boolean outputGamelog) {
@@ -345,7 +449,7 @@ public class SimulateMatch {
         return null;
     }
 
-    private static Deck deckFromCommandLineParameter(String deckname, GameType type) {
+    static Deck deckFromCommandLineParameter(String deckname, GameType type) {
         int dotpos = deckname.lastIndexOf('.');
         if (dotpos > 0 && dotpos == deckname.length() - 4) {
             String baseDir = type.equals(GameType.Commander) ?
@@ -0,0 +1,88 @@
+package forge.view;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import forge.util.FileUtil;
+
+/**
+ * Seed, command line and decision traces of a simulation, so it can be played again with "sim -R file".
+ * <p>
+ * The file is plain text: a "seed" and an "args" line (arguments separated by tabs),
+ * followed by a "game" line and the trace lines for every game.
+ */
+public class SimulationRecording {
+    private static final String SEED = "seed ";
+    private static final String ARGS = "args ";
+    private static final String GAME = "game ";
+
+    private final long seed;
+    private final String[] args;
+    private final List<List<String>> games = new ArrayList<>();
+
+    public SimulationRecording(final long seed, final String[] args) {
+        this.seed = seed;
+        this.args = args;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public String[] getArgs() {
+        return args;
+    }
+
+    public void addGame(final List<String> trace) {
+        games.add(trace);
+    }
+
+    /**
+     * @return the trace of the game, empty if the recording has less games
+     */
+    public List<String> getGame(final int index) {
+        return index < games.size() ? games.get(index) : new ArrayList<>();
+    }
+
+    public int getGameCount() {
+        return games.size();
+    }
+
+    public void save(final String filename) {
+        List<String> lines = new ArrayList<>();
+        lines.add(SEED + seed);
+        lines.add(ARGS + String.join("\t", args));
+        for (int i = 0; i < games.size(); i++) {
+            lines.add(GAME + (i + 1));
+            lines.addAll(games.get(i));
+        }
+        FileUtil.writeFile(filename, lines);
+    }
+
+    public static SimulationRecording load(final String filename) {
+        List<String> lines = FileUtil.readFile(filename);
+        if (lines.size() < 2 || !lines.get(0).startsWith(SEED) || !lines.get(1).startsWith(ARGS)) {
+            throw new IllegalArgumentException(filename + " is not a simulation recording");
+        }
+        long seed = Long.parseLong(lines.get(0).substring(SEED.length()).trim());
+        String[] args = lines.get(1).substring(ARGS.length()).split("\t");
+        SimulationRecording recording = new SimulationRecording(seed, args);
+
+        List<String> trace = null;
+        for (String line : lines.subList(2, lines.size())) {
+            if (line.startsWith(GAME)) {
+                trace = new ArrayList<>();
+                recording.addGame(trace);
+            } else if (trace != null && !line.isEmpty()) {
+                trace.add(line);
+            }
+        }
+        return recording;
+    }
+
+    @Override
+    public String toString() {
+        return "seed " + seed + ", " + Arrays.toString(args);
+    }
+}
@@ -0,0 +1,425 @@
+package forge.view;
+
+import java.io.File;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import forge.ai.AiProfile;
+import forge.ai.AiProfileUtil;
+import forge.ai.AiProps;
+import forge.ai.LobbyPlayerAi;
+import forge.deck.Deck;
+import forge.game.Game;
+import forge.game.GameEndReason;
+import forge.game.GameRules;
+import forge.game.GameType;
+import forge.game.Match;
+import forge.game.player.RegisteredPlayer;
+import forge.model.FModel;
+import forge.util.AbstractGeneticAlgorithm;
+import forge.util.FileUtil;
+import forge.util.MyRandom;
+import forge.util.TextUtil;
+import forge.util.WordUtil;
+
+/**
+ * Searches for AI profile values that win more often, by letting profiles derived from a base profile
+ * play against the base profile with every pair of decks from a gauntlet.
+ * <p>
+ * The games of all candidates of a search step run in parallel. A candidate scores the share of its games it won,
+ * draws count half, so anything above 50% beats the base profile.
+ */
+public class TuneAiProfile {
+    private final GameType type;
+    private final List<Deck> gauntlet;
+    private final AiProfile base;
+    private final Map<AiProps, List<String>> space;
+    private final int gamesPerPairing;
+    private final int simTimeout;
+    private final ExecutorService pool;
+    // asks games that run out of time to stop, they end as a draw on their own thread
+    private final ScheduledExecutorService clock;
+
+    private final Map<Map<AiProps, String>, Candidate> candidates = new LinkedHashMap<>();
+    private int candidateCount = 0;
+
+    private static final class Candidate {
+        private final int id;
+        private final Map<AiProps, String> values;
+        private double points = 0;
+        private int games = 0;
+
+        private Candidate(final int id, final Map<AiProps, String> values) {
+            this.id = id;
+            this.values = values;
+        }
+
+        private double getScore() {
+            return games == 0 ? 0 : points / games;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Candidate %d %s: %.1f%% of %d games", id, values, 100 * getScore(), games);
+        }
+    }
+
+    public static void tune(String[] args) {
+        FModel.initialize(null, null);
+
+        System.out.println("AI profile tuning mode");
+        final Map<String, List<String>> params = parseParams(args);
+        if (params == null || !params.containsKey("d") || !params.containsKey("a")) {
+            argumentHelp();
+            return;
+        }
+
+        GameType type = GameType.Constructed;
+        if (params.containsKey("f")) {
+            type = GameType.valueOf(WordUtil.capitalize(params.get("f").get(0)));
+        }
+
+        List<Deck> gauntlet = new ArrayList<>();
+        for (String deck : params.get("d")) {
+            Deck d = SimulateMatch.deckFromCommandLineParameter(deck, type);
+            if (d == null) {
+                System.out.println(TextUtil.concatNoSpace("Could not load deck - ", deck, ", tuning cannot start"));
+                return;
+            }
+            gauntlet.add(d);
+        }
+
+        String baseName = params.containsKey("b") ? params.get("b").get(0) : "Default";
+        AiProfile base = AiProfileUtil.getProfile(baseName);
+        if (base == null) {
+            System.out.println("Unknown AI profile - " + baseName);
+            return;
+        }
+
+        Map<AiProps, List<String>> space = new EnumMap<>(AiProps.class);
+        for (String range : params.get("a")) {
+            String[] split = range.split("=", 2);
+            try {
+                space.put(AiProps.valueOf(split[0]), Arrays.asList(split[1].split(",")));
+            } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+                System.out.println("Expected an AI property and its values like PLAY_AGGRO=true,false - " + range);
+                return;
+            }
+        }
+
+        String search = params.containsKey("s") ? params.get("s").get(0).toLowerCase() : "grid";
+        int candidates = params.containsKey("n") ? Integer.parseInt(params.get("n").get(0)) : 10;
+        int generations = params.containsKey("e") ? Integer.parseInt(params.get("e").get(0)) : 5;
+        int games = params.containsKey("g") ? Integer.parseInt(params.get("g").get(0)) : 2;
+        int threads = params.containsKey("j") ? Integer.parseInt(params.get("j").get(0)) : Runtime.getRuntime().availableProcessors();
+        int clock = params.containsKey("c") ? Integer.parseInt(params.get("c").get(0)) : new GameRules(type).getSimTimeout();
+        String output = params.containsKey("o") ? params.get("o").get(0) : baseName + "Tuned";
+
+        TuneAiProfile tuner = new TuneAiProfile(type, gauntlet, base, space, games, clock, threads);
+        try {
+            Candidate best = switch (search) {
+                case "grid" -> tuner.gridSearch();
+                case "random" -> tuner.randomSearch(candidates);
+                case "evolve" -> tuner.evolve(candidates, generations);
+                default -> null;
+            };
+            if (best == null) {
+                argumentHelp();
+                return;
+            }
+            System.out.println("Best: " + best);
+            tuner.writeProfile(best, output);
+            tuner.writeStatistics(output);
+        } finally {
+            tuner.pool.shutdownNow();
+            tuner.clock.shutdownNow();
+        }
+        System.out.flush();
+    }
+
+    private static Map<String, List<String>> parseParams(String[] args) {
+        final Map<String, List<String>> params = new HashMap<>();
+        List<String> options = null;
+
+        for (int i = 1; i < args.length; i++) {
+            // "tune" is in the 0th slot
+            final String a = args[i];
+            if (a.length() > 1 && a.charAt(0) == '-') {
+                options = new ArrayList<>();
+                params.put(a.substring(1), options);
+            } else if (options != null) {
+                options.add(a);
+            } else {
+                System.err.println("Illegal parameter usage");
+                return null;
+            }
+        }
+        return params;
+    }
+
+    private static void argumentHelp() {
+        System.out.println("Syntax: forge.exe tune -d <deck1[.dck]> ... <deckX[.dck]> -a <PROP=v1,v2,...> ... -b [B] -s [S] -n [N] -e [E] -g [G] -j [J] -c [C] -f [F] -o [O]");
+        System.out.println("\ttune - stands for AI profile tuning mode");
+        System.out.println("\tdeck1 (or deck2,...,X) - the gauntlet, every deck plays against every deck (also itself)");
+        System.out.println("\tPROP=v1,v2,... - an AI property and the values to try, any number of them");
+        System.out.println("\tB - base profile the candidates play against and take the other values from, defaults to Default");
+        System.out.println("\tS - search: grid (every combination, default), random or evolve");
+        System.out.println("\tN - number of candidates for random search, population size for evolve, defaults to 10");
+        System.out.println("\tE - number of generations for evolve, defaults to 5");
+        System.out.println("\tG - games per pair of decks, defaults to 2");
+        System.out.println("\tJ - games played at the same time, defaults to the number of cores");
+        System.out.println("\tC - maximum time in seconds before calling a game a draw, defaults to 120");
+        System.out.println("\tF - format of games, defaults to constructed");
+        System.out.println("\tO - name of the profile to write the best values to, defaults to the base profile name + Tuned");
+    }
+
+    private TuneAiProfile(final GameType type, final List<Deck> gauntlet, final AiProfile base, final Map<AiProps, List<String>> space,
+            final int gamesPerPairing, final int simTimeout, final int threads) {
+        this.type = type;
+        this.gauntlet = gauntlet;
+        this.base = base;
+        this.space = space;
+        this.gamesPerPairing = gamesPerPairing;
+        this.simTimeout = simTimeout;
+        this.pool = Executors.newFixedThreadPool(Math.max(1, threads));
+        this.clock = Executors.newSingleThreadScheduledExecutor();
+    }
+
+    private Candidate candidate(final Map<AiProps, String> values) {
+        return candidates.computeIfAbsent(values, v -> new Candidate(++candidateCount, v));
+    }
+
+    private Candidate randomCandidate() {
+        Map<AiProps, String> values = new EnumMap<>(AiProps.class);
+        for (Map.Entry<AiProps, List<String>> e : space.entrySet()) {
+            values.put(e.getKey(), e.getValue().get(MyRandom.getRandom().nextInt(e.getValue().size())));
+        }
+        return candidate(values);
+    }
+
+    private int getSpaceSize() {
+        int size = 1;
+        for (List<String> values : space.values()) {
+            size *= values.size();
+        }
+        return size;
+    }
+
+    private static Candidate best(final Collection<Candidate> evaluated) {
+        return Collections.max(evaluated, Comparator.comparingDouble(Candidate::getScore).thenComparingInt(c -> c.games));
+    }
+
+    private Candidate gridSearch() {
+        List<Map<AiProps, String>> combinations = new ArrayList<>();
+        combinations.add(new EnumMap<>(AiProps.class));
+        for (Map.Entry<AiProps, List<String>> e : space.entrySet()) {
+            List<Map<AiProps, String>> next = new ArrayList<>();
+            for (Map<AiProps, String> combination : combinations) {
+                for (String value : e.getValue()) {
+                    Map<AiProps, String> values = new EnumMap<>(combination);
+                    values.put(e.getKey(), value);
+                    next.add(values);
+                }
+            }
+            combinations = next;
+        }
+        List<Candidate> all = new ArrayList<>();
+        for (Map<AiProps, String> values : combinations) {
+            all.add(candidate(values));
+        }
+        evaluate(all);
+        return best(all);
+    }
+
+    private Candidate randomSearch(final int count) {
+        final int target = Math.min(count, getSpaceSize());
+        Set<Candidate> chosen = new LinkedHashSet<>();
+        while (chosen.size() < target) {
+            chosen.add(randomCandidate());
+        }
+        evaluate(chosen);
+        return best(chosen);
+    }
+
+    private Candidate evolve(final int populationSize, final int generations) {
+        AbstractGeneticAlgorithm<Candidate> ga = new AbstractGeneticAlgorithm<>() {
+            @Override
+            protected void evaluateFitness() {
+                evaluate(population);
+                population.sort(Comparator.comparingDouble(Candidate::getScore).reversed());
+                System.out.println("Generation " + (generationCount + 1) + " best: " + population.get(0));
+            }
+
+            @Override
+            protected Candidate expandPool() {
+                return randomCandidate();
+            }
+
+            @Override
+            protected Candidate mutateObject(final Candidate parent) {
+                List<AiProps> props = new ArrayList<>(space.keySet());
+                AiProps prop = props.get(MyRandom.getRandom().nextInt(props.size()));
+                List<String> values = space.get(prop);
+                Map<AiProps, String> child = new EnumMap<>(parent.values);
+                child.put(prop, values.get(MyRandom.getRandom().nextInt(values.size())));
+                return candidate(child);
+            }
+
+            @Override
+            protected Candidate createChild(final Candidate parent1, final Candidate parent2) {
+                Map<AiProps, String> child = new EnumMap<>(AiProps.class);
+                for (AiProps prop : space.keySet()) {
+                    child.put(prop, (MyRandom.getRandom().nextBoolean() ? parent1 : parent2).values.get(prop));
+                }
+                return candidate(child);
+            }
+
+            @Override
+            protected boolean shouldContinue() {
+                return generationCount < generations;
+            }
+        };
+        List<Candidate> population = new ArrayList<>();
+        for (int i = 0; i < populationSize; i++) {
+            population.add(randomCandidate());
+        }
+        ga.initializePopulation(population);
+        ga.run();
+        return best(candidates.values().stream().filter(c -> c.games > 0).toList());
+    }
+
+    /**
+     * Plays the games of all candidates that have not played yet, in parallel.
+     */
+    private void evaluate(final Collection<Candidate> toEvaluate) {
+        Map<Candidate, List<Future<Double>>> results = new LinkedHashMap<>();
+        for (Candidate candidate : new LinkedHashSet<>(toEvaluate)) {
+            if (candidate.games > 0) {
+                continue;
+            }
+            final String profileName = "Tuning-" + candidate.id;
+            AiProfileUtil.registerProfile(base.derive(profileName, candidate.values));
+            List<Future<Double>> games = new ArrayList<>();
+            for (Deck candidateDeck : gauntlet) {
+                for (Deck baseDeck : gauntlet) {
+                    for (int i = 0; i < gamesPerPairing; i++) {
+                        games.add(pool.submit(() -> playGame(candidateDeck, profileName, baseDeck)));
+                    }
+                }
+            }
+            results.put(candidate, games);
+        }
+
+        for (Map.Entry<Candidate, List<Future<Double>>> e : results.entrySet()) {
+            Candidate candidate = e.getKey();
+            for (Future<Double> game : e.getValue()) {
+                try {
+                    candidate.points += game.get();
+                    candidate.games++;
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    return;
+                } catch (ExecutionException ex) {
+                    ex.printStackTrace();
+                }
+            }
+            AiProfileUtil.unregisterProfile("Tuning-" + candidate.id);
+            System.out.println(candidate);
+        }
+    }
+
+    /**
+     * @return 1 if the candidate profile won, 0.5 for a draw and 0 if the base profile won
+     */
+    private double playGame(final Deck candidateDeck, final String candidateProfile, final Deck baseDeck) {
+        final LobbyPlayerAi candidate = new LobbyPlayerAi("Candidate", null);
+        candidate.setAiProfile(candidateProfile);
+        final LobbyPlayerAi opponent = new LobbyPlayerAi("Base", null);
+        opponent.setAiProfile(base.getName());
+        List<RegisteredPlayer> players = new ArrayList<>();
+        players.add(new RegisteredPlayer(candidateDeck).setPlayer(candidate));
+        players.add(new RegisteredPlayer(baseDeck).setPlayer(opponent));
+
+        GameRules rules = new GameRules(type);
+        rules.setAppliedVariants(EnumSet.of(type));
+        rules.setSimTimeout(simTimeout);
+        rules.setConcurrentGames(true);
+        final Match mc = new Match(rules, players, "Tuning");
+        final Game game = mc.createGame();
+        game.setObserved(false);
+        // the game is played on this thread, a slow game is stopped as a draw at its next priority
+        final ScheduledFuture<?> timeout = clock.schedule(game::requestStop, simTimeout, TimeUnit.SECONDS);
+        try {
+            mc.startGame(game);
+        } catch (Exception | StackOverflowError e) {
+            e.printStackTrace();
+        } finally {
+            timeout.cancel(false);
+            if (!game.isGameOver()) {
+                game.setGameOver(GameEndReason.Draw);
+            }
+        }
+        if (game.getOutcome().isDraw()) {
+            return 0.5;
+        }
+        return game.getOutcome().isWinner(candidate) ? 1 : 0;
+    }
+
+    /**
+     * Writes the base profile file with the values of the candidate.
+     */
+    private void writeProfile(final Candidate best, final String profileName) {
+        Map<AiProps, String> remaining = new EnumMap<>(best.values);
+        List<String> lines = new ArrayList<>();
+        for (String line : FileUtil.readFile(AiProfileUtil.getProfileFile(base.getName()))) {
+            int eq = line.indexOf('=');
+            if (!line.startsWith("#") && eq > 0) {
+                String value = remaining.remove(AiProps.valueOf(line.substring(0, eq)));
+                if (value != null) {
+                    line = line.substring(0, eq + 1) + value;
+                }
+            }
+            lines.add(line);
+        }
+        for (Map.Entry<AiProps, String> e : remaining.entrySet()) {
+            lines.add(e.getKey() + "=" + e.getValue());
+        }
+        File file = AiProfileUtil.getProfileFile(profileName);
+        FileUtil.writeFile(file, lines);
+        System.out.println("Wrote " + file);
+    }
+
+    /**
+     * Writes the average score of every tried value of every property.
+     */
+    private void writeStatistics(final String profileName) {
+        List<String> lines = new ArrayList<>();
+        lines.add("property,value,candidates,games,score");
+        for (Map.Entry<AiProps, List<String>> e : space.entrySet()) {
+            for (String value : e.getValue()) {
+                int count = 0;
+                int games = 0;
+                double points = 0;
+                for (Candidate c : candidates.values()) {
+                    if (c.games > 0 && value.equals(c.values.get(e.getKey()))) {
+                        count++;
+                        games += c.games;
+                        points += c.points;
+                    }
+                }
+                String score = games == 0 ? "" : String.format(Locale.ROOT, "%.3f", points / games);
+                lines.add(TextUtil.concatNoSpace(e.getKey().name(), ",", value, ",", String.valueOf(count), ",", String.valueOf(games), ",", score));
+                System.out.println(TextUtil.concatWithSpace(e.getKey().name(), "=", value, ":", score.isEmpty() ? "not played" : score, "in", String.valueOf(games), "games"));
+            }
+        }
+        File file = new File(AiProfileUtil.getProfileFile(profileName).getPath().replaceAll("\\.ai$", ".csv"));
+        FileUtil.writeFile(file, lines);
+        System.out.println("Wrote " + file);
+    }
+}
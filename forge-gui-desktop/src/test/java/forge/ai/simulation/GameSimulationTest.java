@@ -2,18 +2,26 @@ package forge.ai.simulation;
 
 import com.google.common.collect.Lists;
 import forge.ai.ComputerUtilAbility;
+import forge.ai.ComputerUtilMana;
 import forge.card.CardStateName;
 import forge.card.MagicColor;
 import forge.game.Game;
+import forge.game.GameActionUtil;
+import forge.game.ability.AbilityKey;
 import forge.game.ability.ApiType;
 import forge.game.card.Card;
 import forge.game.card.CardCollection;
 import forge.game.card.CardCollectionView;
+import forge.game.card.CardCopyService;
+import forge.game.card.CardFactory;
+import forge.game.card.CardView;
 import forge.game.card.CounterEnumType;
+import forge.game.cost.CostPayment;
 import forge.game.keyword.Keyword;
 import forge.game.phase.PhaseType;
 import forge.game.player.Player;
 import forge.game.spellability.SpellAbility;
+import forge.game.zone.Zone;
 import forge.game.zone.ZoneType;
 import org.testng.AssertJUnit;
 import org.testng.annotations.Test;
@@ -304,6 +312,298 @@ public class GameSimulationTest extends SimulationTest {
         AssertJUnit.assertEquals(3, copyBear.getNetPower());
     }
 
+    @Test
+    public void testStateEffectsRecheckCardWhenCloneEnds() {
+        Game game = initAndCreateGame();
+        Player p = game.getPlayers().get(1);
+        Card damaged = addCard("Grizzly Bears", p);
+        Card shrunk = addCard("Grizzly Bears", p);
+        Card wurm = addCardToZone("Craw Wurm", p, ZoneType.Library);
+
+        game.getPhaseHandler().devModeSet(PhaseType.MAIN1, p);
+        long damagedTimestamp = game.getNextTimestamp();
+        damaged.addCloneState(CardFactory.getCloneStates(wurm, damaged, damaged.getFirstSpellAbility()), damagedTimestamp);
+        long shrunkTimestamp = game.getNextTimestamp();
+        shrunk.addCloneState(CardFactory.getCloneStates(wurm, shrunk, shrunk.getFirstSpellAbility()), shrunkTimestamp);
+        game.getAction().checkStateEffects(true);
+
+        // a 6/4 Craw Wurm survives both
+        damaged.setDamage(3);
+        shrunk.addCounterInternal(CounterEnumType.M1M1, 2, p, false, null, null);
+        game.getAction().checkStateEffects(true);
+        AssertJUnit.assertTrue(damaged.isInPlay());
+        AssertJUnit.assertTrue(shrunk.isInPlay());
+        game.getAction().checkStateEffects(true);
+
+        // as Grizzly Bears again one has lethal damage and the other 0 toughness
+        damaged.removeCloneState(damagedTimestamp);
+        shrunk.removeCloneState(shrunkTimestamp);
+        game.getAction().checkStateEffects(true);
+        AssertJUnit.assertFalse(damaged.isInPlay());
+        AssertJUnit.assertFalse(shrunk.isInPlay());
+    }
+
+    private static Card findLKI(Game game, Card c) {
+        for (Card lki : game.getLastStateBattlefield()) {
+            if (lki.getId() == c.getId()) {
+                return lki;
+            }
+        }
+        return null;
+    }
+
+    private static void assertSameLKI(Card expected, Card actual) {
+        String name = expected.getName();
+        AssertJUnit.assertEquals(name, expected.getName(), actual.getName());
+        AssertJUnit.assertEquals(name, expected.getType().toString(), actual.getType().toString());
+        AssertJUnit.assertEquals(name, expected.getNetPower(), actual.getNetPower());
+        AssertJUnit.assertEquals(name, expected.getNetToughness(), actual.getNetToughness());
+        AssertJUnit.assertEquals(name, expected.isTapped(), actual.isTapped());
+        AssertJUnit.assertEquals(name, expected.getCounters(), actual.getCounters());
+        AssertJUnit.assertEquals(name, expected.getDamage(), actual.getDamage());
+        AssertJUnit.assertEquals(name, expected.getIntensity(false), actual.getIntensity(false));
+        AssertJUnit.assertEquals(name, expected.getChosenMap(), actual.getChosenMap());
+        AssertJUnit.assertEquals(name, expected.getChosenType(), actual.getChosenType());
+        AssertJUnit.assertEquals(name, expected.hasKeyword(Keyword.FLYING), actual.hasKeyword(Keyword.FLYING));
+    }
+
+    @Test
+    public void testCachedLastStateMatchesFreshCopies() {
+        Game game = initAndCreateGame();
+        Player p = game.getPlayers().get(1);
+        Card bear = addCard("Grizzly Bears", p);
+        Card elves = addCard("Llanowar Elves", p);
+        Card forest = addCard("Forest", p);
+
+        game.getPhaseHandler().devModeSet(PhaseType.MAIN1, p);
+        game.getAction().checkStateEffects(true);
+        game.copyLastState();
+        Card forestLKI = findLKI(game, forest);
+
+        bear.addCounterInternal(CounterEnumType.P1P1, 1, p, false, null, null);
+        bear.setDamage(1);
+        bear.setIntensity(2);
+        bear.addToChosenMap(p, new CardCollection(elves));
+        bear.setChosenType("Elf");
+        elves.setTapped(true);
+        addCard("Levitation", p);
+        game.getAction().checkStateEffects(true);
+        game.copyLastState();
+
+        // the unchanged land is reused, everything else has to look like a copy made now
+        AssertJUnit.assertSame(forestLKI, findLKI(game, forest));
+        for (Card c : game.getCardsIn(ZoneType.Battlefield)) {
+            assertSameLKI(CardCopyService.getLKICopy(c), findLKI(game, c));
+        }
+    }
+
+    @Test
+    public void testCachedLastStateSeesUntrackedChanges() {
+        Game game = initAndCreateGame();
+        Player p = game.getPlayers().get(1);
+        Card bear = addCard("Grizzly Bears", p);
+        Card forest = addCard("Forest", p);
+
+        game.getPhaseHandler().devModeSet(PhaseType.MAIN1, p);
+        game.getAction().checkStateEffects(true);
+        game.copyLastState();
+        Card bearLKI = findLKI(game, bear);
+        Card forestLKI = findLKI(game, forest);
+
+        // the boost doesn't update the view and its setter doesn't bump the version itself
+        bear.addPTBoost(2, 2, game.getNextTimestamp(), 0);
+        // a caller changing its copy must not change the next last state
+        forestLKI.setTapped(true);
+        game.copyLastState();
+
+        AssertJUnit.assertNotSame(bearLKI, findLKI(game, bear));
+        AssertJUnit.assertEquals(4, findLKI(game, bear).getNetPower());
+        AssertJUnit.assertNotSame(forestLKI, findLKI(game, forest));
+        AssertJUnit.assertFalse(findLKI(game, forest).isTapped());
+    }
+
+    @Test
+    public void testStateEffectsRecheckCardChangedByStatic() {
+        Game game = initAndCreateGame();
+        Player p = game.getPlayers().get(1);
+        Card bear = addCard("Grizzly Bears", p);
+        Card anthem = addCard("Glorious Anthem", p);
+
+        game.getPhaseHandler().devModeSet(PhaseType.MAIN1, p);
+        game.getAction().checkStateEffects(true);
+        bear.setDamage(2);
+        game.getAction().checkStateEffects(true);
+        AssertJUnit.assertTrue(bear.isInPlay());
+        game.getAction().checkStateEffects(true);
+        AssertJUnit.assertTrue(bear.isInPlay());
+
+        game.getAction().moveToGraveyard(anthem, null);
+        game.getAction().checkStateEffects(true);
+        AssertJUnit.assertFalse(bear.isInPlay());
+    }
+
+    @Test
+    public void testStateEffectsSkipCardUnchangedByStatics() {
+        Game game = initAndCreateGame();
+        Player p = game.getPlayers().get(1);
+        Card bear = addCard("Grizzly Bears", p);
+        addCard("Glorious Anthem", p);
+        addCard("Levitation", p);
+
+        game.getPhaseHandler().devModeSet(PhaseType.MAIN1, p);
+        game.getAction().checkStateEffects(true);
+        // the views of the first pass are only updated after its checks
+        game.getAction().checkStateEffects(true);
+        AssertJUnit.assertEquals(3, bear.getNetPower());
+        AssertJUnit.assertTrue(bear.hasKeyword(Keyword.FLYING));
+        long version = bear.getLKIVersion();
+        AssertJUnit.assertEquals(version, bear.getStateCheckedVersion());
+
+        // both statics are removed and applied again, but end up the same, so the bear isn't checked again
+        game.getAction().checkStateEffects(true);
+        AssertJUnit.assertEquals(version, bear.getLKIVersion());
+        AssertJUnit.assertEquals(version, bear.getStateCheckedVersion());
+
+        // a real change is still seen
+        bear.addPTBoost(1, 1, game.getNextTimestamp(), 0);
+        game.getAction().checkStateEffects(true);
+        AssertJUnit.assertTrue(bear.getLKIVersion() > version);
+        AssertJUnit.assertEquals(4, bear.getNetPower());
+    }
+
+    @Test
+    public void testRestoreGameStateUndoesRecordedChanges() {
+        Game game = initAndCreateGame();
+        game.EXPERIMENTAL_RESTORE_SNAPSHOT = true;
+        Player p = game.getPlayers().get(1);
+        Card plains = addCard("Plains", p);
+        Card bear = addCard("Grizzly Bears", p);
+        Card giant = addCardToZone("Hill Giant", p, ZoneType.Hand);
+
+        game.getPhaseHandler().devModeSet(PhaseType.MAIN1, p);
+        game.getAction().checkStateEffects(true);
+        int life = p.getLife();
+        game.stashGameState();
+
+        plains.setTapped(true);
+        bear.addCounterInternal(CounterEnumType.P1P1, 2, p, false, null, null);
+        bear.setDamage(1);
+        p.loseLife(3, false, false);
+        game.getAction().moveToPlay(giant, null, AbilityKey.newMap());
+        AssertJUnit.assertTrue(game.getJournal().size() > 0);
+
+        AssertJUnit.assertTrue(game.restoreGameState());
+        AssertJUnit.assertTrue(plains.isUntapped());
+        AssertJUnit.assertEquals(0, bear.getCounters(CounterEnumType.P1P1));
+        AssertJUnit.assertEquals(0, bear.getDamage());
+        AssertJUnit.assertEquals(life, p.getLife());
+        AssertJUnit.assertTrue(p.getZone(ZoneType.Hand).contains(giant));
+        AssertJUnit.assertFalse(p.getZone(ZoneType.Battlefield).contains(c -> c.getName().equals("Hill Giant")));
+    }
+
+    @Test
+    public void testRollbackAfterRestoreResetsAbility() {
+        Game game = initAndCreateGame();
+        game.EXPERIMENTAL_RESTORE_SNAPSHOT = true;
+        Player p0 = game.getPlayers().get(0);
+        Player p1 = game.getPlayers().get(1);
+        Card mountain = addCard("Mountain", p1);
+        Card shock = addCardToZone("Shock", p1, ZoneType.Hand);
+        Zone hand = p1.getZone(ZoneType.Hand);
+
+        game.getPhaseHandler().devModeSet(PhaseType.MAIN1, p1);
+        game.getAction().checkStateEffects(true);
+        game.stashGameState();
+
+        // what HumanPlaySpellAbility does before the human cancels the payment
+        SpellAbility shockSa = shock.getSpellAbilities().get(0);
+        shockSa.setActivatingPlayer(p1);
+        shockSa.setHostCard(game.getAction().moveToStack(shock, shockSa));
+        shockSa.getTargets().add(p0);
+        game.getStack().freezeStack(shockSa);
+        CostPayment payment = new CostPayment(shockSa.getPayCosts(), shockSa);
+        mountain.setTapped(true);
+
+        GameActionUtil.rollbackAbility(shockSa, hand, 0, payment, shock);
+
+        AssertJUnit.assertFalse(game.getStack().isFrozen());
+        AssertJUnit.assertTrue(shockSa.getTargets().isEmpty());
+        AssertJUnit.assertTrue(hand.contains(shock));
+        AssertJUnit.assertSame(shock, shockSa.getHostCard());
+        AssertJUnit.assertTrue(mountain.isUntapped());
+        AssertJUnit.assertEquals(0, p1.getManaPool().totalMana());
+    }
+
+    @Test
+    public void testUnobservedCopyUpdatesViewsWhenRead() {
+        String bearCardName = "Grizzly Bears";
+        Game game = initAndCreateGame();
+        Player p = game.getPlayers().get(1);
+        Card bear = addCard(bearCardName, p);
+        addCard("Levitation", p);
+
+        game.getPhaseHandler().devModeSet(PhaseType.MAIN1, p);
+        game.getAction().checkStateEffects(true);
+        AssertJUnit.assertTrue(bear.getView().getCurrentState().hasFlying());
+
+        Game copy = new GameCopier(game).makeCopy();
+        Card copyBear = findCardWithName(copy, bearCardName);
+        AssertJUnit.assertTrue(copyBear.hasKeyword(Keyword.FLYING));
+        AssertJUnit.assertTrue(copyBear.getView().getCurrentState().hasFlying());
+        AssertJUnit.assertEquals(bear.getView().getCurrentState().getAbilityText(),
+                copyBear.getView().getCurrentState().getAbilityText());
+
+        copy.materializeView();
+        copy.setObserved(true);
+        AssertJUnit.assertTrue(copyBear.getView().getCurrentState().hasFlying());
+    }
+
+    @Test
+    public void testCanPayManaCostAssignsSourcesToAllShards() {
+        Game game = initAndCreateGame();
+        Player p = game.getPlayers().get(1);
+        Card forest = addCard("Forest", p);
+        Card pool = addCard("Breeding Pool", p);
+        Card oracle = addCardToZone("Coiling Oracle", p, ZoneType.Hand);
+        Card probe = addCardToZone("Gitaxian Probe", p, ZoneType.Hand);
+
+        game.getPhaseHandler().devModeSet(PhaseType.MAIN1, p);
+        game.getAction().checkStateEffects(true);
+
+        SpellAbility oracleSA = oracle.getSpellAbilities().get(0);
+        // the Breeding Pool has to pay for blue, only the Forest is left for green
+        AssertJUnit.assertTrue(ComputerUtilMana.canPayManaCost(oracleSA, p, 0, false));
+        // Phyrexian mana can still be paid with life
+        AssertJUnit.assertTrue(ComputerUtilMana.canPayManaCost(probe.getSpellAbilities().get(0), p, 0, false));
+
+        pool.setTapped(true);
+        addCard("Forest", p);
+        AssertJUnit.assertFalse(ComputerUtilMana.canPayManaCost(oracleSA, p, 0, false));
+        // checking doesn't use any source
+        AssertJUnit.assertFalse(forest.isTapped());
+    }
+
+    @Test
+    public void testUnobservedUpdatesOfBothFacesAreKept() {
+        Game game = initAndCreateGame();
+        Player p = game.getPlayers().get(1);
+        Card delver = addCard("Delver of Secrets", p);
+        game.getPhaseHandler().devModeSet(PhaseType.MAIN1, p);
+        game.getAction().checkStateEffects(true);
+        CardView.CardStateView front = delver.getState(CardStateName.Original).getView();
+        AssertJUnit.assertFalse(front.hasFlying());
+
+        game.setObserved(false);
+        // updates the keywords of the front face, then of the back face which shares the card's id
+        addCard("Levitation", p);
+        game.getAction().checkStateEffects(true);
+        AssertJUnit.assertTrue(delver.changeCardState("Transform", null, null));
+        CardView.CardStateView back = delver.getState(CardStateName.Backside).getView();
+
+        AssertJUnit.assertTrue(back.hasFlying());
+        AssertJUnit.assertTrue(front.hasFlying());
+    }
+
     @Test
     public void testManifest() {
         Game game = initAndCreateGame();
@@ -372,6 +372,28 @@ public class CardDbCardMockTestCase extends CardMockTestCase {
         assertEquals(card.getEdition(), foilCard.getEdition());
     }
 
+    @Test
+    public void testNewGetCardFromSetWithArtIndexAndCollectorNumberOfEachPrinting() {
+        CardEdition ce = FModel.getMagicDb().getEditions().get(editionHymnToTourach);
+        for (int i = 0; i < collectorNumbersHymnToTourach.length; i++) {
+            // names are looked up regardless of case
+            PaperCard card = this.cardDb.getCardFromSet(cardNameHymnToTourach.toUpperCase(), ce, i + 1,
+                    collectorNumbersHymnToTourach[i], false);
+            assertNotNull(card);
+            assertEquals(card.getName(), cardNameHymnToTourach);
+            assertEquals(card.getEdition(), editionHymnToTourach);
+            assertEquals(card.getArtIndex(), i + 1);
+            assertEquals(card.getCollectorNumber(), collectorNumbersHymnToTourach[i]);
+        }
+
+        // art index and collector number of different printings
+        assertNull(this.cardDb.getCardFromSet(cardNameHymnToTourach, ce, 1, collectorNumbersHymnToTourach[1], false));
+        // a set without the card
+        CardEdition otherEdition = FModel.getMagicDb().getEditions().get(editionShivanDragon);
+        assertNull(this.cardDb.getCardFromSet(cardNameHymnToTourach, otherEdition, 1, collectorNumbersHymnToTourach[0],
+                false));
+    }
+
     @Test
     public void testGetCardFromEditionsWithCardNameAndCardArtPreference() {
         /*
@@ -2175,6 +2197,21 @@ public class CardDbCardMockTestCase extends CardMockTestCase {
         assertEquals(legacyAinokCard, ainokCard);
     }
 
+    @Test
+    public void testGetCardWithoutAccentsWrongCaseAndSecondSetCode() {
+        String cardName = "Lim-Dûl's Vault";
+        String requestInfo = "lim-dul's VAULT|MED"; // no accent, wrong case and the second code of ME1
+        PaperCard vaultCard = this.cardDb.getCard(requestInfo);
+        assertNotNull(vaultCard);
+        assertEquals(vaultCard.getName(), cardName);
+        assertEquals(vaultCard.getEdition(), "ME1");
+
+        assertEquals(this.cardDb.getUniqueByName("LIM-DUL'S VAULT").getName(), cardName);
+        assertEquals(this.cardDb.getFaceByName("lim-dul's vault").getName(), cardName);
+        assertEquals(this.cardDb.getAllCards("lim-dul's vault"), this.cardDb.getAllCards(cardName));
+        assertTrue(this.cardDb.contains("lim-dul's vault"));
+    }
+
     @Test
     public void testGetIslandsFromEditionsWithSpecificArtIndex() {
         String cardName = "Island";
@@ -0,0 +1,42 @@
+package forge.card;
+
+import java.util.Arrays;
+
+import org.testng.AssertJUnit;
+import org.testng.annotations.BeforeTest;
+import org.testng.annotations.Test;
+
+import com.google.common.collect.Iterables;
+
+import forge.util.Lang;
+
+public class CardFaceTest {
+
+    @BeforeTest
+    public void setup() {
+        Lang.createInstance("en-US");
+    }
+
+    @Test
+    public void testFlavorNameVariantKeepsScript() {
+        CardRules rules = CardRules.fromScript(Arrays.asList(
+                "Name:Llanowar Elves",
+                "ManaCost:G",
+                "Types:Creature Elf Druid",
+                "PT:1/1",
+                "A:AB$ Mana | Cost$ T | Produced$ G | SpellDescription$ Add {G}.",
+                "SVar:PlayMain1:TRUE",
+                "Oracle:{T}: Add {G}."));
+
+        // the way CardDb adds a ${"flavorName": ...} printing, before anything looked at the script
+        String variantName = rules.findOrCreateVariantForFlavorName("Mana Elf", null);
+        ICardFace variant = rules.getMainPart().getFunctionalVariant(variantName);
+
+        AssertJUnit.assertEquals("Mana Elf", variant.getFlavorName());
+        AssertJUnit.assertEquals(1, Iterables.size(variant.getAbilities()));
+        AssertJUnit.assertEquals(Iterables.getOnlyElement(rules.getMainPart().getAbilities()),
+                Iterables.getOnlyElement(variant.getAbilities()));
+        AssertJUnit.assertEquals("PlayMain1", Iterables.getOnlyElement(variant.getVariables()).getKey());
+        AssertJUnit.assertTrue(variant.hasScriptedAbilities());
+    }
+}
@@ -0,0 +1,118 @@
+package forge.gui.download;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.testng.AssertJUnit;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Runs the download engine against a local server.
+ */
+public class DownloadEngineTest {
+    private HttpServer server;
+    private File dir;
+    private final byte[] picture = new byte[100000];
+    private final List<String> ranges = Collections.synchronizedList(new ArrayList<>());
+
+    @BeforeMethod
+    public void setUp() throws IOException {
+        for (int i = 0; i < picture.length; i++) {
+            picture[i] = (byte) i;
+        }
+        dir = Files.createTempDirectory("forge-download").toFile();
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        final AtomicBoolean interrupted = new AtomicBoolean();
+        server.createContext("/pics/", exchange -> {
+            final String range = exchange.getRequestHeaders().getFirst("Range");
+            ranges.add(range == null ? "" : range);
+            if (!exchange.getRequestURI().getPath().equals("/pics/card.jpg")) {
+                exchange.sendResponseHeaders(404, -1);
+                exchange.close();
+                return;
+            }
+            exchange.getResponseHeaders().add("ETag", "\"v1\"");
+            try (OutputStream out = exchange.getResponseBody()) {
+                if (range != null) {
+                    final int from = Integer.parseInt(range.substring("bytes=".length(), range.length() - 1));
+                    exchange.getResponseHeaders().add("Content-Range", "bytes " + from + "-" + (picture.length - 1) + "/" + picture.length);
+                    exchange.sendResponseHeaders(206, picture.length - from);
+                    out.write(picture, from, picture.length - from);
+                } else if (!interrupted.getAndSet(true)) {
+                    // the first download breaks off halfway
+                    exchange.sendResponseHeaders(200, picture.length);
+                    out.write(picture, 0, picture.length / 2);
+                    out.flush();
+                    exchange.close();
+                } else {
+                    exchange.sendResponseHeaders(200, picture.length);
+                    out.write(picture);
+                }
+            } catch (IOException e) {
+                // the broken off response
+            }
+        });
+        server.start();
+    }
+
+    @AfterMethod
+    public void tearDown() {
+        server.stop(0);
+        for (File f : dir.listFiles()) {
+            f.delete();
+        }
+        dir.delete();
+    }
+
+    private String url(final String path) {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + path;
+    }
+
+    @Test
+    public void testResumesInterruptedDownload() throws Exception {
+        final File journal = new File(dir, "journal.txt");
+        final DownloadEngine engine = new DownloadEngine(Proxy.NO_PROXY, 2, 1, journal);
+        final File dest = new File(dir, "card.jpg");
+
+        AssertJUnit.assertEquals(DownloadEngine.Result.DOWNLOADED, engine.download(url("/pics/card.jpg"), dest, false));
+        AssertJUnit.assertTrue(Arrays.equals(picture, Files.readAllBytes(dest.toPath())));
+        AssertJUnit.assertFalse(new File(dir, "card.jpg.part").exists());
+        // the second attempt only asked for what was missing
+        AssertJUnit.assertEquals(Arrays.asList("", "bytes=" + picture.length / 2 + "-"), ranges);
+        AssertJUnit.assertTrue(Files.readAllLines(journal.toPath()).isEmpty());
+    }
+
+    @Test
+    public void testMissingFilesInParallel() throws Exception {
+        final DownloadEngine engine = new DownloadEngine(Proxy.NO_PROXY, 4, 2, null);
+        final List<DownloadEngine.Result> results = Collections.synchronizedList(new ArrayList<>());
+        for (int i = 0; i < 10; i++) {
+            final File dest = new File(dir, "missing" + i + ".jpg");
+            final String source = url("/pics/missing" + i + ".jpg");
+            engine.submit(() -> {
+                try {
+                    results.add(engine.download(source, dest, false));
+                } catch (InterruptedException e) {
+                    results.add(DownloadEngine.Result.FAILED);
+                }
+            });
+        }
+        engine.awaitCompletion();
+
+        AssertJUnit.assertEquals(Collections.nCopies(10, DownloadEngine.Result.NOT_FOUND), results);
+        AssertJUnit.assertEquals(0, dir.listFiles().length);
+    }
+}
@@ -0,0 +1,153 @@
+package forge.util;
+
+import java.io.File;
+import java.io.UnsupportedEncodingException;
+import java.lang.reflect.Constructor;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.text.MessageFormat;
+import java.util.Locale;
+import java.util.ResourceBundle;
+
+import org.testng.AssertJUnit;
+import org.testng.annotations.Test;
+
+/**
+ * Compares the compiled messages of {@link Localizer} with formatting them the way it used to,
+ * with a new {@link MessageFormat} for every message.
+ */
+public class LocalizerPerformanceTests {
+    private static final String LANG_DIR = "../forge-gui/res/languages/";
+    private static final String[] CHARSETS = { "ISO-8859-1", "UTF-8" };
+    private static final Object[] ARGUMENTS = { "Elspeth", "Llanowar Elves", "For\u00eat", "3", "\u6cbc\u6cfd" };
+
+    private static Localizer createLocalizer(String language) throws Exception {
+        // not the shared instance, other tests replace it with a mock
+        Constructor<Localizer> constructor = Localizer.class.getDeclaredConstructor();
+        constructor.setAccessible(true);
+        Localizer localizer = constructor.newInstance();
+        localizer.initialize(language, LANG_DIR);
+        return localizer;
+    }
+
+    private static ResourceBundle loadBundle(String language) throws Exception {
+        String[] splitLocale = language.split("-");
+        ClassLoader loader = new URLClassLoader(new URL[] { new File(LANG_DIR).toURI().toURL() });
+        return ResourceBundle.getBundle(language, new Locale(splitLocale[0], splitLocale[1]), loader);
+    }
+
+    private static String legacyGetMessage(Localizer localizer, ResourceBundle bundle, Locale locale, String key, Object... messageArguments) {
+        MessageFormat formatter;
+        try {
+            formatter = new MessageFormat(bundle.getString(key), locale);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        String detectedCharset = localizer.charset(bundle.getString(key), CHARSETS);
+        Object[] syncEncodingMessageArguments = new Object[messageArguments.length];
+        for (int i = 0; i < messageArguments.length; i++) {
+            String objCharset = localizer.charset(messageArguments[i].toString(), CHARSETS);
+            try {
+                syncEncodingMessageArguments[i] = localizer.convert(messageArguments[i].toString(), objCharset, detectedCharset);
+            } catch (UnsupportedEncodingException e) {
+                return "encoding '" + key + "' translate string failure";
+            }
+        }
+        try {
+            return new String(formatter.format(syncEncodingMessageArguments).getBytes(detectedCharset), StandardCharsets.UTF_8);
+        } catch (UnsupportedEncodingException e) {
+            return "CHAR ENCODING ERROR";
+        }
+    }
+
+    @Test
+    public void testCompiledMessagesMatchMessageFormat() throws Exception {
+        for (String language : new String[] { "en-US", "fr-FR", "zh-CN" }) {
+            Localizer localizer = createLocalizer(language);
+            ResourceBundle bundle = loadBundle(language);
+            Locale locale = bundle.getLocale();
+            for (String key : bundle.keySet()) {
+                String expected = legacyGetMessage(localizer, bundle, locale, key, ARGUMENTS);
+                if (expected == null) {
+                    continue; // not a valid pattern
+                }
+                AssertJUnit.assertEquals(key, expected, localizer.getMessage(key, ARGUMENTS));
+                AssertJUnit.assertEquals(key, legacyGetMessage(localizer, bundle, locale, key), localizer.getMessage(key));
+            }
+        }
+    }
+
+    private static int formatGameLog(Localizer localizer, ResourceBundle bundle, boolean legacy) {
+        Locale locale = Locale.ENGLISH;
+        int length = 0;
+        for (int turn = 1; turn <= 1000; turn++) {
+            String player = turn % 2 == 0 ? "Elspeth" : "Ai(1)-Gideon";
+            String action = legacy ? legacyGetMessage(localizer, bundle, locale, "lblCast") : localizer.getMessage("lblCast");
+            String[] messages = legacy ? new String[] {
+                    legacyGetMessage(localizer, bundle, locale, "lblLogTurnNOwnerByPlayer", String.valueOf(turn), player),
+                    legacyGetMessage(localizer, bundle, locale, "lblLogPlayerActionObject", player, action, "Llanowar Elves (" + turn + ")"),
+                    legacyGetMessage(localizer, bundle, locale, "lblLogSurveiledToLibrary", player, "2"),
+                    legacyGetMessage(localizer, bundle, locale, "lblSourceDealsNDamageToDest", "Shock (" + turn + ")", "2", "", player),
+                    legacyGetMessage(localizer, bundle, locale, "lblTurn") + " " + turn
+            } : new String[] {
+                    localizer.getMessage("lblLogTurnNOwnerByPlayer", String.valueOf(turn), player),
+                    localizer.getMessage("lblLogPlayerActionObject", player, action, "Llanowar Elves (" + turn + ")"),
+                    localizer.getMessage("lblLogSurveiledToLibrary", player, "2"),
+                    localizer.getMessage("lblSourceDealsNDamageToDest", "Shock (" + turn + ")", "2", "", player),
+                    localizer.getMessage("lblTurn") + " " + turn
+            };
+            for (String message : messages) {
+                length += message.length();
+            }
+        }
+        return length;
+    }
+
+    @Test(enabled = false) // disabled to not run in battery
+    public void testBenchmarkGameLogLegacyImplementation() throws Exception {
+        Localizer localizer = createLocalizer("en-US");
+        ResourceBundle bundle = loadBundle("en-US");
+        int nRuns = 100;
+        long averageTime = 0;
+        long minTime = 10000; // 10 secs
+        long maxTime = 0;
+        for (int r = 1; r <= nRuns; r++) {
+            long start = System.currentTimeMillis();
+            AssertJUnit.assertTrue(formatGameLog(localizer, bundle, true) > 0);
+            long timeRun = System.currentTimeMillis() - start;
+            averageTime += timeRun;
+            if (timeRun < minTime)
+                minTime = timeRun;
+            if (timeRun > maxTime)
+                maxTime = timeRun;
+        }
+        System.out.println("[LEGACY] Total Time (in sec): " + ((double) averageTime) / 1000);
+        System.out.println("[LEGACY] Average Time (in sec): " + ((double) averageTime / nRuns) / 1000);
+        System.out.println("[LEGACY] Best Time (in sec): " + ((double) minTime) / 1000);
+        System.out.println("[LEGACY] Worst Time (in sec): " + ((double) maxTime) / 1000);
+    }
+
+    @Test(enabled = false) // disabled to not run in battery
+    public void testBenchmarkGameLogNewImplementation() throws Exception {
+        Localizer localizer = createLocalizer("en-US");
+        int nRuns = 100;
+        long averageTime = 0;
+        long minTime = 10000; // 10 secs
+        long maxTime = 0;
+        for (int r = 1; r <= nRuns; r++) {
+            long start = System.currentTimeMillis();
+            AssertJUnit.assertTrue(formatGameLog(localizer, null, false) > 0);
+            long timeRun = System.currentTimeMillis() - start;
+            averageTime += timeRun;
+            if (timeRun < minTime)
+                minTime = timeRun;
+            if (timeRun > maxTime)
+                maxTime = timeRun;
+        }
+        System.out.println("[NEW] Total Time (in sec): " + ((double) averageTime) / 1000);
+        System.out.println("[NEW] Average Time (in sec): " + ((double) averageTime / nRuns) / 1000);
+        System.out.println("[NEW] Best Time (in sec): " + ((double) minTime) / 1000);
+        System.out.println("[NEW] Worst Time (in sec): " + ((double) maxTime) / 1000);
+    }
+}
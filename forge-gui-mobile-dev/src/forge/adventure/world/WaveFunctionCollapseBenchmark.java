@@ -0,0 +1,79 @@
+package forge.adventure.world;
+
+import com.badlogic.gdx.graphics.Color;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Times the overlapping wave function collapse model on the structure samples shipped with the adventure data.
+ * Every sample is collapsed in 10x10 chunks the same way BiomeStructure does it during world generation.
+ *
+ * Usage: WaveFunctionCollapseBenchmark [models folder] [runs] [structure size]
+ */
+public class WaveFunctionCollapseBenchmark {
+    private static final String DEFAULT_FOLDER = "../forge-gui/res/adventure/common/world/structures/models";
+    private static final int CHUNK_SIZE = 10;
+    private static final int N = 2;
+    private static final int SYMMETRY = 8;
+
+    public static void main(String[] args) throws IOException {
+        File folder = new File(args.length > 0 ? args[0] : DEFAULT_FOLDER);
+        int runs = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+        int size = args.length > 2 ? Integer.parseInt(args[2]) : 50;
+
+        File[] samples = folder.listFiles((dir, name) -> name.endsWith(".png"));
+        if (samples == null || samples.length == 0) {
+            System.err.println("No structure samples found in " + folder.getAbsolutePath());
+            return;
+        }
+        Arrays.sort(samples);
+
+        long total = 0;
+        for (File sample : samples) {
+            ColorMap source = readColorMap(sample);
+            //warm up
+            collapse(source, size, 0);
+            long best = Long.MAX_VALUE;
+            int failures = 0;
+            for (int r = 1; r <= runs; r++) {
+                long start = System.nanoTime();
+                failures += collapse(source, size, r);
+                best = Math.min(best, System.nanoTime() - start);
+            }
+            total += best;
+            System.out.println(sample.getName() + " :\t\t" + (best / 1000000f) + " ms (best of " + runs + ", " + failures + " failed chunks)");
+        }
+        System.out.println("Total :\t\t" + (total / 1000000f) + " ms");
+    }
+
+    private static int collapse(ColorMap source, int size, int seed) {
+        int failures = 0;
+        for (int mx = 0; mx < size; mx += CHUNK_SIZE) {
+            for (int my = 0; my < size; my += CHUNK_SIZE) {
+                OverlappingModel model = new OverlappingModel(source, N, Math.min(size - mx, CHUNK_SIZE), Math.min(size - my, CHUNK_SIZE), true, true, SYMMETRY, 0);
+                boolean suc = false;
+                for (int i = 0; i < 10 && !suc; i++)
+                    suc = model.run(seed + (i * 5355) + mx * my, 0);
+                if (!suc)
+                    failures++;
+            }
+        }
+        return failures;
+    }
+
+    private static ColorMap readColorMap(File file) throws IOException {
+        BufferedImage image = ImageIO.read(file);
+        ColorMap map = new ColorMap(image.getWidth(), image.getHeight());
+        Color color = new Color();
+        for (int y = 0; y < image.getHeight(); y++)
+            for (int x = 0; x < image.getWidth(); x++) {
+                Color.argb8888ToColor(color, image.getRGB(x, y));
+                map.setColor(x, y, color);
+            }
+        return map;
+    }
+}
@@ -28,6 +28,7 @@ import forge.gamemodes.limited.BoosterDraft;
 import forge.gui.FThreads;
 import forge.gui.GuiBase;
 import forge.gui.error.BugReporter;
+import forge.gui.error.SentryDiagnosticsSink;
 import forge.interfaces.IDeviceAdapter;
 import forge.localinstance.properties.ForgeConstants;
 import forge.localinstance.properties.ForgePreferences;
@@ -144,6 +145,8 @@ public class Forge implements ApplicationListener {
                 isTabletDevice = isTablet;
                 androidVersion = AndroidAPI;
             }
+            Diagnostics.install(new SentryDiagnosticsSink());
+            Diagnostics.setSampleInterval(SentryDiagnosticsSink.SAMPLE_INTERVAL);
             if (hwInfo != null) {
                 Sentry.configureScope(ScopeType.GLOBAL, scope -> {
                     scope.getContexts().setDevice(hwInfo.device());
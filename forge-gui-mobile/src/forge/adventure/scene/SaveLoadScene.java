@@ -296,6 +296,7 @@ public class SaveLoadScene extends UIScene {
     }
 
     private void updateFiles() {
+        WorldSave.waitForPendingSave();
 
         File f = new File(WorldSave.getSaveDir());
         f.mkdirs();
@@ -0,0 +1,101 @@
+package forge.adventure.util;
+
+import java.io.*;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Binary container for large, rarely changing save sections like the generated world.
+ * Every entry of a SaveFileData is written as its own deflated chunk behind a small header
+ * holding an id, so a caller can check whether the file on disk is current without reading it.
+ */
+public final class ChunkedSaveFile {
+    private static final int MAGIC = 0x46574C44; //FWLD
+    private static final int VERSION = 1;
+
+    private ChunkedSaveFile() {
+    }
+
+    public static void write(File file, long id, SaveFileData data) throws IOException {
+        File temp = new File(file.getPath() + ".tmp");
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        byte[] buffer = new byte[64 * 1024];
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(id);
+            out.writeInt(data.size());
+            ByteArrayOutputStream chunk = new ByteArrayOutputStream();
+            for (Map.Entry<String, byte[]> entry : data.entrySet()) {
+                byte[] raw = entry.getValue();
+                chunk.reset();
+                deflater.reset();
+                deflater.setInput(raw);
+                deflater.finish();
+                while (!deflater.finished()) {
+                    int count = deflater.deflate(buffer);
+                    chunk.write(buffer, 0, count);
+                }
+                out.writeUTF(entry.getKey());
+                out.writeInt(raw.length);
+                out.writeInt(chunk.size());
+                chunk.writeTo(out);
+            }
+        } finally {
+            deflater.end();
+        }
+        if (file.exists() && !file.delete())
+            throw new IOException("Can not replace " + file.getPath());
+        if (!temp.renameTo(file))
+            throw new IOException("Can not rename " + temp.getPath());
+    }
+
+    /**
+     * @return the id stored in the header, or 0 if the file does not exist or is not a chunked save file
+     */
+    public static long readId(File file) {
+        if (!file.exists())
+            return 0;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readInt() > VERSION)
+                return 0;
+            return in.readLong();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    public static SaveFileData read(File file) throws IOException {
+        SaveFileData data = new SaveFileData();
+        Inflater inflater = new Inflater();
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            if (in.readInt() != MAGIC)
+                throw new IOException("Not a chunked save file: " + file.getPath());
+            if (in.readInt() > VERSION)
+                throw new IOException("Unsupported save file version: " + file.getPath());
+            in.readLong();
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                String key = in.readUTF();
+                byte[] raw = new byte[in.readInt()];
+                byte[] compressed = new byte[in.readInt()];
+                in.readFully(compressed);
+                inflater.reset();
+                inflater.setInput(compressed);
+                try {
+                    int offset = 0;
+                    while (offset < raw.length && !inflater.finished())
+                        offset += inflater.inflate(raw, offset, raw.length - offset);
+                } catch (DataFormatException e) {
+                    throw new IOException("Corrupted chunk " + key + " in " + file.getPath(), e);
+                }
+                data.put(key, raw);
+            }
+        } finally {
+            inflater.end();
+        }
+        return data;
+    }
+}
@@ -0,0 +1,58 @@
+package forge.adventure.util;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Replaces the files of a save slot: the .sav file and the chunked world file it refers to.
+ * The current .sav file is moved to a .old backup before anything is written and moved back
+ * if any of the writes fail, so a failed save always leaves the previous one in place.
+ */
+public final class SaveSlotFiles {
+    public interface ContentWriter {
+        void write(OutputStream out) throws IOException;
+    }
+
+    private SaveSlotFiles() {
+    }
+
+    public static File getBackupFile(File saveFile) {
+        return new File(saveFile.getPath().replace(".sav", ".old"));
+    }
+
+    /**
+     * @param world written to the world file unless it already holds the world with this id
+     * @param content writes the header and main data of the .sav file
+     * @throws IOException if the save failed, the previous .sav file is restored then
+     */
+    public static void write(File saveFile, File worldFile, long worldId, SaveFileData world, ContentWriter content) throws IOException {
+        File backupFile = getBackupFile(saveFile);
+        boolean backedUp = false;
+        if (saveFile.exists()) {
+            if (backupFile.exists() && !backupFile.delete())
+                throw new IOException("Can not replace " + backupFile.getPath());
+            if (!saveFile.renameTo(backupFile))
+                throw new IOException("Can not back up " + saveFile.getPath());
+            backedUp = true;
+        }
+
+        try {
+            if (ChunkedSaveFile.readId(worldFile) != worldId)
+                ChunkedSaveFile.write(worldFile, worldId, world);
+            try (FileOutputStream fos = new FileOutputStream(saveFile)) {
+                content.write(fos);
+            }
+        } catch (IOException | RuntimeException e) {
+            if (saveFile.exists())
+                saveFile.delete();
+            if (backedUp)
+                backupFile.renameTo(saveFile);
+            throw e;
+        }
+
+        if (backedUp)
+            backupFile.delete();
+    }
+}
@@ -0,0 +1,101 @@
+package forge.adventure.world;
+
+/**
+ * Indexed binary min-heap of wave cells ordered by entropy.
+ * Cells can be updated or removed in place, so observing the next cell
+ * does not need a scan over the whole wave and does not allocate.
+ */
+final class EntropyHeap {
+  private final int[] heap;
+  private final int[] position;
+  private final double[] keys;
+  private int size;
+
+  EntropyHeap(int capacity) {
+    this.heap = new int[capacity];
+    this.position = new int[capacity];
+    this.keys = new double[capacity];
+    clear();
+  }
+
+  void clear() {
+    for (int i = 0; i < this.position.length; i++) this.position[i] = -1;
+    this.size = 0;
+  }
+
+  boolean isEmpty() {
+    return this.size == 0;
+  }
+
+  boolean contains(int cell) {
+    return this.position[cell] >= 0;
+  }
+
+  int peek() {
+    return this.heap[0];
+  }
+
+  void add(int cell, double key) {
+    this.keys[cell] = key;
+    this.heap[this.size] = cell;
+    this.position[cell] = this.size;
+    siftUp(this.size++);
+  }
+
+  void update(int cell, double key) {
+    int pos = this.position[cell];
+    if (pos < 0) return;
+    double old = this.keys[cell];
+    this.keys[cell] = key;
+    if (key < old) siftUp(pos);
+    else siftDown(pos);
+  }
+
+  void remove(int cell) {
+    int pos = this.position[cell];
+    if (pos < 0) return;
+    this.position[cell] = -1;
+    int last = this.heap[--this.size];
+    if (pos == this.size) return;
+    this.heap[pos] = last;
+    this.position[last] = pos;
+    siftUp(pos);
+    siftDown(this.position[last]);
+  }
+
+  private void siftUp(int pos) {
+    int cell = this.heap[pos];
+    double key = this.keys[cell];
+    while (pos > 0) {
+      int parent = (pos - 1) >>> 1;
+      int p = this.heap[parent];
+      if (this.keys[p] <= key) break;
+      this.heap[pos] = p;
+      this.position[p] = pos;
+      pos = parent;
+    }
+    this.heap[pos] = cell;
+    this.position[cell] = pos;
+  }
+
+  private void siftDown(int pos) {
+    int cell = this.heap[pos];
+    double key = this.keys[cell];
+    int half = this.size >>> 1;
+    while (pos < half) {
+      int child = 2 * pos + 1;
+      int c = this.heap[child];
+      int right = child + 1;
+      if (right < this.size && this.keys[this.heap[right]] < this.keys[c]) {
+        child = right;
+        c = this.heap[child];
+      }
+      if (key <= this.keys[c]) break;
+      this.heap[pos] = c;
+      this.position[c] = pos;
+      pos = child;
+    }
+    this.heap[pos] = cell;
+    this.position[cell] = pos;
+  }
+}
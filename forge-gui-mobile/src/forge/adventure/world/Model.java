@@ -7,11 +7,18 @@ import java.util.Random;
 
 
 abstract class Model {
-  protected boolean[][] wave;
+  /**
+   * Wave packed as bitsets: cell i owns the words [i * waveWords, (i + 1) * waveWords),
+   * bit t of that range is set while pattern t is still possible for the cell.
+   */
+  protected long[] wave;
+  protected int waveWords;
   protected int[][][] propagator;
-  int[][][] compatible;
+  /** Flattened [cell][pattern][direction] support counters. */
+  int[] compatible;
   protected int[] observed;
 
+  /** Preallocated (cell, pattern) pairs, every pair is banned at most once per run. */
   int[] stack;
   int stacksize;
 
@@ -25,6 +32,9 @@ abstract class Model {
   double sumOfWeights, sumOfWeightLogWeights, startingEntropy;
   double[] sumsOfWeights, sumsOfWeightLogWeights, entropies;
   private double[] distribution;
+  private double[] entropyNoise;
+  private EntropyHeap entropyHeap;
+  private boolean contradiction;
 
   protected Model(int width, int height) {
     this.FMX = width;
@@ -64,14 +74,15 @@ abstract class Model {
     return product;
   }
 
+  protected final boolean isPossible(int i, int t) {
+    return (this.wave[i * this.waveWords + (t >>> 6)] & (1L << t)) != 0;
+  }
+
   void init() {
-    this.wave = new boolean[this.FMX * this.FMY][];
-    this.compatible = new int[this.wave.length][][];
-    for (int i = 0; i < wave.length; i++) {
-      this.wave[i] = new boolean[this.T];
-      this.compatible[i] = new int[this.T][];
-      for (int t = 0; t < this.T; t++) this.compatible[i][t] = new int[4];
-    }
+    int cells = this.FMX * this.FMY;
+    this.waveWords = (this.T + 63) >>> 6;
+    this.wave = new long[cells * this.waveWords];
+    this.compatible = new int[cells * this.T * 4];
 
     this.weightLogWeights = new double[this.T];
     this.distribution = new double[this.T];
@@ -89,75 +100,69 @@ abstract class Model {
                     this.sumOfWeightLogWeights /
                             this.sumOfWeights;
 
-    this.sumsOfOnes = new int[this.FMX * this.FMY];
-    this.sumsOfWeights = new double[this.FMX * this.FMY];
-    this.sumsOfWeightLogWeights = new double[this.FMX * this.FMY];
-    this.entropies = new double[this.FMX * this.FMY];
+    this.sumsOfOnes = new int[cells];
+    this.sumsOfWeights = new double[cells];
+    this.sumsOfWeightLogWeights = new double[cells];
+    this.entropies = new double[cells];
+    this.entropyNoise = new double[cells];
+    this.entropyHeap = new EntropyHeap(cells);
 
-    this.stack = new int[(this.wave.length * this.T)*2];
+    this.stack = new int[(cells * this.T) * 2];
     this.stacksize = 0;
   }
 
   Boolean observe() {
-    double min = 1e+3;
-    int argmin = -1;
-
-    for (int i = 0; i < this.wave.length; i++) {
-      if (this.onBoundary(i % this.FMX, i / this.FMX)) continue;
-
-      int amount = this.sumsOfOnes[i];
-      if (amount == 0) return false;
-
-
-      double entropy = this.entropies[i];
-
-      if (amount > 1 && entropy <= min) {
-        double noise = 1e-6 * this.random.nextDouble();
-        if (entropy + noise < min) {
-          min = entropy + noise;
-          argmin = i;
+    if (this.contradiction) return false;
+
+    if (this.entropyHeap.isEmpty()) {
+      int cells = this.FMX * this.FMY;
+      this.observed = new int[cells];
+      for (int i = 0; i < cells; i++) {
+        int base = i * this.waveWords;
+        for (int w = 0; w < this.waveWords; w++) {
+          long word = this.wave[base + w];
+          if (word != 0) {
+            this.observed[i] = (w << 6) + Long.numberOfTrailingZeros(word);
+            break;
+          }
         }
       }
-    }
-
-
-    if (argmin == -1) {
-      this.observed = new int[this.FMX * this.FMY];
-      for (int i = 0; i < this.wave.length; i++) for (int t = 0; t <
-              this.T; t++) if (this.wave[i][t]) {
-        this.observed[i] = t;
-        break;
-      }
       return true;
     }
 
+    int argmin = this.entropyHeap.peek();
     for (int t = 0; t < this.T; t++) distribution[t] =
-            this.wave[argmin][t] ? this.weights[t] : 0;
+            isPossible(argmin, t) ? this.weights[t] : 0;
 
     int r = Model.randomIndice(distribution, this.random.nextDouble());
 
-
-    boolean[] w = this.wave[argmin];
-    for (int t = 0; t < this.T; t++) if (w[t] != (t == r)) this.ban(argmin, t);
+    for (int t = 0; t < this.T; t++) if (isPossible(argmin, t) != (t == r)) this.ban(argmin, t);
 
     return null;
   }
 
   protected void ban(int i, int t) {
-    this.wave[i][t] = false;
+    this.wave[i * this.waveWords + (t >>> 6)] &= ~(1L << t);
 
-    int[] comp = this.compatible[i][t];
-    for (int d = 0; d < 4; d++) comp[d] = 0;
+    int comp = (i * this.T + t) * 4;
+    for (int d = 0; d < 4; d++) this.compatible[comp + d] = 0;
     this.stack[this.stacksize]=i;
     this.stack[this.stacksize+1]=t;
     this.stacksize+=2;
 
-    this.sumsOfOnes[i] -= 1;
+    int amount = --this.sumsOfOnes[i];
     this.sumsOfWeights[i] -= this.weights[t];
     this.sumsOfWeightLogWeights[i] -= this.weightLogWeights[t];
 
     double sum = this.sumsOfWeights[i];
     this.entropies[i] = Math.log(sum) - this.sumsOfWeightLogWeights[i] / sum;
+
+    if (amount > 1) {
+      this.entropyHeap.update(i, this.entropies[i] + this.entropyNoise[i]);
+    } else {
+      this.entropyHeap.remove(i);
+      if (amount == 0 && !this.onBoundary(i % this.FMX, i / this.FMX)) this.contradiction = true;
+    }
   }
 
   protected void propagate() {
@@ -179,14 +184,12 @@ abstract class Model {
 
         int i2 = x2 + y2 * this.FMX;
         int[] p = this.propagator[d][stack2];
-        int[][] compat = this.compatible[i2];
+        int compat = i2 * this.T * 4 + d;
 
         for (int t2 : p) {
-          int[] comp = compat[t2];
+          int comp = compat + t2 * 4;
 
-          comp[d]--;
-
-          if (comp[d] == 0) this.ban(i2, t2);
+          if (--this.compatible[comp] == 0) this.ban(i2, t2);
         }
       }
     }
@@ -195,8 +198,8 @@ abstract class Model {
   public boolean run(int seed, int limit) {
     if (this.wave == null) this.init();
 
-    this.Clear();
     this.random = new Random(seed);
+    this.Clear();
 
     for (int l = 0; l < limit || limit == 0; l++) {
       Boolean result = this.observe();
@@ -209,10 +212,19 @@ abstract class Model {
   }
 
   protected void Clear() {
-    for (int i = 0; i < this.wave.length; i++) {
+    int cells = this.FMX * this.FMY;
+    long lastWord = (this.T & 63) == 0 ? -1L : (1L << this.T) - 1;
+    this.entropyHeap.clear();
+    this.contradiction = false;
+    this.stacksize = 0;
+    for (int i = 0; i < cells; i++) {
+      int base = i * this.waveWords;
+      for (int w = 0; w < this.waveWords - 1; w++) this.wave[base + w] = -1L;
+      this.wave[base + this.waveWords - 1] = lastWord;
+
+      int comp = i * this.T * 4;
       for (int t = 0; t < this.T; t++) {
-        this.wave[i][t] = true;
-        for (int d = 0; d < 4; d++) this.compatible[i][t][d] =
+        for (int d = 0; d < 4; d++) this.compatible[comp + t * 4 + d] =
                 this.propagator[Model.oppposite[d]][t].length;
       }
 
@@ -220,6 +232,10 @@ abstract class Model {
       this.sumsOfWeights[i] = this.sumOfWeights;
       this.sumsOfWeightLogWeights[i] = this.sumOfWeightLogWeights;
       this.entropies[i] = this.startingEntropy;
+      //fixed tie breaker per cell instead of drawing new noise on every observation
+      this.entropyNoise[i] = 1e-6 * this.random.nextDouble();
+      if (this.T > 1 && !this.onBoundary(i % this.FMX, i / this.FMX))
+        this.entropyHeap.add(i, this.startingEntropy + this.entropyNoise[i]);
     }
   }
 }
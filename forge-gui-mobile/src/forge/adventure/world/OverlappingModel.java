@@ -236,7 +236,7 @@ public class OverlappingModel extends Model {
         }
       }
     } else {
-      for (int i = 0; i < this.wave.length; i++) {
+      for (int i = 0; i < this.FMX * this.FMY; i++) {
         float contributors = 0, r = 0, g = 0, b = 0;
         int x = i % this.FMX, y = i / this.FMX;
 
@@ -250,7 +250,7 @@ public class OverlappingModel extends Model {
 
           int s = sx + sy * this.FMX;
           if (this.onBoundary(sx, sy)) continue;
-          for (int t = 0; t < this.T; t++) if (wave[s][t]) {
+          for (int t = 0; t < this.T; t++) if (isPossible(s, t)) {
             contributors++;
             Color color = this.colors.get(this.patterns[t][dx + dy * this.N]);
             r += color.r;
@@ -287,18 +287,18 @@ public class SimpleTiledModel extends Model {
       }
     } else {
       for (int x = 0; x < this.FMX; x++) for (int y = 0; y < this.FMY; y++) {
-        boolean[] a = this.wave[x + y * this.FMX];
-        int amount = IntStream
-          .range(0, a.length)
-          .map(idx -> a[idx] ? 1 : 0)
-          .sum();
+        int cell = x + y * this.FMX;
+        int amount = (int) IntStream
+          .range(0, this.T)
+          .filter(idx -> isPossible(cell, idx))
+          .count();
         
         
         double lambda =
           1.0 /
             IntStream
               .range(0, this.T)
-              .filter(idx -> a[idx])
+              .filter(idx -> isPossible(cell, idx))
               .mapToDouble(idx -> this.weights[idx])
               .sum();
 
@@ -310,7 +310,7 @@ public class SimpleTiledModel extends Model {
              Color.BLACK
           ); else {
             double r = 0, g = 0, b = 0;
-            for (int t = 0; t < this.T; t++) if (a[t]) {
+            for (int t = 0; t < this.T; t++) if (isPossible(cell, t)) {
               Color c = this.tiles.get(t)[xt + yt * this.tilesize];
               r += c.r  * this.weights[t] * lambda;
               g += c.g * this.weights[t] * lambda;
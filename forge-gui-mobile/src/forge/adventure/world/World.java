@@ -27,7 +27,8 @@ import org.apache.commons.lang3.tuple.Pair;
 
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 /**
  * Class that will create the world from the configuration
@@ -46,6 +47,8 @@ public class World implements Disposable, SaveFileContent {
     private PointOfInterestMap mapPoiIds;
     private BiomeTexture[] biomeTexture;
     private long seed;
+    private long worldId;
+    private SaveFileData savedData;
     private final Random random = new Random();
     private boolean worldDataLoaded = false;
     private Texture globalTexture = null;
@@ -116,10 +119,36 @@ public class World implements Disposable, SaveFileContent {
         mapPoiIds = new PointOfInterestMap(getChunkSize(), this.data.tileSize, this.data.width / getChunkSize(), this.data.height / getChunkSize());
         mapPoiIds.load(saveFileData.readSubData("mapPoiIds"));
         seed = saveFileData.readLong("seed");
+        worldId = saveFileData.readLong("worldId");
+        if (worldId == 0) {
+            //saved by an older version, make sure it gets written in the chunked format once
+            worldId = newWorldId();
+            savedData = null;
+        } else {
+            savedData = saveFileData;
+        }
+    }
+
+    /**
+     * Identifies the generated world, it only changes when a new world is generated or loaded.
+     */
+    public long getWorldId() {
+        return worldId;
+    }
+
+    private static long newWorldId() {
+        long id;
+        do {
+            id = new Random().nextLong();
+        } while (id == 0);
+        return id;
     }
 
     @Override
     public SaveFileData save() {
+        //the world does not change after generation, so serialize it only once
+        if (savedData != null)
+            return savedData;
 
         SaveFileData data = new SaveFileData();
 
@@ -131,6 +160,9 @@ public class World implements Disposable, SaveFileContent {
         data.store("mapObjectIds", mapObjectIds.save());
         data.store("mapPoiIds", mapPoiIds.save());
         data.store("seed", seed);
+        data.store("worldId", worldId);
+        if (data.readString("IOException") == null)
+            savedData = data;
         return data;
     }
 
@@ -288,6 +320,145 @@ public class World implements Disposable, SaveFileContent {
         return currentTime;
     }
 
+    /**
+     * Precomputed bounds of a biome together with the pending structures that are placed inside it.
+     */
+    private final class BiomeArea {
+        private final BiomeData biome;
+        private final long biomeBit;
+        private final int xStart;
+        private final int yStart;
+        private final int biomeWidth;
+        private final int biomeHeight;
+        private final int beginX;
+        private final int beginY;
+        private final int endX;
+        private final int endY;
+        private final BiomeStructureData[] structureData;
+        private final CompletableFuture<BiomeStructure>[] structures;
+
+        @SuppressWarnings("unchecked")
+        private BiomeArea(BiomeData biome, int index, Map<BiomeStructureData, CompletableFuture<BiomeStructure>> structureFutures) {
+            this.biome = biome;
+            this.biomeBit = 1L << index;
+            xStart = (int) Math.round(biome.startPointX * (double) width);
+            yStart = (int) Math.round(biome.startPointY * (double) height);
+            biomeWidth = (int) Math.round(biome.width * (double) width);
+            biomeHeight = (int) Math.round(biome.height * (double) height);
+            if (biome.width == 1.0 && biome.height == 1.0) {
+                beginX = 0;
+                beginY = 0;
+                endX = width;
+                endY = height;
+            } else {
+                beginX = Math.max(xStart - biomeWidth / 2, 0);
+                beginY = Math.max(yStart - biomeHeight / 2, 0);
+                endX = Math.min(xStart + biomeWidth / 2, width);
+                endY = Math.min(yStart + biomeHeight / 2, height);
+            }
+            structureData = biome.structures == null ? new BiomeStructureData[0] : biome.structures;
+            structures = new CompletableFuture[structureData.length];
+            for (int i = 0; i < structureData.length; i++)
+                structures[i] = structureFutures.get(structureData[i]);
+        }
+
+        private void fill(OpenSimplexNoise noise, float noiseZoom, int fromX, int fromY, int toX, int toY) {
+            int x0 = Math.max(fromX, beginX);
+            int y0 = Math.max(fromY, beginY);
+            int x1 = Math.min(toX, endX);
+            int y1 = Math.min(toY, endY);
+            for (int x = x0; x < x1; x++) {
+                for (int y = y0; y < y1; y++) {
+                    //value 0-1 based on noise
+                    float noiseValue = ((float) noise.eval(x / (float) width * noiseZoom, y / (float) height * noiseZoom) + 1) / 2f;
+                    noiseValue *= biome.noiseWeight;
+                    //value 0-1 based on dist to origin
+                    float distanceValue = ((float) Math.sqrt((x - xStart) * (x - xStart) + (y - yStart) * (y - yStart))) / (Math.max(biomeWidth, biomeHeight) / 2f);
+                    distanceValue *= biome.distWeight;
+                    if (!(noiseValue + distanceValue < 1.0 || biome.invertHeight && (1 - noiseValue) + distanceValue < 1.0))
+                        continue;
+
+                    biomeMap[x][y] |= biomeBit;
+                    int terrainCounter = 1;
+                    terrainMap[x][y] = 0;
+                    if (biome.terrain != null) {
+                        for (BiomeTerrainData terrain : biome.terrain) {
+                            float terrainNoise = ((float) noise.eval(x / (float) width * (noiseZoom * terrain.resolution), y / (float) height * (noiseZoom * terrain.resolution)) + 1) / 2;
+                            if (terrainNoise >= terrain.min && terrainNoise <= terrain.max) {
+                                terrainMap[x][y] = terrainCounter;
+                            }
+                            terrainCounter++;
+                        }
+                    }
+                    if (biome.collision)
+                        terrainMap[x][y] |= collisionBit;
+                    for (int i = 0; i < structureData.length; i++) {
+                        BiomeStructureData data = structureData[i];
+                        //blocks only until this particular structure is collapsed, other tiles keep going
+                        BiomeStructure structure = structures[i] == null ? null : structures[i].join();
+                        if (structure != null) {
+                            int structureXStart = x - (xStart - biomeWidth / 2) - (int) ((data.x * biomeWidth) - (data.width * biomeWidth / 2));
+                            int structureYStart = y - (yStart - biomeHeight / 2) - (int) ((data.y * biomeHeight) - (data.height * biomeHeight / 2));
+
+                            int structureIndex = structure.objectID(structureXStart, structureYStart);
+                            if (structureIndex >= 0) {
+                                terrainMap[x][y] = terrainCounter + structureIndex;
+                                if (structure.collision(structureXStart, structureYStart))
+                                    terrainMap[x][y] |= collisionBit;
+                                terrainMap[x][y] |= isStructureBit;
+                            }
+                        }
+                        terrainCounter += data.mappingInfo.length;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Fills a rectangle of the biome and terrain maps. Every tile only depends on the seeded noise and
+     * the biome order, so the rectangles can be computed independently and the result stays the same
+     * for a given seed no matter how the work is split.
+     */
+    private final class BiomeFillTask extends RecursiveAction {
+        private static final int TILE_SIZE = 64;
+        private final List<BiomeArea> areas;
+        private final OpenSimplexNoise noise;
+        private final float noiseZoom;
+        private final int fromX, fromY, toX, toY;
+
+        private BiomeFillTask(List<BiomeArea> areas, OpenSimplexNoise noise, float noiseZoom, int fromX, int fromY, int toX, int toY) {
+            this.areas = areas;
+            this.noise = noise;
+            this.noiseZoom = noiseZoom;
+            this.fromX = fromX;
+            this.fromY = fromY;
+            this.toX = toX;
+            this.toY = toY;
+        }
+
+        @Override
+        protected void compute() {
+            int w = toX - fromX;
+            int h = toY - fromY;
+            if (w <= TILE_SIZE && h <= TILE_SIZE) {
+                //later biomes overwrite earlier ones, so keep the biome order within a tile
+                for (BiomeArea area : areas)
+                    area.fill(noise, noiseZoom, fromX, fromY, toX, toY);
+                return;
+            }
+            if (w >= h) {
+                int midX = fromX + w / 2;
+                invokeAll(new BiomeFillTask(areas, noise, noiseZoom, fromX, fromY, midX, toY),
+                        new BiomeFillTask(areas, noise, noiseZoom, midX, fromY, toX, toY));
+            } else {
+                int midY = fromY + h / 2;
+                invokeAll(new BiomeFillTask(areas, noise, noiseZoom, fromX, fromY, toX, midY),
+                        new BiomeFillTask(areas, noise, noiseZoom, fromX, midY, toX, toY));
+            }
+        }
+    }
+
     public boolean generateNew(long seed) {
         try {
             if (GuiBase.isAndroid())
@@ -304,6 +475,8 @@ public class World implements Disposable, SaveFileContent {
                 seed = random.nextLong();
             }
             this.seed = seed;
+            worldId = newWorldId();
+            savedData = null;
             random.setSeed(seed);
             OpenSimplexNoise noise = new OpenSimplexNoise(seed);
 
@@ -314,126 +487,42 @@ public class World implements Disposable, SaveFileContent {
             biomeMap = new long[width][height];
             terrainMap = new int[width][height];
 
-            for (int x = 0; x < width; x++) {
-                for (int y = 0; y < height; y++) {
-                    biomeMap[x][y] = 0;
-                    terrainMap[x][y] = 0;
-                }
-            }
-
             final int[] biomeIndex = {-1};
             currentTime[0] = measureGenerationTime("loading data", currentTime[0]);
-            Map<BiomeStructureData, BiomeStructure> structureDataMap = new ConcurrentHashMap<>();
 
 //////////////////
 ///////// calculation structure position with wavefunctioncollapse
 //////////////////
-            List<CompletableFuture<Long>> futures = new ArrayList<>();
+            ForkJoinPool pool = ForkJoinPool.commonPool();
+            Map<BiomeStructureData, CompletableFuture<BiomeStructure>> structureFutures = new HashMap<>();
             for (BiomeData biome : data.GetBiomes()) {
                 if (biome.structures != null) {
                     int biomeWidth = (int) Math.round(biome.width * (double) width);
                     int biomeHeight = (int) Math.round(biome.height * (double) height);
                     for (BiomeStructureData data : biome.structures) {
                         long localSeed = seed;
-                        futures.add(CompletableFuture.supplyAsync(()-> {
+                        structureFutures.put(data, CompletableFuture.supplyAsync(() -> {
                             long threadStartTime = System.currentTimeMillis();
                             BiomeStructure structure = new BiomeStructure(data, localSeed, biomeWidth, biomeHeight);
                             structure.initialize();
-                            structureDataMap.put(data, structure);
-                            return measureGenerationTime("wavefunctioncollapse " + data.sourcePath, threadStartTime);
-                        }).exceptionally(ex -> {
+                            measureGenerationTime("wavefunctioncollapse " + data.sourcePath, threadStartTime);
+                            return structure;
+                        }, pool).exceptionally(ex -> {
                             ex.printStackTrace();
-                            return 0L;
+                            return null;
                         }));
                     }
                 }
             }
-            CompletableFuture<?>[] futuresArray = futures.toArray(new CompletableFuture<?>[0]);
-            CompletableFuture.allOf(futuresArray).join();
-            futures.clear();
 
 //////////////////
 ///////// calculation each biome position based on noise and radius
 //////////////////
+            List<BiomeArea> areas = new ArrayList<>();
             for (BiomeData biome : data.GetBiomes()) {
-
-                biomeIndex[0]++;
-                int biomeXStart = (int) Math.round(biome.startPointX * (double) width);
-                int biomeYStart = (int) Math.round(biome.startPointY * (double) height);
-                int biomeWidth = (int) Math.round(biome.width * (double) width);
-                int biomeHeight = (int) Math.round(biome.height * (double) height);
-
-                int beginX = Math.max(biomeXStart - biomeWidth / 2, 0);
-                int beginY = Math.max(biomeYStart - biomeHeight / 2, 0);
-                int endX = Math.min(biomeXStart + biomeWidth / 2, width);
-                int endY = Math.min(biomeYStart + biomeHeight / 2, height);
-                if (biome.width == 1.0 && biome.height == 1.0) {
-                    beginX = 0;
-                    beginY = 0;
-                    endX = width;
-                    endY = height;
-                }
-                for (int x = beginX; x < endX; x++) {
-                    for (int y = beginY; y < endY; y++) {
-                        //value 0-1 based on noise
-                        float noiseValue = ((float) noise.eval(x / (float) width * noiseZoom, y / (float) height * noiseZoom) + 1) / 2f;
-                        noiseValue *= biome.noiseWeight;
-                        //value 0-1 based on dist to origin
-                        float distanceValue = ((float) Math.sqrt((x - biomeXStart) * (x - biomeXStart) + (y - biomeYStart) * (y - biomeYStart))) / (Math.max(biomeWidth, biomeHeight) / 2f);
-                        distanceValue *= biome.distWeight;
-                        if (noiseValue + distanceValue < 1.0 || biome.invertHeight && (1 - noiseValue) + distanceValue < 1.0) {
-                            Color color = biome.GetColor();
-                            float[] hsv = new float[3];
-                            color.toHsv(hsv);
-                            int count = (int) ((noiseValue - 0.5) * 10 / 4);
-                            //hsv[2]+=(count*0.2);
-                            biomeMap[x][y] |= (1L << biomeIndex[0]);
-                            int terrainCounter = 1;
-                            terrainMap[x][y] = 0;
-                            if (biome.terrain != null) {
-                                for (BiomeTerrainData terrain : biome.terrain) {
-                                    float terrainNoise = ((float) noise.eval(x / (float) width * (noiseZoom * terrain.resolution), y / (float) height * (noiseZoom * terrain.resolution)) + 1) / 2;
-                                    if (terrainNoise >= terrain.min && terrainNoise <= terrain.max) {
-                                        terrainMap[x][y] = terrainCounter;
-                                        //pix.fillRectangle(x*data.miniMapTileSize, y*data.miniMapTileSize,data.miniMapTileSize,data.miniMapTileSize);
-                                    }
-                                    terrainCounter++;
-                                }
-                            }
-                            if (biome.collision)
-                                terrainMap[x][y] |= collisionBit;
-                            if (biome.structures != null) {
-                                for (BiomeStructureData data : biome.structures) {
-                                    while (!structureDataMap.containsKey(data)) {
-                                        try {
-                                            Thread.sleep(10);
-                                        } catch (InterruptedException e) {
-                                            throw new RuntimeException(e);
-                                        }
-                                    }
-
-                                    BiomeStructure structure = structureDataMap.get(data);
-                                    int structureXStart = x - (biomeXStart - biomeWidth / 2) - (int) ((data.x * biomeWidth) - (data.width * biomeWidth / 2));
-                                    int structureYStart = y - (biomeYStart - biomeHeight / 2) - (int) ((data.y * biomeHeight) - (data.height * biomeHeight / 2));
-
-                                    int structureIndex = structure.objectID(structureXStart, structureYStart);
-                                    if (structureIndex >= 0) {
-
-                                        terrainMap[x][y] = terrainCounter + structureIndex;
-                                        if (structure.collision(structureXStart, structureYStart))
-                                            terrainMap[x][y] |= collisionBit;
-                                        terrainMap[x][y] |= isStructureBit;
-
-                                    }
-
-                                    terrainCounter += structure.structureObjectCount();
-                                }
-                            }
-                        }
-
-                    }
-                }
+                areas.add(new BiomeArea(biome, ++biomeIndex[0], structureFutures));
             }
+            pool.invoke(new BiomeFillTask(areas, noise, noiseZoom, 0, 0, width, height));
             currentTime[0] = measureGenerationTime("biomes in total", currentTime[0]);
 
 //////////////////
@@ -599,6 +688,7 @@ public class World implements Disposable, SaveFileContent {
                 //allSortedTowns.add(Pair.of(current, towns.get(secondSmallestIndex)));
             }
             List<Pair<PointOfInterest, PointOfInterest>> allPOIPathsToNextTown = new ArrayList<>();
+            List<CompletableFuture<Long>> futures = new ArrayList<>();
             for (int i = 0; i < notTowns.size() - 1; i++) {
 
                 PointOfInterest poi = notTowns.get(i);
@@ -654,8 +744,7 @@ public class World implements Disposable, SaveFileContent {
                     return 0L;
                 }));
             }
-            futuresArray = futures.toArray(new CompletableFuture<?>[0]);
-            CompletableFuture.allOf(futuresArray).join();
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).join();
             futures.clear();
             for (Pair<PointOfInterest, PointOfInterest> townPair : allSortedTowns) {
                 futures.add(CompletableFuture.supplyAsync(()-> {
@@ -698,8 +787,7 @@ public class World implements Disposable, SaveFileContent {
                     return 0L;
                 }));
             }
-            futuresArray = futures.toArray(new CompletableFuture<?>[0]);
-            CompletableFuture.allOf(futuresArray).join();
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).join();
             futures.clear();
             currentTime[0] = measureGenerationTime("roads", currentTime[0]);
 
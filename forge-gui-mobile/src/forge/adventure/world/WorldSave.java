@@ -1,5 +1,7 @@
 package forge.adventure.world;
 
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Pixmap;
 import forge.adventure.data.DifficultyData;
 import forge.adventure.player.AdventurePlayer;
 import forge.adventure.pointofintrest.PointOfInterest;
@@ -9,8 +11,10 @@ import forge.adventure.scene.SaveLoadScene;
 import forge.adventure.stage.PointOfInterestMapSprite;
 import forge.adventure.stage.WorldStage;
 import forge.adventure.util.AdventureModes;
+import forge.adventure.util.ChunkedSaveFile;
 import forge.adventure.util.Config;
 import forge.adventure.util.SaveFileData;
+import forge.adventure.util.SaveSlotFiles;
 import forge.adventure.util.SignalList;
 import forge.card.CardEdition;
 import forge.card.ColorSet;
@@ -20,6 +24,10 @@ import forge.player.GamePlayerUtil;
 
 import java.io.*;
 import java.util.Date;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.zip.DeflaterOutputStream;
 import java.util.zip.InflaterInputStream;
 
@@ -32,6 +40,13 @@ public class WorldSave {
     static final public int QUICK_SAVE_SLOT = -2;
     static final public int INVALID_SAVE_SLOT = -3;
     static final WorldSave currentSave = new WorldSave();
+    /** Saves are compressed and written here so the render thread only has to collect the data. */
+    private static final ExecutorService saveExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "Adventure Save");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private static volatile Future<?> pendingSave;
     public WorldSaveHeader header = new WorldSaveHeader();
     private final AdventurePlayer player = new AdventurePlayer();
     private final World world = new World();
@@ -59,6 +74,7 @@ public class WorldSave {
     }
 
     static public boolean load(int currentSlot) {
+        waitForPendingSave();
 
         String fileName = WorldSave.getSaveFile(currentSlot);
         if (!new File(fileName).exists())
@@ -73,7 +89,12 @@ public class WorldSave {
                 currentSave.player.load(mainData.readSubData("player"));
                 GamePlayerUtil.getGuiPlayer().setName(currentSave.player.getName());
                 try {
-                    currentSave.world.load(mainData.readSubData("world"));
+                    if (mainData.containsKey("world")) {
+                        currentSave.world.load(mainData.readSubData("world"));
+                    } else {
+                        File worldFile = getWorldFile(currentSlot, mainData.readLong("worldId"));
+                        currentSave.world.load(ChunkedSaveFile.read(worldFile));
+                    }
                     currentSave.pointOfInterestChanges.load(mainData.readSubData("pointOfInterestChanges"));
                     WorldStage.getInstance().load(mainData.readSubData("worldStage"));
 
@@ -93,6 +114,22 @@ public class WorldSave {
         return true;
     }
 
+    /**
+     * Blocks until the last save has been written to disk.
+     */
+    public static void waitForPendingSave() {
+        Future<?> save = pendingSave;
+        if (save == null)
+            return;
+        try {
+            save.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            e.printStackTrace();
+        }
+    }
+
     public static boolean isSafeFile(String name) {
         return filenameToSlot(name) != INVALID_SAVE_SLOT;
     }
@@ -123,6 +160,25 @@ public class WorldSave {
         return ForgeConstants.USER_ADVENTURE_DIR + Config.instance().getPlane() + File.separator + filename(slot);
     }
 
+    /**
+     * The generated world is stored next to the save slot and named after its id,
+     * so it is only written again when a different world is saved into the slot.
+     */
+    private static File getWorldFile(int slot, long worldId) {
+        return new File(getSaveDir(), filename(slot).replace(".sav", "") + "." + Long.toHexString(worldId) + ".world");
+    }
+
+    private static void deleteOtherWorldFiles(int slot, File keep) {
+        String prefix = filename(slot).replace(".sav", "") + ".";
+        File[] files = new File(getSaveDir()).listFiles((dir, name) -> name.startsWith(prefix) && name.endsWith(".world"));
+        if (files == null)
+            return;
+        for (File file : files) {
+            if (!file.equals(keep))
+                file.delete();
+        }
+    }
+
     public static WorldSave getCurrentSave() {
         return currentSave;
     }
@@ -157,71 +213,75 @@ public class WorldSave {
     public boolean save(String text, int currentSlot) {
         header.name = text;
 
-        String fileName = WorldSave.getSaveFile(currentSlot);
-        String oldFileName = fileName.replace(".sav", ".old");
-        new File(getSaveDir()).mkdirs();
-        File currentFile = new File(fileName);
-        File backupFile = new File(oldFileName);
-        if (currentFile.exists())
-            currentFile.renameTo(backupFile);
-
-        try {
-            try (FileOutputStream fos = new FileOutputStream(fileName);
-                 DeflaterOutputStream def = new DeflaterOutputStream(fos);
-                 ObjectOutputStream oos = new ObjectOutputStream(def)) {
-                SaveFileData player = currentSave.player.save();
-                SaveFileData world = currentSave.world.save();
-                SaveFileData worldStage = WorldStage.getInstance().save();
-                SaveFileData poiChanges = currentSave.pointOfInterestChanges.save();
-
-                String message = getExceptionMessage(player, world, worldStage, poiChanges);
-                if (!message.isEmpty()) {
-                    oos.close();
-                    fos.close();
-                    restoreBackup(oldFileName, fileName);
-                    announceError(message);
-                    return true;
-                }
+        SaveFileData player = currentSave.player.save();
+        SaveFileData world = currentSave.world.save();
+        SaveFileData worldStage = WorldStage.getInstance().save();
+        SaveFileData poiChanges = currentSave.pointOfInterestChanges.save();
 
-                SaveFileData mainData = new SaveFileData();
-                mainData.store("player", player);
-                mainData.store("world", world);
-                mainData.store("worldStage", worldStage);
-                mainData.store("pointOfInterestChanges", poiChanges);
-
-                if (mainData.readString("IOException") != null) {
-                    oos.close();
-                    fos.close();
-                    restoreBackup(oldFileName, fileName);
-                    announceError("Please check forge.log for errors.");
-                    return true;
-                }
+        String message = getExceptionMessage(player, world, worldStage, poiChanges);
+        if (!message.isEmpty()) {
+            announceError(message);
+            return true;
+        }
 
-                header.saveDate = new Date();
-                oos.writeObject(header);
-                oos.writeObject(mainData);
-            }
+        SaveFileData mainData = new SaveFileData();
+        mainData.store("player", player);
+        mainData.store("worldId", currentSave.world.getWorldId());
+        mainData.store("worldStage", worldStage);
+        mainData.store("pointOfInterestChanges", poiChanges);
 
-        } catch (IOException e) {
-            restoreBackup(oldFileName, fileName);
+        if (mainData.readString("IOException") != null) {
             announceError("Please check forge.log for errors.");
             return true;
         }
 
-        Config.instance().getSettingData().lastActiveSave = WorldSave.filename(currentSlot);
-        Config.instance().saveSettings();
-        if (backupFile.exists())
-            backupFile.delete();
+        header.saveDate = new Date();
+        //the preview can be replaced by the next save while this one is still being written
+        WorldSaveHeader headerCopy = new WorldSaveHeader();
+        headerCopy.name = header.name;
+        headerCopy.saveDate = header.saveDate;
+        if (header.preview != null) {
+            headerCopy.preview = new Pixmap(header.preview.getWidth(), header.preview.getHeight(), header.preview.getFormat());
+            headerCopy.preview.drawPixmap(header.preview, 0, 0);
+        }
+        long worldId = currentSave.world.getWorldId();
+
+        waitForPendingSave();
+        pendingSave = saveExecutor.submit(() -> {
+            try {
+                write(headerCopy, mainData, world, worldId, currentSlot);
+            } finally {
+                if (headerCopy.preview != null)
+                    headerCopy.preview.dispose();
+            }
+        });
         return true;
     }
 
-    public void restoreBackup(String oldFilename, String currentFilename) {
-        File f = new File(currentFilename);
-        if (f.exists())
-            f.delete();
-        File b = new File(oldFilename);
-        if (b.exists())
-            b.renameTo(new File(currentFilename));
+    private void write(WorldSaveHeader header, SaveFileData mainData, SaveFileData world, long worldId, int currentSlot) {
+        String fileName = WorldSave.getSaveFile(currentSlot);
+        new File(getSaveDir()).mkdirs();
+        File worldFile = getWorldFile(currentSlot, worldId);
+
+        try {
+            SaveSlotFiles.write(new File(fileName), worldFile, worldId, world, out -> {
+                try (DeflaterOutputStream def = new DeflaterOutputStream(out);
+                     ObjectOutputStream oos = new ObjectOutputStream(def)) {
+                    oos.writeObject(header);
+                    oos.writeObject(mainData);
+                }
+            });
+        } catch (IOException e) {
+            e.printStackTrace();
+            Gdx.app.postRunnable(() -> announceError("Please check forge.log for errors."));
+            return;
+        }
+
+        deleteOtherWorldFiles(currentSlot, worldFile);
+        Gdx.app.postRunnable(() -> {
+            Config.instance().getSettingData().lastActiveSave = WorldSave.filename(currentSlot);
+            Config.instance().saveSettings();
+        });
     }
 
     public String getExceptionMessage(SaveFileData... datas) {
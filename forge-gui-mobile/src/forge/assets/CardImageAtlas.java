@@ -0,0 +1,331 @@
+package forge.assets;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.TextureData;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.FileTextureData;
+
+/**
+ * Shared textures holding small copies of the card pictures, so cards drawn at battlefield size all
+ * come from a few textures and the batch doesn't have to be flushed between them.
+ * <p>
+ * Card pictures all have about the same shape, so each page is a grid of equal cells and a picture
+ * is scaled down into a free cell. The picture file is decoded and scaled on a background thread,
+ * one at a time, and copied into the page at the start of the next frame; until then the card is
+ * drawn from its own texture. When all pages are full, the page used longest ago is emptied,
+ * but never one that was drawn from in the last frame.
+ * Textures that weren't loaded from a file are always drawn on their own.
+ * <p>
+ * Cells are known by the file of the picture, so they stay valid when the card textures are unloaded.
+ * The pages are managed textures: when the GL context is lost, libGDX creates them again empty
+ * and their pictures are copied in again as they are drawn.
+ */
+public class CardImageAtlas {
+    private static final int PAGE_SIZE = 2048;
+    static final int CELL_WIDTH = 256;
+    static final int CELL_HEIGHT = 357;
+    // one pixel around each cell so linear filtering doesn't pick up the neighbours
+    private static final int SLOT_WIDTH = CELL_WIDTH + 2;
+    private static final int SLOT_HEIGHT = CELL_HEIGHT + 2;
+    private static final int COLUMNS = PAGE_SIZE / SLOT_WIDTH;
+    private static final int ROWS = PAGE_SIZE / SLOT_HEIGHT;
+    private static final int MAX_PAGES = 3;
+
+    private static final class Page {
+        private final PageData data = new PageData();
+        private final Texture texture;
+        private final String[] slots = new String[COLUMNS * ROWS];
+        private int free = COLUMNS * ROWS;
+        private long lastUsed;
+
+        private Page() {
+            texture = new Texture(data);
+            texture.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
+        }
+    }
+
+    /**
+     * An empty page, created again by libGDX when the GL context is lost, which is then noted so the
+     * atlas forgets what the page held.
+     */
+    private static final class PageData implements TextureData {
+        private boolean created;
+        private boolean lost;
+
+        @Override
+        public TextureDataType getType() {
+            return TextureDataType.Custom;
+        }
+
+        @Override
+        public boolean isPrepared() {
+            return true;
+        }
+
+        @Override
+        public void prepare() {
+        }
+
+        @Override
+        public Pixmap consumePixmap() {
+            throw new UnsupportedOperationException("The atlas page uploads its own data");
+        }
+
+        @Override
+        public boolean disposePixmap() {
+            return false;
+        }
+
+        @Override
+        public void consumeCustomData(int target) {
+            Gdx.gl.glTexImage2D(target, 0, GL20.GL_RGBA, PAGE_SIZE, PAGE_SIZE, 0, GL20.GL_RGBA, GL20.GL_UNSIGNED_BYTE, null);
+            lost = created;
+            created = true;
+        }
+
+        @Override
+        public int getWidth() {
+            return PAGE_SIZE;
+        }
+
+        @Override
+        public int getHeight() {
+            return PAGE_SIZE;
+        }
+
+        @Override
+        public Pixmap.Format getFormat() {
+            return Pixmap.Format.RGBA8888;
+        }
+
+        @Override
+        public boolean useMipMaps() {
+            return false;
+        }
+
+        @Override
+        public boolean isManaged() {
+            return true;
+        }
+    }
+
+    private static final class Cell {
+        private final Page page;
+        private final int x;
+        private final int y;
+        // the part last drawn from this cell, usually the same every frame
+        private TextureRegion region;
+
+        private Cell(Page page, int x, int y) {
+            this.page = page;
+            this.x = x;
+            this.y = y;
+        }
+    }
+
+    private static final ExecutorService scaleExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "Card Atlas");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final List<Page> pages = new ArrayList<>();
+    private final Map<String, Cell> cells = new HashMap<>();
+    // pictures whose file couldn't be read, so they aren't tried every frame
+    private final Set<String> failed = new HashSet<>();
+    private String pendingKey;
+    private Future<Pixmap> pending;
+    private long frame = 0;
+
+    /**
+     * Called at the start of every frame, copies the picture scaled in the background into its page.
+     */
+    public void nextFrame() {
+        frame++;
+        for (Page page : pages) {
+            if (page.data.lost) {
+                page.data.lost = false;
+                forgetPage(page);
+            }
+        }
+        if (pending == null || !pending.isDone()) {
+            return;
+        }
+        String key = pendingKey;
+        Future<Pixmap> done = pending;
+        pendingKey = null;
+        pending = null;
+        Pixmap scaled;
+        try {
+            scaled = done.get();
+        } catch (InterruptedException | ExecutionException e) {
+            System.err.println("Failed to add card picture to atlas: " + key);
+            failed.add(key);
+            return;
+        }
+        if (!cells.containsKey(key)) {
+            pack(key, scaled);
+        }
+        scaled.dispose();
+    }
+
+    /**
+     * @param image the card picture
+     * @param part the part of the picture to draw
+     * @return the same part in the atlas, or null if the picture isn't in it (yet)
+     */
+    public TextureRegion getRegion(Texture image, TextureRegion part) {
+        return getRegion(image, part.getRegionX(), part.getRegionY(), part.getRegionWidth(), part.getRegionHeight());
+    }
+
+    /**
+     * @param image the card picture
+     * @return the given part of the picture in the atlas, or null if the picture isn't in it (yet)
+     */
+    public TextureRegion getRegion(Texture image, int partX, int partY, int partWidth, int partHeight) {
+        String key = image.toString();
+        Cell cell = cells.get(key);
+        if (cell == null) {
+            if (pending == null && !failed.contains(key)) {
+                scale(key, image.getTextureData());
+            }
+            return null;
+        }
+        cell.page.lastUsed = frame;
+        float scaleX = (float) CELL_WIDTH / image.getWidth();
+        float scaleY = (float) CELL_HEIGHT / image.getHeight();
+        int x = cell.x + Math.round(partX * scaleX);
+        int y = cell.y + Math.round(partY * scaleY);
+        int width = Math.round(partWidth * scaleX);
+        int height = Math.round(partHeight * scaleY);
+        TextureRegion region = cell.region;
+        if (region == null || region.getRegionX() != x || region.getRegionY() != y
+                || region.getRegionWidth() != width || region.getRegionHeight() != height) {
+            region = new TextureRegion(cell.page.texture, x, y, width, height);
+            cell.region = region;
+        }
+        return region;
+    }
+
+    /**
+     * Forgets all pictures, they are copied in again as they are drawn.
+     */
+    public void invalidate() {
+        cells.clear();
+        failed.clear();
+        for (Page page : pages) {
+            clearPage(page);
+        }
+    }
+
+    public void dispose() {
+        if (pending != null) {
+            // runs after the scaling, so the picture it makes is freed too
+            Future<Pixmap> abandoned = pending;
+            pending = null;
+            pendingKey = null;
+            scaleExecutor.execute(() -> {
+                try {
+                    abandoned.get().dispose();
+                } catch (InterruptedException | ExecutionException ignored) {
+                }
+            });
+        }
+        cells.clear();
+        for (Page page : pages) {
+            page.texture.dispose();
+        }
+        pages.clear();
+    }
+
+    private void scale(String key, TextureData data) {
+        // pixmap backed textures may not have their pixmap any more
+        if (!(data instanceof FileTextureData)) {
+            return;
+        }
+        FileHandle file = ((FileTextureData) data).getFileHandle();
+        pendingKey = key;
+        pending = scaleExecutor.submit(() -> {
+            Pixmap source = new Pixmap(file);
+            try {
+                Pixmap scaled = new Pixmap(CELL_WIDTH, CELL_HEIGHT, Pixmap.Format.RGBA8888);
+                scaled.setBlending(Pixmap.Blending.None);
+                scaled.setFilter(Pixmap.Filter.BiLinear);
+                scaled.drawPixmap(source, 0, 0, source.getWidth(), source.getHeight(), 0, 0, CELL_WIDTH, CELL_HEIGHT);
+                return scaled;
+            } finally {
+                source.dispose();
+            }
+        });
+    }
+
+    private void pack(String key, Pixmap scaled) {
+        Page page = null;
+        for (Page p : pages) {
+            if (p.free > 0) {
+                page = p;
+                break;
+            }
+        }
+        if (page == null) {
+            if (pages.size() < MAX_PAGES) {
+                page = new Page();
+                pages.add(page);
+            } else {
+                for (Page p : pages) {
+                    if (p.lastUsed < frame - 1 && (page == null || p.lastUsed < page.lastUsed)) {
+                        page = p;
+                    }
+                }
+                if (page == null) {
+                    return; // everything is on screen
+                }
+                forgetPage(page);
+            }
+        }
+
+        int slot = 0;
+        while (page.slots[slot] != null) {
+            slot++;
+        }
+        Cell cell = new Cell(page, (slot % COLUMNS) * SLOT_WIDTH + 1, (slot / COLUMNS) * SLOT_HEIGHT + 1);
+        // Texture.draw refuses managed textures
+        page.texture.bind();
+        Gdx.gl.glTexSubImage2D(GL20.GL_TEXTURE_2D, 0, cell.x, cell.y, scaled.getWidth(), scaled.getHeight(),
+                scaled.getGLFormat(), scaled.getGLType(), scaled.getPixels());
+
+        page.slots[slot] = key;
+        page.free--;
+        cells.put(key, cell);
+    }
+
+    private void forgetPage(Page page) {
+        for (String key : page.slots) {
+            if (key != null) {
+                cells.remove(key);
+            }
+        }
+        clearPage(page);
+    }
+
+    private static void clearPage(Page page) {
+        Arrays.fill(page.slots, null);
+        page.free = page.slots.length;
+    }
+}
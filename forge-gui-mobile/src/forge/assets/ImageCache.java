@@ -121,19 +121,23 @@ public class ImageCache {
 
     private Supplier<HashMap<String, ImageRecord>> imageRecord = Suppliers.memoize(() -> new HashMap<>(maxCardCapacity + (maxCardCapacity / 3)));
     private boolean imageLoaded, delayLoadRequested;
+    private final CardImageAtlas cardAtlas = new CardImageAtlas();
 
     public void allowSingleLoad() {
         imageLoaded = false; //reset at the beginning of each render
         delayLoadRequested = false;
+        cardAtlas.nextFrame();
     }
 
     public void clear() {
         missingIconKeys.get().clear();
         ImageKeys.clearMissingCards();
+        cardAtlas.invalidate();
     }
 
     public void disposeTextures() {
         CardRenderer.clearcardArtCache();
+        cardAtlas.dispose();
         //unload all cardsLoaded
         try {
             for (String fileName : getCardsLoaded()) {
@@ -410,6 +414,27 @@ public class ImageCache {
         }
     }
 
+    /**
+     * Card pictures drawn no bigger than the card atlas keeps them are drawn from the atlas,
+     * so the cards of a battlefield share a few textures.
+     * @return the part of the picture in the atlas, or the part itself if it's drawn bigger or not in the atlas yet
+     */
+    public TextureRegion getCardRegion(Texture image, TextureRegion part, float h) {
+        if (h * image.getHeight() > CardImageAtlas.CELL_HEIGHT * part.getRegionHeight())
+            return part;
+        TextureRegion region = cardAtlas.getRegion(image, part);
+        return region == null ? part : region;
+    }
+
+    public TextureRegion getCardRegion(Texture image, float h) {
+        if (h <= CardImageAtlas.CELL_HEIGHT) {
+            TextureRegion region = cardAtlas.getRegion(image, 0, 0, image.getWidth(), image.getHeight());
+            if (region != null)
+                return region;
+        }
+        return new TextureRegion(image);
+    }
+
     public TextureRegion croppedBorderImage(Texture image) {
         if (!image.toString().contains(".fullborder."))
             return new TextureRegion(image);
@@ -628,9 +628,9 @@ public class CardRenderer {
                             g.drawFoil(x, y, w, h, radius);
                     }
                 } else if (Forge.enableUIMask.equals("Crop")) {
-                    g.drawImage(ImageCache.getInstance().croppedBorderImage(image), x, y, w, h, CardRendererUtils.drawFoil(card));
+                    g.drawImage(ImageCache.getInstance().getCardRegion(image, ImageCache.getInstance().croppedBorderImage(image), h), x, y, w, h, CardRendererUtils.drawFoil(card));
                 } else
-                    g.drawImage(image, x, y, w, h, CardRendererUtils.drawFoil(card));
+                    g.drawImage(ImageCache.getInstance().getCardRegion(image, h), x, y, w, h, CardRendererUtils.drawFoil(card));
             }
         } else {
             //if card has invalid or no texture due to sudden changes in ImageCache, draw CardImageRenderer instead and wait for it to refresh automatically
@@ -687,13 +687,13 @@ public class CardRenderer {
                         else {
                             //boolean t = (card.getCurrentState().getOriginalColors() != card.getCurrentState().getColors()) || card.getCurrentState().hasChangeColors();
                             g.drawBorderImage(ImageCache.getInstance().getBorderImage(image.toString(), canshow), ImageCache.getInstance().borderColor(image), ImageCache.getInstance().getTint(card, image), x, y, w, h, false); //tint check for changed colors
-                            g.drawCardImage(ImageCache.getInstance().croppedBorderImage(image), crack_overlay, x + radius / 2.4f - minusxy, y + radius / 2 - minusxy, w * croppedArea, h * croppedArea, CardRendererUtils.drawGray(card), CardRendererUtils.drawCracks(card, magnify));
+                            g.drawCardImage(ImageCache.getInstance().getCardRegion(image, ImageCache.getInstance().croppedBorderImage(image), h * croppedArea), crack_overlay, x + radius / 2.4f - minusxy, y + radius / 2 - minusxy, w * croppedArea, h * croppedArea, CardRendererUtils.drawGray(card), CardRendererUtils.drawCracks(card, magnify));
                         }
                     } else if (Forge.enableUIMask.equals("Crop") && canshow) {
-                        g.drawCardImage(ImageCache.getInstance().croppedBorderImage(image), crack_overlay, x, y, w, h, CardRendererUtils.drawGray(card), CardRendererUtils.drawCracks(card, magnify));
+                        g.drawCardImage(ImageCache.getInstance().getCardRegion(image, ImageCache.getInstance().croppedBorderImage(image), h), crack_overlay, x, y, w, h, CardRendererUtils.drawGray(card), CardRendererUtils.drawCracks(card, magnify));
                     } else {
                         if (canshow)
-                            g.drawCardImage(image, crack_overlay, x, y, w, h, CardRendererUtils.drawGray(card), CardRendererUtils.drawCracks(card, magnify));
+                            g.drawCardImage(ImageCache.getInstance().getCardRegion(image, h), crack_overlay, x, y, w, h, CardRendererUtils.drawGray(card), CardRendererUtils.drawCracks(card, magnify));
                         else // draw card back sleeves
                             g.drawCardImage(sleeves, crack_overlay, x, y, w, h, CardRendererUtils.drawGray(card), CardRendererUtils.drawCracks(card, magnify));
                     }
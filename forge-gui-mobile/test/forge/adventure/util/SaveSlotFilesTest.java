@@ -0,0 +1,83 @@
+package forge.adventure.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.testng.AssertJUnit;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+public class SaveSlotFilesTest {
+    private File dir;
+    private File saveFile;
+    private File worldFile;
+    private final SaveFileData world = new SaveFileData();
+
+    @BeforeMethod
+    public void setUp() throws IOException {
+        dir = Files.createTempDirectory("forge-save").toFile();
+        saveFile = new File(dir, "1.sav");
+        worldFile = new File(dir, "1.world");
+        world.put("terrain", new byte[1000]);
+        Files.write(saveFile.toPath(), "previous save".getBytes(StandardCharsets.UTF_8));
+    }
+
+    @AfterMethod
+    public void tearDown() {
+        deleteAll(dir);
+    }
+
+    private static void deleteAll(File f) {
+        File[] children = f.listFiles();
+        if (children != null) {
+            for (File child : children) {
+                deleteAll(child);
+            }
+        }
+        f.delete();
+    }
+
+    private String readSave() throws IOException {
+        return new String(Files.readAllBytes(saveFile.toPath()), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void testFailedWorldWriteKeepsSave() throws IOException {
+        // the world file is written through a temporary file, which can't be created over a directory
+        new File(worldFile.getPath() + ".tmp").mkdir();
+        try {
+            SaveSlotFiles.write(saveFile, worldFile, 42, world, out -> out.write("new save".getBytes(StandardCharsets.UTF_8)));
+            AssertJUnit.fail("the world file can't be written");
+        } catch (IOException expected) {
+            // the save failed
+        }
+        AssertJUnit.assertEquals("previous save", readSave());
+        AssertJUnit.assertFalse(SaveSlotFiles.getBackupFile(saveFile).exists());
+    }
+
+    @Test
+    public void testFailedSaveWriteKeepsSave() throws IOException {
+        try {
+            SaveSlotFiles.write(saveFile, worldFile, 42, world, out -> {
+                out.write("half".getBytes(StandardCharsets.UTF_8));
+                throw new IOException("disk full");
+            });
+            AssertJUnit.fail("the save file can't be written");
+        } catch (IOException expected) {
+            // the save failed
+        }
+        AssertJUnit.assertEquals("previous save", readSave());
+        AssertJUnit.assertFalse(SaveSlotFiles.getBackupFile(saveFile).exists());
+    }
+
+    @Test
+    public void testSaveReplacesPreviousSave() throws IOException {
+        SaveSlotFiles.write(saveFile, worldFile, 42, world, out -> out.write("new save".getBytes(StandardCharsets.UTF_8)));
+        AssertJUnit.assertEquals("new save", readSave());
+        AssertJUnit.assertEquals(42, ChunkedSaveFile.readId(worldFile));
+        AssertJUnit.assertFalse(SaveSlotFiles.getBackupFile(saveFile).exists());
+    }
+}
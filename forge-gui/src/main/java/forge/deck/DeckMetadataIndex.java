@@ -0,0 +1,250 @@
+package forge.deck;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.apache.commons.lang3.StringUtils;
+
+import forge.StaticData;
+import forge.card.CardEdition;
+import forge.card.CardRarity;
+import forge.card.ColorSet;
+import forge.game.GameFormat;
+import forge.localinstance.properties.ForgeConstants;
+import forge.model.FModel;
+import forge.util.BuildInfo;
+import forge.util.FileUtil;
+
+/**
+ * Persisted summary of the user's deck files, so deck lists can show and filter decks
+ * without going through all their cards every time.
+ * The deck storages also take the metadata section of a deck from here,
+ * so a deck file is only read once the deck is opened or played.
+ * <p>
+ * Entries are keyed by the path of the deck file and are only used while the file has the
+ * same modification time and length as when the entry was made. Missing and outdated entries
+ * are computed in the background by {@link #indexInBackground(Iterable)}.
+ * The whole index is dropped when the Forge version or the known formats change,
+ * since both decide which formats a deck is legal in.
+ */
+public final class DeckMetadataIndex {
+    private static final String HEADER = "#deck-index ";
+    private static final String SEPARATOR = "\t";
+    private static final String LIST_SEPARATOR = "|";
+    private static final String LINE_SEPARATOR = "\u001F";
+
+    private static final DeckMetadataIndex instance = new DeckMetadataIndex(new File(ForgeConstants.DECK_INDEX_FILE));
+
+    public static DeckMetadataIndex instance() {
+        return instance;
+    }
+
+    /** What a deck list needs to know about one deck file. */
+    public static final class Entry {
+        private final long lastModified;
+        private final long length;
+        final ColorSet color;
+        final ColorSet colorIdentity;
+        final CardRarity highestRarity;
+        final int mainSize;
+        final int sideSize;
+        final int averageCMC;
+        final String edition;
+        final List<String> formats;
+        final List<String> exhaustiveFormats;
+        // empty if the lines can't be stored in the index
+        final List<String> metadata;
+
+        Entry(final long lastModified, final long length, final ColorSet color, final ColorSet colorIdentity,
+                final CardRarity highestRarity, final int mainSize, final int sideSize, final int averageCMC,
+                final String edition, final List<String> formats, final List<String> exhaustiveFormats,
+                final List<String> metadata) {
+            this.lastModified = lastModified;
+            this.length = length;
+            this.color = color;
+            this.colorIdentity = colorIdentity;
+            this.highestRarity = highestRarity;
+            this.mainSize = mainSize;
+            this.sideSize = sideSize;
+            this.averageCMC = averageCMC;
+            this.edition = edition;
+            this.formats = formats;
+            this.exhaustiveFormats = exhaustiveFormats;
+            this.metadata = canStore(metadata) ? metadata : List.of();
+        }
+
+        private static boolean canStore(final List<String> lines) {
+            for (final String line : lines) {
+                if (line.contains(SEPARATOR) || line.contains(LINE_SEPARATOR)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        boolean isFor(final File file) {
+            return file.lastModified() == lastModified && file.length() == length;
+        }
+
+        CardEdition getEdition() {
+            return edition.isEmpty() ? null : StaticData.instance().getEditions().get(edition);
+        }
+
+        static Set<GameFormat> toFormats(final List<String> names) {
+            final Set<GameFormat> result = new TreeSet<>();
+            for (final String name : names) {
+                final GameFormat format = FModel.getFormats().get(name);
+                if (format != null) {
+                    result.add(format);
+                }
+            }
+            if (result.isEmpty()) {
+                result.add(GameFormat.NoFormat);
+            }
+            return result;
+        }
+
+        private String write(final String path) {
+            return StringUtils.join(new Object[] { path, lastModified, length,
+                    color.getColor(), colorIdentity.getColor(), highestRarity.name(),
+                    mainSize, sideSize, averageCMC, edition,
+                    String.join(LIST_SEPARATOR, formats), String.join(LIST_SEPARATOR, exhaustiveFormats),
+                    String.join(LINE_SEPARATOR, metadata) }, SEPARATOR);
+        }
+
+        private static Entry read(final String[] fields) {
+            return new Entry(Long.parseLong(fields[1]), Long.parseLong(fields[2]),
+                    ColorSet.fromMask(Integer.parseInt(fields[3])), ColorSet.fromMask(Integer.parseInt(fields[4])),
+                    CardRarity.valueOf(fields[5]),
+                    Integer.parseInt(fields[6]), Integer.parseInt(fields[7]), Integer.parseInt(fields[8]),
+                    fields[9], splitList(fields[10], LIST_SEPARATOR), splitList(fields[11], LIST_SEPARATOR),
+                    splitList(fields[12], LINE_SEPARATOR));
+        }
+
+        private static List<String> splitList(final String value, final String separator) {
+            final List<String> result = new ArrayList<>();
+            for (final String s : StringUtils.split(value, separator)) {
+                result.add(s);
+            }
+            return result;
+        }
+    }
+
+    private final File file;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    // one thread is enough, and it keeps two deck lists from indexing the same decks at the same time
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+        final Thread t = new Thread(r, "DeckIndex");
+        t.setDaemon(true);
+        return t;
+    });
+    private volatile boolean loaded = false;
+
+    private DeckMetadataIndex(final File file) {
+        this.file = file;
+    }
+
+    /**
+     * @return the entry for the deck file, or null if there is none or the file changed since it was made
+     */
+    public Entry get(final File deckFile) {
+        load();
+        final Entry entry = entries.get(deckFile.getPath());
+        return entry != null && entry.isFor(deckFile) ? entry : null;
+    }
+
+    /**
+     * @return the lines of the metadata section of the deck file,
+     * or null if the file has to be read because it changed since it was indexed
+     */
+    public List<String> getMetadata(final File deckFile) {
+        final Entry entry = get(deckFile);
+        return entry == null || entry.metadata.isEmpty() ? null : entry.metadata;
+    }
+
+    /**
+     * Computes the entries of the given decks that don't have a current one, then saves the index.
+     * Returns right away, the work is done on a background thread.
+     */
+    public void indexInBackground(final Iterable<DeckProxy> decks) {
+        final List<Deck> missing = new ArrayList<>();
+        for (final DeckProxy proxy : decks) {
+            if (proxy.deck instanceof Deck d && d.getSourceFile() != null) {
+                missing.add(d);
+            }
+        }
+        if (missing.isEmpty()) {
+            return;
+        }
+        executor.execute(() -> {
+            boolean changed = false;
+            for (final Deck deck : missing) {
+                final File deckFile = deck.getSourceFile();
+                if (get(deckFile) != null || !deckFile.exists()) {
+                    continue;
+                }
+                // read the file attributes first, a deck saved while indexing gets indexed again next time
+                final long lastModified = deckFile.lastModified();
+                final long length = deckFile.length();
+                entries.put(deckFile.getPath(), DeckProxy.createIndexEntry(deck, lastModified, length));
+                changed = true;
+            }
+            if (changed) {
+                save();
+            }
+        });
+    }
+
+    private void load() {
+        if (loaded) {
+            return;
+        }
+        synchronized (this) {
+            if (loaded) {
+                return;
+            }
+            final List<String> lines = FileUtil.readFile(file);
+            if (!lines.isEmpty() && lines.get(0).equals(HEADER + getSignature())) {
+                for (final String line : lines.subList(1, lines.size())) {
+                    final String[] fields = StringUtils.splitPreserveAllTokens(line, SEPARATOR);
+                    if (fields.length != 13) {
+                        continue;
+                    }
+                    try {
+                        entries.put(fields[0], Entry.read(fields));
+                    } catch (final IllegalArgumentException e) {
+                        // a broken line only costs indexing that deck again
+                    }
+                }
+            }
+            loaded = true;
+        }
+    }
+
+    private synchronized void save() {
+        final List<String> lines = new ArrayList<>();
+        lines.add(HEADER + getSignature());
+        for (final Map.Entry<String, Entry> e : entries.entrySet()) {
+            if (new File(e.getKey()).exists()) {
+                lines.add(e.getValue().write(e.getKey()));
+            }
+        }
+        FileUtil.ensureDirectoryExists(file.getParentFile());
+        FileUtil.writeFile(file, lines);
+    }
+
+    private static String getSignature() {
+        int hash = 0;
+        for (final GameFormat format : FModel.getFormats().getOrderedList()) {
+            hash = 31 * hash + format.getName().hashCode();
+        }
+        return BuildInfo.getVersionString() + SEPARATOR + Integer.toHexString(hash);
+    }
+}
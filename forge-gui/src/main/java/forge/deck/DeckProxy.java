@@ -4,6 +4,7 @@ import forge.StaticData;
 import forge.card.*;
 import forge.card.mana.ManaCostShard;
 import forge.deck.io.DeckPreferences;
+import forge.deck.io.DeckSerializer;
 import forge.game.GameFormat;
 import forge.game.GameType;
 import forge.gamemodes.quest.QuestController;
@@ -46,6 +47,7 @@ public class DeckProxy implements InventoryItem {
     private final Function<IHasName, Deck> fnGetDeck;
     private CardEdition edition;
     private CardRarity highestRarity;
+    private boolean indexChecked = false;
 
     protected DeckProxy() {
         this(null, "", null, "", null, null);
@@ -88,6 +90,7 @@ public class DeckProxy implements InventoryItem {
     }
 
     public CardEdition getEdition() {
+        checkIndex();
         if (edition == null) {
             if (deck instanceof PreconDeck pd) {
                 edition = StaticData.instance().getEditions().get(pd.getEdition());
@@ -126,7 +129,57 @@ public class DeckProxy implements InventoryItem {
         return directory;
     }
 
+    /**
+     * Takes the cached values from the deck index when its file has not changed since it was indexed,
+     * so they don't have to be computed from the cards.
+     */
+    private void checkIndex() {
+        if (indexChecked) {
+            return;
+        }
+        indexChecked = true;
+        if (!(deck instanceof Deck d) || fnGetDeck != null || d.getSourceFile() == null) {
+            return;
+        }
+        final DeckMetadataIndex.Entry entry = DeckMetadataIndex.instance().get(d.getSourceFile());
+        if (entry == null) {
+            return;
+        }
+        color = entry.color;
+        colorIdentity = entry.colorIdentity;
+        highestRarity = entry.highestRarity;
+        mainSize = entry.mainSize;
+        sbSize = entry.sideSize;
+        avgCMC = entry.averageCMC;
+        edition = entry.getEdition();
+        formats = DeckMetadataIndex.Entry.toFormats(entry.formats);
+        exhaustiveFormats = DeckMetadataIndex.Entry.toFormats(entry.exhaustiveFormats);
+    }
+
+    static DeckMetadataIndex.Entry createIndexEntry(final Deck deck, final long lastModified, final long length) {
+        final DeckProxy proxy = new DeckProxy(deck, "", null, "", null, null);
+        proxy.indexChecked = true;
+        final CardEdition edition = proxy.getEdition();
+        return new DeckMetadataIndex.Entry(lastModified, length, proxy.getColor(), proxy.getColorIdentity(),
+                proxy.getHighestRarity(), proxy.getMainSize(), proxy.getSideSize(), proxy.getAverageCMC(),
+                edition == null ? "" : edition.getCode(),
+                getFormatNames(proxy.getFormats()), getFormatNames(proxy.getExhaustiveFormats()),
+                DeckSerializer.serializeMetadata(deck));
+    }
+
+    private static List<String> getFormatNames(final Set<GameFormat> formats) {
+        final List<String> names = new ArrayList<>();
+        for (final GameFormat format : formats) {
+            if (format != GameFormat.NoFormat) {
+                names.add(format.getName());
+            }
+        }
+        return names;
+    }
+
     public void invalidateCache() {
+        // the deck changed, so whatever the index has for it is outdated
+        indexChecked = true;
         color = null;
         colorIdentity = null;
         highestRarity = null;
@@ -135,9 +188,11 @@ public class DeckProxy implements InventoryItem {
         edition = null;
         mainSize = null;
         sbSize = null;
+        avgCMC = null;
     }
 
     public ColorSet getColor() {
+        checkIndex();
         if (color == null && !isGeneratedDeck()) {
             byte colorProfile = MagicColor.COLORLESS;
             byte landProfile = MagicColor.COLORLESS;
@@ -185,6 +240,7 @@ public class DeckProxy implements InventoryItem {
     }
 
     public ColorSet getColorIdentity() {
+        checkIndex();
         if (colorIdentity == null) {
             byte colorProfile = MagicColor.COLORLESS;
 
@@ -282,6 +338,7 @@ public class DeckProxy implements InventoryItem {
 
 
     public CardRarity getHighestRarity() {
+        checkIndex();
         if (highestRarity == null) {
             highestRarity = CardRarity.Common;
             for (final Entry<DeckSection, CardPool> deckEntry : getDeck()) {
@@ -345,6 +402,7 @@ public class DeckProxy implements InventoryItem {
     }
 
     public Set<GameFormat> getFormats() {
+        checkIndex();
         if (formats == null) {
             formats = FModel.getFormats().getAllFormatsOfDeck(getDeck());
         }
@@ -352,6 +410,7 @@ public class DeckProxy implements InventoryItem {
     }
 
     public Set<GameFormat> getExhaustiveFormats() {
+        checkIndex();
         if (exhaustiveFormats == null) {
             exhaustiveFormats = FModel.getFormats().getAllFormatsOfDeck(getDeck(), true);
         }
@@ -385,6 +444,7 @@ public class DeckProxy implements InventoryItem {
     }
 
     public int getMainSize() {
+        checkIndex();
         if (mainSize == null) {
             if (deck == null) {
                 mainSize = -1;
@@ -403,6 +463,7 @@ public class DeckProxy implements InventoryItem {
     }
 
     public int getSideSize() {
+        checkIndex();
         if (sbSize == null) {
             final CardPool sb = getDeck().get(DeckSection.Sideboard);
             sbSize = sb == null ? -1 : sb.countAll();
@@ -414,6 +475,7 @@ public class DeckProxy implements InventoryItem {
     }
 
     public Integer getAverageCMC() {
+        checkIndex();
         if (avgCMC == null) {
             avgCMC = Deck.getAverageCMC(getDeck());
         }
@@ -516,11 +578,14 @@ public class DeckProxy implements InventoryItem {
             addDecksRecursivelly(deckType, gameType, list, subPath, f, filter);
         }
 
+        final List<DeckProxy> added = new ArrayList<>();
         for (final Deck d : folder) {
             if (filter == null || filter.test(d)) {
-                list.add(new DeckProxy(d, deckType, gameType, path, folder, null));
+                added.add(new DeckProxy(d, deckType, gameType, path, folder, null));
             }
         }
+        list.addAll(added);
+        DeckMetadataIndex.instance().indexInBackground(added);
     }
 
     // Consider using a direct predicate to manage DeckProxies (not this tunnel to collection of paper cards)
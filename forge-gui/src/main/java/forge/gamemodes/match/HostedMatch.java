@@ -118,6 +118,9 @@ public class HostedMatch {
             gameRules.setAppliedVariants(appliedVariants);
         }
 
+        // pick up edited AI profiles without a restart
+        AiProfileUtil.reloadChangedProfiles();
+
         final List<RegisteredPlayer> sortedPlayers = Lists.newArrayList(players);
         sortedPlayers.sort((p1, p2) -> {
 
@@ -0,0 +1,348 @@
+package forge.gui.download;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.Proxy;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.lang3.StringUtils;
+
+import forge.util.FileUtil;
+
+/**
+ * Downloads files over several connections at once, for the download services with many files.
+ * <p>
+ * At most {@code maxConnections} files are downloaded at the same time and at most
+ * {@code maxConnectionsPerHost} of them from the same host, hosts with a published rate limit
+ * can be given fewer connections and a minimum time between requests with {@link #limitHost}. Responses are always read to the end
+ * and closed rather than disconnected, so {@link HttpURLConnection} can keep the connections alive
+ * and reuse them for the next file.
+ * <p>
+ * A file is written next to its destination with a {@code .part} suffix and only moved in place once
+ * it has the size the server announced. Failed attempts are retried with growing pauses. The journal
+ * file remembers the url and version of every partial file, so a download interrupted by closing Forge
+ * continues where it stopped the next time, as long as the server still has the same file.
+ */
+public final class DownloadEngine {
+    public enum Result { DOWNLOADED, NOT_FOUND, FAILED }
+
+    private static final String PART_SUFFIX = ".part";
+    private static final String SEPARATOR = "\t";
+    private static final int MAX_ATTEMPTS = 4;
+    private static final long FIRST_RETRY_DELAY = 500;
+    private static final int CONNECT_TIMEOUT = 15000;
+    private static final int READ_TIMEOUT = 30000;
+
+    private final Proxy proxy;
+    private final int maxConnectionsPerHost;
+    private final ExecutorService executor;
+    private final Map<String, HostLimit> hostLimits = new ConcurrentHashMap<>();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final File journalFile;
+    private final Map<String, JournalEntry> journal = new ConcurrentHashMap<>();
+    private volatile boolean cancelled = false;
+
+    /** What is known about a partial file. */
+    private static final class JournalEntry {
+        private final String url;
+        private final String validator;
+
+        private JournalEntry(final String url, final String validator) {
+            this.url = url;
+            this.validator = validator;
+        }
+    }
+
+    /** The connections to one host, shared by all download threads. */
+    private static final class HostLimit {
+        private final Semaphore connections;
+        private final long minInterval;
+        private long nextRequest = 0;
+
+        private HostLimit(final int maxConnections, final long minInterval) {
+            connections = new Semaphore(maxConnections);
+            this.minInterval = minInterval;
+        }
+
+        private void acquire() throws InterruptedException {
+            connections.acquire();
+            if (minInterval <= 0) {
+                return;
+            }
+            try {
+                // requests of all threads are spaced out, not only the ones of the same thread
+                synchronized (this) {
+                    final long now = System.nanoTime();
+                    final long wait = nextRequest - now;
+                    if (wait > 0) {
+                        TimeUnit.NANOSECONDS.sleep(wait);
+                    }
+                    nextRequest = Math.max(now, nextRequest) + TimeUnit.MILLISECONDS.toNanos(minInterval);
+                }
+            } catch (final InterruptedException e) {
+                connections.release();
+                throw e;
+            }
+        }
+
+        private void release() {
+            connections.release();
+        }
+    }
+
+    public DownloadEngine(final Proxy proxy, final int maxConnections, final int maxConnectionsPerHost, final File journalFile) {
+        this.proxy = proxy;
+        this.maxConnectionsPerHost = maxConnectionsPerHost;
+        this.journalFile = journalFile;
+        final AtomicInteger threadCount = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(maxConnections, r -> {
+            final Thread t = new Thread(r, "Download-" + threadCount.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        loadJournal();
+    }
+
+    /**
+     * Limits the downloads from a host to fewer connections than the default and at most one request
+     * every {@code minInterval} milliseconds. Call before submitting the tasks.
+     */
+    public void limitHost(final String host, final int maxConnections, final long minInterval) {
+        hostLimits.put(host, new HostLimit(maxConnections, minInterval));
+    }
+
+    /**
+     * Runs the task on one of the download threads, the task calls {@link #download} for the files it needs.
+     */
+    public void submit(final Runnable task) {
+        pending.incrementAndGet();
+        executor.execute(() -> {
+            try {
+                if (!cancelled) {
+                    task.run();
+                }
+            } finally {
+                synchronized (pending) {
+                    if (pending.decrementAndGet() == 0) {
+                        pending.notifyAll();
+                    }
+                }
+            }
+        });
+    }
+
+    /**
+     * Waits until all submitted tasks have finished, then stops the download threads.
+     */
+    public void awaitCompletion() throws InterruptedException {
+        synchronized (pending) {
+            while (pending.get() > 0) {
+                pending.wait();
+            }
+        }
+        executor.shutdown();
+    }
+
+    /**
+     * Makes the tasks that haven't started yet skip their work. Running downloads keep their partial file.
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * Downloads the url to the file, continuing a partial download of the same url if there is one.
+     * Called from the submitted tasks.
+     */
+    public Result download(final String url, final File dest, final boolean followRedirects) throws InterruptedException {
+        final URL source;
+        try {
+            source = new URL(url);
+        } catch (final IOException e) {
+            System.out.println("  Error - possibly missing URL for: " + dest.getName());
+            return Result.FAILED;
+        }
+        final HostLimit hostLimit = hostLimits.computeIfAbsent(source.getHost(), h -> new HostLimit(maxConnectionsPerHost, 0));
+        hostLimit.acquire();
+        try {
+            long delay = FIRST_RETRY_DELAY;
+            String failure = "server busy";
+            for (int attempt = 1; attempt <= MAX_ATTEMPTS && !cancelled; attempt++) {
+                if (attempt > 1) {
+                    TimeUnit.MILLISECONDS.sleep(delay);
+                    delay *= 2;
+                }
+                try {
+                    final Result result = tryDownload(source, dest, followRedirects);
+                    if (result != null) {
+                        return result;
+                    }
+                } catch (final IOException e) {
+                    failure = e.getMessage();
+                }
+            }
+            System.out.println("  Connection failed for url: " + url + " (" + failure + ")");
+            return Result.FAILED;
+        } finally {
+            hostLimit.release();
+        }
+    }
+
+    /**
+     * @return the result, or null if the server asked to try again later
+     */
+    private Result tryDownload(final URL source, final File dest, final boolean followRedirects) throws IOException {
+        final String key = dest.getPath();
+        final File part = new File(key + PART_SUFFIX);
+        final JournalEntry known = journal.get(key);
+        long offset = 0;
+        if (part.exists()) {
+            if (known != null && known.url.equals(source.toString())) {
+                offset = part.length();
+            } else {
+                Files.delete(part.toPath());
+            }
+        }
+
+        final HttpURLConnection conn = (HttpURLConnection) source.openConnection(proxy);
+        conn.setInstanceFollowRedirects(followRedirects);
+        conn.setConnectTimeout(CONNECT_TIMEOUT);
+        conn.setReadTimeout(READ_TIMEOUT);
+        if (offset > 0) {
+            conn.setRequestProperty("Range", "bytes=" + offset + "-");
+            if (known.validator != null) {
+                // the server sends the whole file instead if it changed since
+                conn.setRequestProperty("If-Range", known.validator);
+            }
+        }
+
+        final int code = conn.getResponseCode();
+        final boolean append;
+        switch (code) {
+        case HttpURLConnection.HTTP_OK:
+            append = false;
+            break;
+        case HttpURLConnection.HTTP_PARTIAL:
+            append = conn.getHeaderField("Content-Range") != null
+                    && conn.getHeaderField("Content-Range").startsWith("bytes " + offset + "-");
+            if (!append) {
+                // not the part we asked for, start over
+                discard(conn);
+                forget(key, part);
+                return null;
+            }
+            break;
+        case HttpURLConnection.HTTP_NOT_FOUND:
+            discard(conn);
+            forget(key, part);
+            return Result.NOT_FOUND;
+        case 416: // Range Not Satisfiable, the partial file doesn't match the one on the server anymore
+            discard(conn);
+            forget(key, part);
+            return null;
+        default:
+            discard(conn);
+            if (code == 429 || code >= 500) {
+                return null;
+            }
+            // redirections that aren't followed mean the file is missing too
+            System.out.println("  Connection failed for url: " + source);
+            return Result.FAILED;
+        }
+
+        final long length = conn.getContentLengthLong();
+        final long expected = length < 0 ? -1 : (append ? offset : 0) + length;
+        String validator = conn.getHeaderField("ETag");
+        if (validator == null || validator.startsWith("W/")) {
+            validator = conn.getHeaderField("Last-Modified");
+        }
+        if (!append || known == null) {
+            remember(key, new JournalEntry(source.toString(), validator));
+        }
+
+        FileUtil.ensureDirectoryExists(dest.getParentFile());
+        final byte[] buffer = new byte[16384];
+        try (InputStream in = conn.getInputStream(); OutputStream out = new FileOutputStream(part, append)) {
+            int read;
+            while ((read = in.read(buffer)) > 0) {
+                out.write(buffer, 0, read);
+            }
+        }
+
+        if (expected >= 0 && part.length() != expected) {
+            if (part.length() > expected) {
+                forget(key, part);
+            }
+            throw new IOException("expected " + expected + " bytes, got " + part.length());
+        }
+        Files.move(part.toPath(), dest.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        journal.remove(key);
+        saveJournal();
+        return Result.DOWNLOADED;
+    }
+
+    /** Reads what is left of a response, so its connection can be used again. */
+    private static void discard(final HttpURLConnection conn) {
+        try (InputStream in = conn.getErrorStream() != null ? conn.getErrorStream() : conn.getInputStream()) {
+            if (in != null) {
+                in.transferTo(OutputStream.nullOutputStream());
+            }
+        } catch (final IOException e) {
+            conn.disconnect();
+        }
+    }
+
+    private void remember(final String key, final JournalEntry entry) {
+        journal.put(key, entry);
+        saveJournal();
+    }
+
+    private void forget(final String key, final File part) throws IOException {
+        Files.deleteIfExists(part.toPath());
+        if (journal.remove(key) != null) {
+            saveJournal();
+        }
+    }
+
+    private void loadJournal() {
+        if (journalFile == null) {
+            return;
+        }
+        for (final String line : FileUtil.readFile(journalFile)) {
+            final String[] fields = StringUtils.splitPreserveAllTokens(line, SEPARATOR);
+            if (fields.length == 3 && new File(fields[0] + PART_SUFFIX).exists()) {
+                journal.put(fields[0], new JournalEntry(fields[1], fields[2].isEmpty() ? null : fields[2]));
+            }
+        }
+    }
+
+    private synchronized void saveJournal() {
+        if (journalFile == null) {
+            return;
+        }
+        final List<String> lines = new ArrayList<>();
+        for (final Map.Entry<String, JournalEntry> e : journal.entrySet()) {
+            lines.add(e.getKey() + SEPARATOR + e.getValue().url + SEPARATOR + StringUtils.defaultString(e.getValue().validator));
+        }
+        FileUtil.writeFile(journalFile, lines);
+    }
+}
@@ -36,7 +36,7 @@ import java.net.*;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -44,6 +44,12 @@ import java.util.regex.Pattern;
 public abstract class GuiDownloadService implements Runnable {
     public static final Proxy.Type[] TYPES = Proxy.Type.values();
 
+    private static final int MAX_CONNECTIONS = 8;
+    private static final int MAX_CONNECTIONS_PER_HOST = 4;
+    // Scryfall asks API clients for at most 10 requests per second
+    private static final String SCRYFALL_API_HOST = "api.scryfall.com";
+    private static final long SCRYFALL_API_INTERVAL = 100;
+
     //Components passed from GUI component displaying download
     private ITextField txtAddress;
     private ITextField txtPort;
@@ -72,7 +78,7 @@ public abstract class GuiDownloadService implements Runnable {
     protected boolean cancel;
     private final long[] times = { 0, 0, 0, 0, 0, 0, 0, 0, 0, 0 };
     private int tptr = 0;
-    private int skipped = 0;
+    private final AtomicInteger skipped = new AtomicInteger();
     private long lTime = System.currentTimeMillis();
 
     protected GuiDownloadService() {
@@ -199,7 +205,7 @@ public abstract class GuiDownloadService implements Runnable {
 
                 sb.append(String.format("%02d remaining.", t2Go / 1000));
             } else {
-                sb.append(String.format("%d of %d items finished! Skipped " + skipped + " items. Please close!",
+                sb.append(String.format("%d of %d items finished! Skipped " + skipped.get() + " items. Please close!",
                         count, files.size()));
                 finish();
             }
@@ -220,137 +226,86 @@ public abstract class GuiDownloadService implements Runnable {
     public void run() {
         GuiBase.getInterface().preventSystemSleep(true); //prevent system from going into sleep mode while downloading
 
-        Proxy p = getProxy();
-
-        boolean cardSkipped;
-        int bufferLength;
-        int count = 0;
-        int totalCount = files.size();
-        byte[] buffer = new byte[1024];
+        final DownloadEngine engine = new DownloadEngine(getProxy(), MAX_CONNECTIONS, MAX_CONNECTIONS_PER_HOST,
+                new File(ForgeConstants.DOWNLOAD_JOURNAL_FILE));
+        engine.limitHost(SCRYFALL_API_HOST, 1, SCRYFALL_API_INTERVAL);
+        final AtomicInteger count = new AtomicInteger();
+        final int totalCount = files.size();
 
         for (Entry<String, String> kv : files.entrySet()) {
-            boolean isJPG = true;
-            boolean isLogged = false;
-            boolean fullborder = false;
-            if (cancel) {//stop prevent sleep
-                GuiBase.getInterface().preventSystemSleep(false);
-                break; }
-
-            count++;
-            cardSkipped = true; //assume skipped unless saved successfully
-            String url = kv.getValue();
-
-            String decodedKey = decodeURL(kv.getKey());
-            File fileDest = new File(decodedKey);
-            final String filePath = fileDest.getPath();
-            final String subLastIndex = filePath.contains("pics") ? "\\pics\\" : filePath.contains("skins") ? "\\"+FileUtil.getParent(filePath)+"\\" : "\\db\\";
-
-            System.out.println(count + "/" + totalCount + " - .." + filePath.substring(filePath.lastIndexOf(subLastIndex)+1));
-
-            FileOutputStream fos = null;
-            try {
-                final File base = fileDest.getParentFile();
-                if (FileUtil.ensureDirectoryExists(base)) { //ensure destination directory exists
-                    URL imageUrl = new URL(url);
-                    HttpURLConnection conn = (HttpURLConnection) imageUrl.openConnection(p);
-                    // don't allow redirections here -- they indicate 'file not found' on the server
-                    // only allow redirections to consume Scryfall API
-                    if(url.contains("api.scryfall.com")) {
-                        conn.setInstanceFollowRedirects(true);
-                        TimeUnit.MILLISECONDS.sleep(100);
-                    } else {
-                        conn.setInstanceFollowRedirects(false);
-                    }
-                    conn.connect();
-
-                    //if .full file is not found try fullborder
-                    if ((conn.getResponseCode() == HttpURLConnection.HTTP_NOT_FOUND) && (url.contains(".full.jpg")))
-                    {
-                        fullborder = true;
-                        conn.disconnect();
-                        url = TextUtil.fastReplace(url, ".full.jpg", ".fullborder.jpg");
-                        imageUrl = new URL(url);
-                        conn = (HttpURLConnection) imageUrl.openConnection(p);
-                        conn.setInstanceFollowRedirects(false);
-                        conn.connect();
-                    }
-
-                    // if file is not found and this is a JPG, give PNG a shot...
-                    if ((conn.getResponseCode() == HttpURLConnection.HTTP_NOT_FOUND) && (url.endsWith(".jpg"))) {
-                        fullborder = false;
-                        isJPG = false;
-                        conn.disconnect();
-                        if(url.contains("/images/")){
-                            isLogged = true;
-                            System.out.println("File not found: .." + url.substring(url.lastIndexOf("/images/")+1));
-                        }
-                        url = url.substring(0,url.length() - 4) + ".png";
-                        imageUrl = new URL(TextUtil.fastReplace(url, ".fullborder.", ".full."));
-                        conn = (HttpURLConnection) imageUrl.openConnection(p);
-                        conn.setInstanceFollowRedirects(false);
-                        conn.connect();
-                    }
-
-                    if (fullborder) {
-                        fileDest = new File(TextUtil.fastReplace(decodedKey, ".full.jpg", ".fullborder.jpg"));
-                    }
-
-                    switch (conn.getResponseCode()) {
-                    case HttpURLConnection.HTTP_OK:
-                        fos = new FileOutputStream(fileDest);
-                        InputStream inputStream = conn.getInputStream();
-                        while ((bufferLength = inputStream.read(buffer)) > 0) {
-                            fos.write(buffer, 0, bufferLength);
-                        }
-                        cardSkipped = false;
-                        break;
-                    case HttpURLConnection.HTTP_NOT_FOUND:
-                        conn.disconnect();
-                        if(url.contains("/images/") && !isJPG && !isLogged)
-                            System.out.println("File not found: .." + url.substring(url.lastIndexOf("/images/")+1));
-                        break;
-                    default:
-                        conn.disconnect();
-                        System.out.println("  Connection failed for url: " + url);
-                        break;
-                    }
-                } else {
-                    System.out.println("  Can't create folder: " + base.getAbsolutePath());
+            engine.submit(() -> {
+                if (cancel) {
+                    engine.cancel();
+                    return;
                 }
-            }
-            catch (final ConnectException ce) {
-                System.out.println("  Connection refused for url: " + url);
-            }
-            catch (final MalformedURLException mURLe) {
-                System.out.println("  Error - possibly missing URL for: " + fileDest.getName());
-            }
-            catch (final FileNotFoundException fnfe) {
-                String formatStr = "  Error - the LQ picture %s could not be found on the server. [%s] - %s";
-                System.out.printf((formatStr) + "%n", fileDest.getName(), url, fnfe.getMessage());
-            }
-            catch (final Exception ex) {
-                Log.error("LQ Pictures", "Error downloading pictures", ex);
-            }
-            finally {
-                if (fos != null) {
-                    try {
-                        fos.close();
-                    }
-                    catch (IOException e) {
-                        System.out.println("  Error closing output stream");
-                    }
+                boolean cardSkipped = true; //assume skipped unless saved successfully
+                try {
+                    cardSkipped = !downloadFile(engine, kv.getKey(), kv.getValue(), count.get() + 1, totalCount);
+                } catch (final InterruptedException e) {
+                    engine.cancel();
+                } catch (final Exception ex) {
+                    Log.error("LQ Pictures", "Error downloading pictures", ex);
                 }
-            }
 
-            update(count);
-            if (cardSkipped) {
-                skipped++;
-            }
+                if (cardSkipped) {
+                    skipped.incrementAndGet();
+                }
+                update(count.incrementAndGet());
+            });
+        }
+        try {
+            engine.awaitCompletion();
+        } catch (final InterruptedException e) {
+            engine.cancel();
         }
 
         GuiBase.getInterface().preventSystemSleep(false);
     }
 
+    /**
+     * @return whether the file, or one of its alternatives, was saved
+     */
+    private static boolean downloadFile(final DownloadEngine engine, final String key, String url, final int count, final int totalCount)
+            throws InterruptedException {
+        String decodedKey = decodeURL(key);
+        File fileDest = new File(decodedKey);
+        final String filePath = fileDest.getPath();
+        final String subLastIndex = filePath.contains("pics") ? "\\pics\\" : filePath.contains("skins") ? "\\"+FileUtil.getParent(filePath)+"\\" : "\\db\\";
+
+        System.out.println(count + "/" + totalCount + " - .." + filePath.substring(filePath.lastIndexOf(subLastIndex)+1));
+
+        final File base = fileDest.getParentFile();
+        if (!FileUtil.ensureDirectoryExists(base)) { //ensure destination directory exists
+            System.out.println("  Can't create folder: " + base.getAbsolutePath());
+            return false;
+        }
+
+        // don't allow redirections here -- they indicate 'file not found' on the server
+        // only allow redirections to consume Scryfall API
+        // the engine spaces out the requests to the API
+        final boolean followRedirects = url.contains(SCRYFALL_API_HOST);
+        DownloadEngine.Result result = engine.download(url, fileDest, followRedirects);
+
+        //if .full file is not found try fullborder
+        if (result == DownloadEngine.Result.NOT_FOUND && url.contains(".full.jpg")) {
+            url = TextUtil.fastReplace(url, ".full.jpg", ".fullborder.jpg");
+            result = engine.download(url, new File(TextUtil.fastReplace(decodedKey, ".full.jpg", ".fullborder.jpg")), false);
+        }
+
+        // if file is not found and this is a JPG, give PNG a shot...
+        if (result == DownloadEngine.Result.NOT_FOUND && url.endsWith(".jpg")) {
+            if (url.contains("/images/")) {
+                System.out.println("File not found: .." + url.substring(url.lastIndexOf("/images/")+1));
+            }
+            url = url.substring(0,url.length() - 4) + ".png";
+            result = engine.download(TextUtil.fastReplace(url, ".fullborder.", ".full."), fileDest, false);
+            if (result == DownloadEngine.Result.NOT_FOUND && url.contains("/images/")) {
+                System.out.println("File not found: .." + url.substring(url.lastIndexOf("/images/")+1));
+            }
+        }
+        return result == DownloadEngine.Result.DOWNLOADED;
+    }
+
     @SuppressWarnings("deprecation")
     private static String decodeURL(String key) {
         /*
@@ -22,6 +22,7 @@ import forge.gui.GuiBase;
 import forge.gui.util.SOptionPane;
 import forge.localinstance.properties.ForgePreferences;
 import forge.model.FModel;
+import forge.util.Diagnostics;
 import forge.util.Localizer;
 import io.sentry.Sentry;
 
@@ -159,6 +160,7 @@ public class BugReporter {
 
     public static void sendSentry() {
         try {
+            Diagnostics.flush();
             if (exception != null) {
                 Sentry.captureException(exception);
             } else if (message !=null) {
@@ -0,0 +1,22 @@
+package forge.gui.error;
+
+import java.util.Map;
+
+import forge.util.Diagnostics;
+import io.sentry.Breadcrumb;
+import io.sentry.Sentry;
+
+/**
+ * Hands the recent game diagnostics to Sentry as breadcrumbs when a bug report is sent.
+ */
+public class SentryDiagnosticsSink implements Diagnostics.Sink {
+    // one in four calls, so the 64 recorded breadcrumbs reach further back than the last few checks
+    public static final int SAMPLE_INTERVAL = 4;
+
+    @Override
+    public void breadcrumb(final String message, final Map<String, String> data) {
+        Breadcrumb bread = new Breadcrumb(message);
+        data.forEach(bread::setData);
+        Sentry.addBreadcrumb(bread);
+    }
+}
@@ -300,6 +300,8 @@ public final class ForgeConstants {
     public static final String CACHE_PLANECHASE_PICS_DIR     = PICS_DIR + "planechase" + PATH_SEPARATOR;
     public static final String CACHE_ACHIEVEMENTS_DIR        = PICS_DIR + "achievements" + PATH_SEPARATOR;
     public static final String QUEST_CARD_PRICE_FILE         = DB_DIR + "all-prices.txt";
+    public static final String DECK_INDEX_FILE               = DB_DIR + "deck-index.txt";
+    public static final String DOWNLOAD_JOURNAL_FILE         = CACHE_DIR + "download-journal.txt";
 
     public static final String[] PROFILE_DIRS = {
             USER_DIR,
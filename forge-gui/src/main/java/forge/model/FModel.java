@@ -27,7 +27,9 @@ import forge.card.CardRulesPredicates;
 import forge.card.CardType;
 import forge.deck.CardArchetypeLDAGenerator;
 import forge.deck.CardRelationMatrixGenerator;
+import forge.deck.DeckMetadataIndex;
 import forge.deck.io.DeckPreferences;
+import forge.deck.io.DeckStorage;
 import forge.game.GameFormat;
 import forge.game.GameType;
 import forge.game.card.CardUtil;
@@ -262,6 +264,8 @@ public final class FModel {
 
         CardPreferences.load();
         DeckPreferences.load();
+        // unchanged deck files are only read once a deck is used
+        DeckStorage.setMetadataCache(DeckMetadataIndex.instance()::getMetadata);
         ItemManagerConfig.load();
 
         // Preload AI profiles
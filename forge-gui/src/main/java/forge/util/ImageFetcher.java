@@ -363,6 +363,7 @@ public abstract class ImageFetcher {
 
         final Runnable notifyObservers = () -> {
             FThreads.assertExecutedByEdt(true);
+            ImageKeys.refreshImageDirectory(new File(destPath).getParentFile());
 
             for (Callback o : currentFetches.get(destPath)) {
                 if (o != null)